@@ -0,0 +1,90 @@
+package ban.koreamarkers.auth;
+
+import ban.koreamarkers.auth.cache.VerifiedTokenCache;
+import ban.koreamarkers.auth.key.SigningKeyRing;
+import ban.koreamarkers.auth.metrics.AuthMetrics;
+import ban.koreamarkers.auth.refresh.AccessTokenRenewer;
+import ban.koreamarkers.auth.refresh.InMemoryRefreshTokenStore;
+import ban.koreamarkers.auth.refresh.RefreshTokenService;
+import ban.koreamarkers.auth.revocation.AccessTokenDenylist;
+import ban.koreamarkers.auth.revocation.LoopbackRevocationBroadcaster;
+import ban.koreamarkers.auth.util.JwtTokenUtil;
+import ban.koreamarkers.auth.util.TokenCookies;
+import ban.koreamarkers.auth.util.VerifiedToken;
+import ban.koreamarkers.domain.User;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 벤치마크 공용 픽스처
+ * - 스프링 컨텍스트 없이 application.yml 기본값과 동일한 설정으로 컴포넌트 생성
+ */
+public final class AuthBenchmarkFixtures {
+
+    public static final String SECRET = "mySecretKeyForJWTTokenGenerationAndValidationMustBeAtLeast256Bits";
+
+    private AuthBenchmarkFixtures() {
+    }
+
+    public static User user() {
+        return User.builder()
+                .username("ban")
+                .password("ENC(1q2w3e)")
+                .email("bbgiloo@gmail.com")
+                .name("반길현")
+                .build();
+    }
+
+    // 메모리에 생성한 ES256 키 사용 (키 디렉터리 없음)
+    public static SigningKeyRing signingKeyRing() {
+        SigningKeyRing signingKeyRing = new SigningKeyRing();
+        ReflectionTestUtils.setField(signingKeyRing, "algorithm", "ES256");
+        ReflectionTestUtils.setField(signingKeyRing, "directory", "");
+        ReflectionTestUtils.invokeMethod(signingKeyRing, "init");
+        return signingKeyRing;
+    }
+
+    public static JwtTokenUtil jwtTokenUtil() {
+        JwtTokenUtil jwtTokenUtil = new JwtTokenUtil(AuthMetrics.noop(), signingKeyRing());
+        ReflectionTestUtils.setField(jwtTokenUtil, "secret", SECRET);
+        ReflectionTestUtils.setField(jwtTokenUtil, "acceptLegacyHmac", true);
+        ReflectionTestUtils.setField(jwtTokenUtil, "accessTokenExpiration", 900000L);
+        ReflectionTestUtils.setField(jwtTokenUtil, "refreshTokenExpiration", 604800000L);
+        ReflectionTestUtils.setField(jwtTokenUtil, "accessTokenJitter", 60000L);
+        ReflectionTestUtils.setField(jwtTokenUtil, "compactWriter", true);
+        ReflectionTestUtils.invokeMethod(jwtTokenUtil, "init");
+        return jwtTokenUtil;
+    }
+
+    public static VerifiedTokenCache verifiedTokenCache(JwtTokenUtil jwtTokenUtil, boolean enabled) {
+        VerifiedTokenCache cache = new VerifiedTokenCache(jwtTokenUtil, AuthMetrics.noop());
+        ReflectionTestUtils.setField(cache, "enabled", enabled);
+        ReflectionTestUtils.setField(cache, "maximumSize", 10000L);
+        ReflectionTestUtils.invokeMethod(cache, "init");
+        return cache;
+    }
+
+    // 다른 토큰 jti가 revokedTokens개 들어있는 폐기 목록 (빈 목록 fast path를 피하기 위함)
+    public static AccessTokenDenylist accessTokenDenylist(int revokedTokens) {
+        AccessTokenDenylist denylist = new AccessTokenDenylist(new LoopbackRevocationBroadcaster(), AuthMetrics.noop());
+        ReflectionTestUtils.invokeMethod(denylist, "init");
+        Instant expiration = Instant.now().plus(Duration.ofHours(1));
+        for (int i = 0; i < revokedTokens; i++) {
+            denylist.revoke(new VerifiedToken(JwtTokenUtil.newTokenId(), "user" + i, VerifiedToken.ACCESS,
+                    expiration, Instant.now(), null, null, null));
+        }
+        return denylist;
+    }
+
+    // 메모리 RefreshToken 저장소 기반 슬라이딩 갱신 (window 2분)
+    public static AccessTokenRenewer accessTokenRenewer(JwtTokenUtil jwtTokenUtil, VerifiedTokenCache cache) {
+        AccessTokenRenewer renewer = new AccessTokenRenewer(jwtTokenUtil, cache,
+                new RefreshTokenService(jwtTokenUtil, new InMemoryRefreshTokenStore(60000L)),
+                new TokenCookies(jwtTokenUtil), AuthMetrics.noop());
+        ReflectionTestUtils.setField(renewer, "enabled", true);
+        ReflectionTestUtils.setField(renewer, "windowMillis", 120000L);
+        return renewer;
+    }
+}
@@ -0,0 +1,62 @@
+package ban.koreamarkers.auth.crypto;
+
+import ban.koreamarkers.auth.metrics.AuthMetrics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 폼 로그인 비밀번호 검증 비용
+ * - pooled=true 이면 BoundedPasswordEncoder(전용 해싱 풀) 경유 오버헤드 포함
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PasswordEncoderBenchmark {
+
+    @Param({"bcrypt-10", "bcrypt-12", "argon2"})
+    String encoder;
+
+    @Param({"false", "true"})
+    boolean pooled;
+
+    PasswordEncoder passwordEncoder;
+    String encodedPassword;
+
+    @Setup
+    public void setUp() {
+        PasswordEncoder delegate = switch (encoder) {
+            case "bcrypt-10" -> new BCryptPasswordEncoder(10);
+            case "bcrypt-12" -> new BCryptPasswordEncoder(12);
+            case "argon2" -> new Argon2PasswordEncoder(16, 32, 1, 16384, 2);
+            default -> throw new IllegalArgumentException(encoder);
+        };
+        passwordEncoder = pooled
+                ? new BoundedPasswordEncoder(delegate, Runtime.getRuntime().availableProcessors(), 64, AuthMetrics.noop())
+                : delegate;
+        encodedPassword = passwordEncoder.encode("1q2w3e");
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return passwordEncoder.matches("1q2w3e", encodedPassword);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        if (passwordEncoder instanceof BoundedPasswordEncoder bounded) {
+            bounded.destroy();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package ban.koreamarkers.auth.filter;
+
+import ban.koreamarkers.auth.AuthBenchmarkFixtures;
+import ban.koreamarkers.auth.cache.VerifiedTokenCache;
+import ban.koreamarkers.auth.metrics.AuthMetrics;
+import ban.koreamarkers.auth.revocation.TokenVersionRegistry;
+import ban.koreamarkers.auth.util.JwtTokenUtil;
+import ban.koreamarkers.auth.util.RequestTokens;
+import ban.koreamarkers.domain.User;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.Cookie;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtAuthenticationFilter 전체 통과 비용
+ * - tokenSource: header(Authorization), cookie(accessToken), none(토큰 없음)
+ * - tokenCache: 검증 토큰 캐시 사용 여부
+ * - statelessPrincipal: 클레임으로 principal 복원 여부 (false면 UserDetailsService 호출, DB 대신 고정 사용자 반환)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final FilterChain NOOP_CHAIN = (request, response) -> {
+    };
+
+    @Param({"header", "cookie", "none"})
+    String tokenSource;
+
+    @Param({"true", "false"})
+    boolean tokenCache;
+
+    @Param({"true", "false"})
+    boolean statelessPrincipal;
+
+    JwtAuthenticationFilter filter;
+    MockHttpServletRequest request;
+    MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        JwtTokenUtil jwtTokenUtil = AuthBenchmarkFixtures.jwtTokenUtil();
+        User user = AuthBenchmarkFixtures.user();
+        String accessToken = jwtTokenUtil.generateAccessToken(user);
+
+        VerifiedTokenCache verifiedTokenCache = AuthBenchmarkFixtures.verifiedTokenCache(jwtTokenUtil, tokenCache);
+        filter = new JwtAuthenticationFilter(
+                verifiedTokenCache,
+                new TokenVersionRegistry(),
+                AuthBenchmarkFixtures.accessTokenDenylist(10_000),
+                AuthMetrics.noop(),
+                AuthBenchmarkFixtures.accessTokenRenewer(jwtTokenUtil, verifiedTokenCache),
+                username -> user);
+        ReflectionTestUtils.setField(filter, "statelessPrincipal", statelessPrincipal);
+
+        request = new MockHttpServletRequest("GET", "/");
+        request.setCookies(new Cookie("JSESSIONID", "node0abc"), new Cookie("theme", "dark"));
+        if ("header".equals(tokenSource)) {
+            request.addHeader("Authorization", "Bearer " + accessToken);
+        } else if ("cookie".equals(tokenSource)) {
+            request.setCookies(new Cookie("JSESSIONID", "node0abc"), new Cookie("theme", "dark"),
+                    new Cookie("accessToken", accessToken));
+        }
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public Object doFilter() throws Exception {
+        filter.doFilter(request, response, NOOP_CHAIN);
+        Object authentication = SecurityContextHolder.getContext().getAuthentication();
+        // 다음 호출에서도 토큰 추출/인증 과정을 다시 타도록 초기화
+        SecurityContextHolder.clearContext();
+        request.removeAttribute(RequestTokens.ATTRIBUTE);
+        return authentication;
+    }
+}
@@ -0,0 +1,51 @@
+package ban.koreamarkers.auth.revocation;
+
+import ban.koreamarkers.auth.AuthBenchmarkFixtures;
+import ban.koreamarkers.auth.util.JwtTokenUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 필터 경로의 폐기 목록 조회 비용 (목표: 1µs 미만)
+ * - revokedTokens: 목록에 들어있는 jti 수
+ * - miss: 폐기되지 않은 토큰 (대부분의 요청), hit: 폐기된 토큰
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AccessTokenDenylistBenchmark {
+
+    @Param({"0", "10000", "1000000"})
+    int revokedTokens;
+
+    AccessTokenDenylist denylist;
+    String activeTokenId;
+    String revokedTokenId;
+
+    @Setup
+    public void setUp() {
+        denylist = AuthBenchmarkFixtures.accessTokenDenylist(revokedTokens);
+        activeTokenId = JwtTokenUtil.newTokenId();
+        revokedTokenId = JwtTokenUtil.newTokenId();
+        denylist.apply(new TokenRevocation(revokedTokenId, Instant.now().plusSeconds(3600)));
+    }
+
+    @Benchmark
+    public boolean miss() {
+        return denylist.isRevoked(activeTokenId);
+    }
+
+    @Benchmark
+    public boolean hit() {
+        return denylist.isRevoked(revokedTokenId);
+    }
+}
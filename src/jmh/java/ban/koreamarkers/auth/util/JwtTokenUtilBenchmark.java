@@ -0,0 +1,55 @@
+package ban.koreamarkers.auth.util;
+
+import ban.koreamarkers.auth.AuthBenchmarkFixtures;
+import ban.koreamarkers.domain.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenUtilBenchmark {
+
+    JwtTokenUtil jwtTokenUtil;
+    User user;
+    String accessToken;
+
+    @Setup
+    public void setUp() {
+        jwtTokenUtil = AuthBenchmarkFixtures.jwtTokenUtil();
+        user = AuthBenchmarkFixtures.user();
+        accessToken = jwtTokenUtil.generateAccessToken(user);
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return jwtTokenUtil.generateAccessToken(user);
+    }
+
+    @Benchmark
+    public VerifiedToken verify() {
+        return jwtTokenUtil.verify(accessToken);
+    }
+
+    @Benchmark
+    public String getUsernameFromToken() {
+        return jwtTokenUtil.getUsernameFromToken(accessToken);
+    }
+
+    @Benchmark
+    public Boolean validateToken() {
+        return jwtTokenUtil.validateToken(accessToken, user);
+    }
+
+    @Benchmark
+    public Boolean isAccessToken() {
+        return jwtTokenUtil.isAccessToken(accessToken);
+    }
+}
@@ -0,0 +1,53 @@
+package ban.koreamarkers.auth.util;
+
+import ban.koreamarkers.auth.AuthBenchmarkFixtures;
+import ban.koreamarkers.domain.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 발급 경로 비교 (로그인 성공/토큰 갱신 시 호출)
+ * - issuer: builder(JJWT 빌더 + 클레임 Map + Date), compact(CompactTokenWriter)
+ * - 할당량은 gc 프로파일러의 gc.alloc.rate.norm (B/op) 으로 비교
+ * - 서명 자체(ECDSA P-256) 비용은 두 경로가 같으므로 차이는 조립/인코딩 비용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TokenIssuanceBenchmark {
+
+    @Param({"builder", "compact"})
+    String issuer;
+
+    JwtTokenUtil jwtTokenUtil;
+    User user;
+    Instant refreshExpiresAt;
+
+    @Setup
+    public void setUp() {
+        jwtTokenUtil = AuthBenchmarkFixtures.jwtTokenUtil();
+        ReflectionTestUtils.setField(jwtTokenUtil, "compactWriter", "compact".equals(issuer));
+        user = AuthBenchmarkFixtures.user();
+        refreshExpiresAt = Instant.now().plusSeconds(604800);
+    }
+
+    @Benchmark
+    public String accessToken() {
+        return jwtTokenUtil.generateAccessToken(user);
+    }
+
+    @Benchmark
+    public String refreshToken() {
+        return jwtTokenUtil.generateRefreshToken(user, "jti", "family", refreshExpiresAt);
+    }
+}
@@ -0,0 +1,316 @@
+package ban.koreamarkers.loadtest;
+
+import ban.koreamarkers.auth.refresh.RefreshTokenService;
+import ban.koreamarkers.auth.util.JwtTokenUtil;
+import ban.koreamarkers.controller.dto.SignupRequest;
+import ban.koreamarkers.domain.service.UserService;
+import ban.koreamarkers.loadtest.StageClock.Stage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.File;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로그인/토큰 갱신 E2E 부하 테스트
+ * - 임베디드 H2로 애플리케이션 전체를 기동하고 UserService로 N명 시드
+ * - 시나리오별 처리량, p50/p99/p999 지연, 요청당 단계별(filter, db, hashing, view) 평균 시간 출력
+ * - 결과 JSON: build/reports/loadtest/results-{platform|virtual}.json
+ *
+ * 실행: ./gradlew loadTest -Dloadtest.users=1000 -Dloadtest.concurrency=64 -Dloadtest.requests=5000
+ * 시나리오 선택: -Dloadtest.scenarios=home,refresh (기본값: form-login,home,refresh,signup)
+ * 스레드 모드 비교: -PjavaVersion=21 -Dloadtest.virtual-threads=true|false -Dloadtest.concurrency=1000 -Dloadtest.db-latency-ms=5
+ *   -> build/reports/loadtest/results-virtual.json, results-platform.json
+ * principal 비교: -Dloadtest.stateless-principal=true|false (-Dloadtest.user-cache=false 면 상태 저장 모드가 요청마다 DB 조회)
+ *   -> build/reports/loadtest/results-platform-stateless.json, results-platform.json (홈 시나리오 req/s 비교)
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("loadtest")
+@Import(StageTimingConfig.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class AuthLoadTest {
+
+    private static final String PASSWORD = "1q2w3e4r";
+
+    private final int users = Integer.getInteger("loadtest.users", 200);
+    private final int concurrency = Integer.getInteger("loadtest.concurrency", 32);
+    private final int requests = Integer.getInteger("loadtest.requests", 2000);
+    private final int warmup = Integer.getInteger("loadtest.warmup", 200);
+    private final Set<String> scenarios = Set.of(
+            System.getProperty("loadtest.scenarios", "form-login,home,refresh,signup").split(","));
+
+    @LocalServerPort
+    int port;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    boolean virtualThreads;
+
+    @Value("${jwt.stateless-principal:false}")
+    boolean statelessPrincipal;
+
+    @Value("${user-cache.enabled:true}")
+    boolean userCache;
+
+    @Autowired
+    UserService userService;
+
+    @Autowired
+    UserDetailsService userDetailsService;
+
+    @Autowired
+    JwtTokenUtil jwtTokenUtil;
+
+    @Autowired
+    RefreshTokenService refreshTokenService;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .followRedirects(HttpClient.Redirect.NEVER)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private final AtomicInteger signupSequence = new AtomicInteger();
+    private final AtomicInteger refreshSequence = new AtomicInteger();
+
+    private String[] accessTokens;
+    private String[] refreshTokens;
+
+    @BeforeAll
+    void seedUsers() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < users; i++) {
+                int index = i;
+                futures.add(executor.submit(() -> userService.signup(
+                        new SignupRequest(username(index), PASSWORD, username(index) + "@loadtest.local", "부하" + index))));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        accessTokens = new String[users];
+        for (int i = 0; i < users; i++) {
+            UserDetails userDetails = userDetailsService.loadUserByUsername(username(i));
+            accessTokens[i] = jwtTokenUtil.generateAccessToken(userDetails);
+        }
+
+        // RefreshToken은 사용 시 회전되므로 요청마다 별도 체인 (재사용 감지 회피)
+        refreshTokens = new String[warmup + requests];
+        for (int i = 0; i < refreshTokens.length; i++) {
+            refreshTokens[i] = refreshTokenService.issue(userDetailsService.loadUserByUsername(username(i % users)));
+        }
+    }
+
+    @Test
+    @DisplayName("부하 테스트: 폼 로그인, 홈, 토큰 갱신, 회원가입")
+    void runScenarios() throws Exception {
+        List<ScenarioResult> results = new ArrayList<>();
+
+        if (scenarios.contains("form-login")) {
+            results.add(run("form-login",
+                    i -> post("/login", form("username", username(i % users), "password", PASSWORD)),
+                    response -> response.statusCode() == 302
+                            && response.headers().firstValue("Location").map(l -> !l.contains("error")).orElse(false)));
+        }
+
+        if (scenarios.contains("home")) {
+            results.add(run("home",
+                    i -> HttpRequest.newBuilder(uri("/"))
+                            .header("Cookie", "accessToken=" + accessTokens[i % users])
+                            .GET()
+                            .build(),
+                    response -> response.statusCode() == 200));
+        }
+
+        if (scenarios.contains("refresh")) {
+            results.add(run("refresh",
+                    i -> HttpRequest.newBuilder(uri("/api/auth/refresh"))
+                            .header("Cookie", "refreshToken=" + refreshTokens[refreshSequence.getAndIncrement()])
+                            .POST(HttpRequest.BodyPublishers.noBody())
+                            .build(),
+                    response -> response.statusCode() == 200));
+        }
+
+        if (scenarios.contains("signup")) {
+            results.add(run("signup",
+                    i -> {
+                        String username = "signup" + signupSequence.incrementAndGet();
+                        return post("/signup", form("username", username, "password", PASSWORD,
+                                "email", username + "@loadtest.local", "name", "신규"));
+                    },
+                    response -> response.statusCode() == 302
+                            && response.headers().firstValue("Location").map(l -> l.contains("/login")).orElse(false)));
+        }
+
+        report(results);
+        assertThat(results).isNotEmpty().allSatisfy(result -> assertThat(result.requests()).isEqualTo(requests));
+    }
+
+    private ScenarioResult run(String name, IntFunction<HttpRequest> requestFactory,
+                               Predicate<HttpResponse<?>> success) throws Exception {
+        // 워밍업 (JIT, 커넥션 풀, 캐시)
+        execute(warmup, requestFactory, success);
+        StageClock.drainMeanMillis();
+
+        long start = System.nanoTime();
+        Execution execution = execute(requests, requestFactory, success);
+        double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        long[] latencies = execution.latencies();
+        Arrays.sort(latencies);
+        Map<String, Double> stages = new LinkedHashMap<>();
+        StageClock.drainMeanMillis().forEach((stage, millis) -> stages.put(stage.name().toLowerCase(), millis));
+
+        return new ScenarioResult(
+                name,
+                requests,
+                execution.errors(),
+                requests / elapsedSeconds,
+                percentileMillis(latencies, 0.50),
+                percentileMillis(latencies, 0.99),
+                percentileMillis(latencies, 0.999),
+                stages
+        );
+    }
+
+    private Execution execute(int count, IntFunction<HttpRequest> requestFactory,
+                              Predicate<HttpResponse<?>> success) throws InterruptedException {
+        long[] latencies = new long[count];
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        for (int worker = 0; worker < concurrency; worker++) {
+            executor.execute(() -> {
+                int i;
+                while ((i = next.getAndIncrement()) < count) {
+                    HttpRequest request = requestFactory.apply(i);
+                    long start = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                        if (!success.test(response)) {
+                            errors.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        errors.incrementAndGet();
+                    }
+                    latencies[i] = System.nanoTime() - start;
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.HOURS);
+        return new Execution(latencies, errors.get());
+    }
+
+    private void report(List<ScenarioResult> results) throws Exception {
+        String threadMode = virtualThreads ? "virtual" : "platform";
+        System.out.printf("%n[loadtest] threads=%s statelessPrincipal=%s userCache=%s users=%d concurrency=%d requests=%d%n",
+                threadMode, statelessPrincipal, userCache, users, concurrency, requests);
+        System.out.printf("%-12s %10s %8s %9s %9s %9s | %9s %9s %9s %9s%n",
+                "scenario", "req/s", "errors", "p50(ms)", "p99(ms)", "p999(ms)",
+                "filter", "db", "hashing", "view");
+        for (ScenarioResult result : results) {
+            System.out.printf("%-12s %10.1f %8d %9.2f %9.2f %9.2f | %9.3f %9.3f %9.3f %9.3f%n",
+                    result.scenario(), result.throughput(), result.errors(),
+                    result.p50Millis(), result.p99Millis(), result.p999Millis(),
+                    result.stageMeanMillis().get(stageKey(Stage.FILTER)),
+                    result.stageMeanMillis().get(stageKey(Stage.DB)),
+                    result.stageMeanMillis().get(stageKey(Stage.HASHING)),
+                    result.stageMeanMillis().get(stageKey(Stage.VIEW)));
+        }
+
+        File output = new File("build/reports/loadtest/results-" + threadMode
+                + (statelessPrincipal ? "-stateless" : "") + (userCache ? "" : "-nocache") + ".json");
+        output.getParentFile().mkdirs();
+        new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(output, Map.of(
+                "threads", threadMode,
+                "statelessPrincipal", statelessPrincipal,
+                "userCache", userCache,
+                "dbLatencyMillis", Long.getLong("loadtest.db-latency-ms", 0L),
+                "users", users,
+                "concurrency", concurrency,
+                "requests", requests,
+                "scenarios", results
+        ));
+    }
+
+    private static String stageKey(Stage stage) {
+        return stage.name().toLowerCase();
+    }
+
+    private static double percentileMillis(long[] sorted, double quantile) {
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))] / 1_000_000.0;
+    }
+
+    private HttpRequest post(String path, String formBody) {
+        return HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(formBody))
+                .build();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static String form(String... keyValues) {
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < keyValues.length; i += 2) {
+            if (!body.isEmpty()) {
+                body.append('&');
+            }
+            body.append(keyValues[i]).append('=').append(URLEncoder.encode(keyValues[i + 1], StandardCharsets.UTF_8));
+        }
+        return body.toString();
+    }
+
+    private static String username(int index) {
+        return "user" + index;
+    }
+
+    private record Execution(long[] latencies, int errors) {
+    }
+
+    record ScenarioResult(String scenario, int requests, int errors, double throughput,
+                          double p50Millis, double p99Millis, double p999Millis,
+                          Map<String, Double> stageMeanMillis) {
+    }
+}
@@ -0,0 +1,89 @@
+package ban.koreamarkers.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 요청 스레드별 단계(stage) 소요 시간 집계
+ * - DB/HASHING/VIEW는 각 래퍼가 직접 기록, FILTER는 전체 시간에서 나머지를 뺀 배타 시간
+ * - 요청 스레드가 아닌 곳(비동기 재해싱 등)에서의 기록은 무시
+ */
+public final class StageClock {
+
+    public enum Stage {
+        FILTER, DB, HASHING, VIEW
+    }
+
+    private static final ThreadLocal<Request> CURRENT = new ThreadLocal<>();
+    private static final Map<Stage, LongAdder> TOTALS = new EnumMap<>(Stage.class);
+    private static final LongAdder REQUESTS = new LongAdder();
+
+    static {
+        for (Stage stage : Stage.values()) {
+            TOTALS.put(stage, new LongAdder());
+        }
+    }
+
+    private StageClock() {
+    }
+
+    static void begin() {
+        CURRENT.set(new Request(System.nanoTime()));
+    }
+
+    static void add(Stage stage, long nanos) {
+        Request request = CURRENT.get();
+        if (request != null) {
+            request.nanos[stage.ordinal()] += nanos;
+        }
+    }
+
+    // 필터 체인을 통과해서 DispatcherServlet 핸들러에 도달한 시점
+    static void markDispatched() {
+        Request request = CURRENT.get();
+        if (request != null && request.filterNanos < 0) {
+            request.filterNanos = System.nanoTime() - request.start
+                    - request.nanos[Stage.DB.ordinal()] - request.nanos[Stage.HASHING.ordinal()];
+        }
+    }
+
+    static void end() {
+        Request request = CURRENT.get();
+        CURRENT.remove();
+        if (request == null) {
+            return;
+        }
+        if (request.filterNanos < 0) {
+            // 폼 로그인처럼 필터 체인에서 응답이 끝난 요청
+            request.filterNanos = System.nanoTime() - request.start
+                    - request.nanos[Stage.DB.ordinal()] - request.nanos[Stage.HASHING.ordinal()]
+                    - request.nanos[Stage.VIEW.ordinal()];
+        }
+        request.nanos[Stage.FILTER.ordinal()] = request.filterNanos;
+        for (Stage stage : Stage.values()) {
+            TOTALS.get(stage).add(request.nanos[stage.ordinal()]);
+        }
+        REQUESTS.increment();
+    }
+
+    // 요청당 평균 단계별 시간(ms)을 반환하고 누적값 초기화
+    static Map<Stage, Double> drainMeanMillis() {
+        long requests = Math.max(1L, REQUESTS.sumThenReset());
+        Map<Stage, Double> means = new EnumMap<>(Stage.class);
+        for (Stage stage : Stage.values()) {
+            means.put(stage, TOTALS.get(stage).sumThenReset() / 1_000_000.0 / requests);
+        }
+        return means;
+    }
+
+    private static final class Request {
+        final long start;
+        final long[] nanos = new long[Stage.values().length];
+        long filterNanos = -1;
+
+        Request(long start) {
+            this.start = start;
+        }
+    }
+}
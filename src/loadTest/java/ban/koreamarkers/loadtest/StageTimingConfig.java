@@ -0,0 +1,132 @@
+package ban.koreamarkers.loadtest;
+
+import ban.koreamarkers.loadtest.StageClock.Stage;
+import jakarta.servlet.Filter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.Ordered;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+
+/**
+ * 부하 테스트용 단계별 계측
+ * - 최외곽 서블릿 필터: 요청 시작/종료
+ * - HandlerInterceptor: 필터 체인 통과 시점, postHandle ~ afterCompletion = 뷰 렌더링
+ * - DataSource/PasswordEncoder 래핑: DB, 해싱 시간
+ * - loadtest.db-latency-ms > 0 이면 쿼리마다 네트워크 왕복을 흉내 낸 블로킹 지연 추가 (스레드 모드 비교용)
+ */
+@TestConfiguration
+public class StageTimingConfig implements WebMvcConfigurer {
+
+    private static final String VIEW_START = StageTimingConfig.class.getName() + ".VIEW_START";
+    private static final long DB_LATENCY_MILLIS = Long.getLong("loadtest.db-latency-ms", 0L);
+
+    @Bean
+    public FilterRegistrationBean<Filter> stageTimingFilter() {
+        FilterRegistrationBean<Filter> registration = new FilterRegistrationBean<>((request, response, chain) -> {
+            StageClock.begin();
+            try {
+                chain.doFilter(request, response);
+            } finally {
+                StageClock.end();
+            }
+        });
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new HandlerInterceptor() {
+            @Override
+            public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                StageClock.markDispatched();
+                return true;
+            }
+
+            @Override
+            public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                   ModelAndView modelAndView) {
+                request.setAttribute(VIEW_START, System.nanoTime());
+            }
+
+            @Override
+            public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                        Exception ex) {
+                if (request.getAttribute(VIEW_START) instanceof Long start) {
+                    StageClock.add(Stage.VIEW, System.nanoTime() - start);
+                }
+            }
+        });
+    }
+
+    @Bean
+    public static BeanPostProcessor stageTimingBeanPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource) {
+                    return timed(DataSource.class, dataSource, Stage.DB);
+                }
+                if (bean instanceof PasswordEncoder passwordEncoder) {
+                    return timed(PasswordEncoder.class, passwordEncoder, Stage.HASHING);
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * 인터페이스 호출 시간을 stage로 기록하는 프록시
+     * - JDBC는 Connection/Statement까지 따라 들어가며 getConnection, execute*, commit, rollback을 DB 시간으로 기록
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T timed(Class<T> type, T target, Stage stage) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> {
+                    boolean measured = stage == Stage.HASHING || isJdbcCall(method);
+                    long start = System.nanoTime();
+                    if (DB_LATENCY_MILLIS > 0 && stage == Stage.DB && method.getName().startsWith("execute")) {
+                        Thread.sleep(DB_LATENCY_MILLIS);
+                    }
+                    Object result = invoke(target, method, args);
+                    if (measured) {
+                        StageClock.add(stage, System.nanoTime() - start);
+                    }
+                    Class<?> returnType = method.getReturnType();
+                    if (result != null && returnType.isInterface()
+                            && (Connection.class.isAssignableFrom(returnType) || Statement.class.isAssignableFrom(returnType))) {
+                        return timed((Class<Object>) returnType, result, stage);
+                    }
+                    return result;
+                });
+    }
+
+    private static boolean isJdbcCall(Method method) {
+        String name = method.getName();
+        return name.equals("getConnection") || name.startsWith("execute")
+                || name.equals("commit") || name.equals("rollback");
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package ban.koreamarkers.loadtest;
+
+import ban.koreamarkers.domain.User;
+import ban.koreamarkers.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ActiveProfilesResolver;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import javax.sql.DataSource;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntPredicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 사용자 조회 경로 DB 설정 비교 (UserRepository.findByUsername, findCredentialsByUsername, existsByEmail 처리량)
+ * - default: application.yml 그대로 (SQL 출력 켜짐, Hikari 기본 풀 크기)
+ * - prod: application-prod.yml (코어 수 기반 풀 크기, SQL 출력 끔, statement 캐시, Hibernate 배치)
+ * - 결과 JSON: build/reports/loadtest/user-lookup-{default|prod}.json
+ * - 기본은 임베디드 H2, MySQL prepared statement 캐시 효과는 MySQL 대상으로 실행해야 나타남
+ *   (ddl-auto=create-drop 이므로 전용 스키마 사용, 한글 이름을 넣으므로 utf8mb4로 생성)
+ * - MySQL URL의 쿼리 문자열은 무시하고 두 프로필 모두 튜닝 전 원래 쿼리(BASELINE_URL_QUERY)로 접속:
+ *   default는 드라이버 튜닝 없는 기준선, prod는 data-source-properties로만 차이가 남
+ *
+ * 실행: ./gradlew loadTest --tests '*UserLookupLoadTest' -Dloadtest.db-profile=default|prod
+ * MySQL: -Dloadtest.datasource.url=jdbc:mysql://localhost:3306/korea_markers_bench -Dloadtest.datasource.username=root
+ *        -Dloadtest.datasource.password=1234
+ */
+@SpringBootTest
+@ActiveProfiles(resolver = UserLookupLoadTest.DbProfiles.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class UserLookupLoadTest {
+
+    private static final String DB_PROFILE = System.getProperty("loadtest.db-profile", "default");
+    private static final String DATASOURCE_URL = System.getProperty("loadtest.datasource.url", "");
+
+    // rewriteBatchedStatements/useCursorFetch 등이 붙기 전 application.yml의 URL 쿼리
+    private static final String BASELINE_URL_QUERY = "characterEncoding=UTF-8&serverTimezone=UTC";
+
+    private final int users = Integer.getInteger("loadtest.users", 1000);
+    private final int concurrency = Integer.getInteger("loadtest.concurrency", 32);
+    private final int requests = Integer.getInteger("loadtest.requests", 20000);
+    private final int warmup = Integer.getInteger("loadtest.warmup", 2000);
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    DataSource dataSource;
+
+    @Value("${spring.jpa.properties.hibernate.show_sql:false}")
+    boolean showSql;
+
+    static class DbProfiles implements ActiveProfilesResolver {
+
+        // prod 설정 위에 loadtest(임베디드 DB, 시도 제한 해제 등)를 덮어씀
+        @Override
+        public String[] resolve(Class<?> testClass) {
+            return "prod".equals(DB_PROFILE) ? new String[]{"prod", "loadtest"} : new String[]{"loadtest"};
+        }
+    }
+
+    @DynamicPropertySource
+    static void databaseProperties(DynamicPropertyRegistry registry) {
+        if (!"prod".equals(DB_PROFILE)) {
+            // loadtest 프로필이 끄는 SQL 출력을 application.yml 기본값으로 되돌려 비교 기준으로 사용
+            registry.add("spring.jpa.properties.hibernate.show_sql", () -> "true");
+            registry.add("spring.jpa.properties.hibernate.format_sql", () -> "true");
+        }
+        if (DATASOURCE_URL.startsWith("jdbc:mysql:")) {
+            registry.add("spring.datasource.url", () -> baselineUrl(DATASOURCE_URL));
+            registry.add("spring.datasource.username", () -> System.getProperty("loadtest.datasource.username", "root"));
+            registry.add("spring.datasource.password", () -> System.getProperty("loadtest.datasource.password", ""));
+            registry.add("spring.jpa.database", () -> "mysql");
+            registry.add("spring.jpa.database-platform", () -> "org.hibernate.dialect.MySQLDialect");
+        }
+    }
+
+    @BeforeAll
+    void seedUsers() {
+        List<User> batch = new ArrayList<>();
+        for (int i = 0; i < users; i++) {
+            batch.add(User.builder()
+                    .username(username(i))
+                    .password("{noop}lookup")
+                    .email(email(i))
+                    .name("조회" + i)
+                    .build());
+            if (batch.size() == 500) {
+                userRepository.saveAll(batch);
+                batch.clear();
+            }
+        }
+        userRepository.saveAll(batch);
+    }
+
+    @Test
+    @DisplayName("부하 테스트: findByUsername, findCredentialsByUsername, existsByEmail 처리량")
+    void runLookups() throws Exception {
+        List<LookupResult> results = new ArrayList<>();
+
+        results.add(run("find-by-username",
+                i -> userRepository.findByUsername(username(i % users)).isPresent()));
+
+        // 인증 경로가 쓰는 프로젝션 조회 (엔티티 로딩 없음)
+        results.add(run("find-credentials",
+                i -> userRepository.findCredentialsByUsername(username(i % users)).isPresent()));
+
+        // 가입 폼 중복 확인처럼 절반은 없는 이메일
+        results.add(run("exists-by-email",
+                i -> userRepository.existsByEmail(i % 2 == 0 ? email(i % users) : "absent" + i + "@loadtest.local")
+                        == (i % 2 == 0)));
+
+        report(results);
+        assertThat(results).allSatisfy(result -> assertThat(result.errors()).isZero());
+    }
+
+    private LookupResult run(String name, IntPredicate lookup) throws InterruptedException {
+        execute(warmup, lookup);
+
+        long start = System.nanoTime();
+        Execution execution = execute(requests, lookup);
+        double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        long[] latencies = execution.latencies();
+        Arrays.sort(latencies);
+        return new LookupResult(name, requests, execution.errors(), requests / elapsedSeconds,
+                percentileMillis(latencies, 0.50), percentileMillis(latencies, 0.99));
+    }
+
+    private Execution execute(int count, IntPredicate lookup) throws InterruptedException {
+        long[] latencies = new long[count];
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+        int offset = ThreadLocalRandom.current().nextInt(users);
+
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        for (int worker = 0; worker < concurrency; worker++) {
+            executor.execute(() -> {
+                int i;
+                while ((i = next.getAndIncrement()) < count) {
+                    long start = System.nanoTime();
+                    try {
+                        if (!lookup.test(i + offset)) {
+                            errors.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        errors.incrementAndGet();
+                    }
+                    latencies[i] = System.nanoTime() - start;
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.HOURS);
+        return new Execution(latencies, errors.get());
+    }
+
+    private void report(List<LookupResult> results) throws Exception {
+        int poolSize = dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+        String database = DATASOURCE_URL.startsWith("jdbc:mysql:") ? "mysql" : "h2";
+        String jdbcUrl = dataSource.unwrap(HikariDataSource.class).getJdbcUrl();
+        System.out.printf("%n[loadtest] db-profile=%s database=%s url=%s pool=%d show_sql=%s users=%d concurrency=%d requests=%d%n",
+                DB_PROFILE, database, jdbcUrl, poolSize, showSql, users, concurrency, requests);
+        System.out.printf("%-18s %10s %8s %9s %9s%n", "lookup", "ops/s", "errors", "p50(ms)", "p99(ms)");
+        for (LookupResult result : results) {
+            System.out.printf("%-18s %10.1f %8d %9.3f %9.3f%n",
+                    result.lookup(), result.throughput(), result.errors(), result.p50Millis(), result.p99Millis());
+        }
+
+        File output = new File("build/reports/loadtest/user-lookup-" + DB_PROFILE + ".json");
+        output.getParentFile().mkdirs();
+        new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(output, Map.of(
+                "dbProfile", DB_PROFILE,
+                "database", database,
+                "url", jdbcUrl,
+                "poolSize", poolSize,
+                "showSql", showSql,
+                "users", users,
+                "concurrency", concurrency,
+                "requests", requests,
+                "lookups", results
+        ));
+    }
+
+    private static String baselineUrl(String url) {
+        int query = url.indexOf('?');
+        return (query < 0 ? url : url.substring(0, query)) + "?" + BASELINE_URL_QUERY;
+    }
+
+    private static double percentileMillis(long[] sorted, double quantile) {
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))] / 1_000_000.0;
+    }
+
+    private static String username(int index) {
+        return "lookup" + index;
+    }
+
+    private static String email(int index) {
+        return "lookup" + index + "@loadtest.local";
+    }
+
+    private record Execution(long[] latencies, int errors) {
+    }
+
+    record LookupResult(String lookup, int requests, int errors, double throughput,
+                        double p50Millis, double p99Millis) {
+    }
+}
@@ -0,0 +1,154 @@
+package ban.koreamarkers.auth.cache;
+
+import ban.koreamarkers.auth.metrics.AuthMetrics;
+import ban.koreamarkers.auth.util.JwtTokenUtil;
+import ban.koreamarkers.auth.util.VerifiedToken;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.jsonwebtoken.JwtException;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * 검증된 토큰 캐시
+ * - 같은 AccessToken이 수명(15분) 동안 반복해서 들어오므로 서명 검증 결과를 재사용
+ * - 키는 토큰 원문이 아닌 SHA-256 다이제스트, 엔트리는 토큰 자체의 exp 시각에 만료
+ * - 로그아웃된 토큰은 exp까지 revoked 마커로 남겨서 즉시 거부
+ */
+@Component
+@RequiredArgsConstructor
+public class VerifiedTokenCache {
+
+    private final JwtTokenUtil jwtTokenUtil;
+    private final AuthMetrics authMetrics;
+
+    @Value("${jwt.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${jwt.cache.maximum-size:10000}")
+    private long maximumSize;
+
+    private Cache<String, CachedToken> cache;
+
+    @PostConstruct
+    void init() {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+        authMetrics.bindCache("jwt.verified", cache);
+    }
+
+    /**
+     * 캐시를 거쳐 토큰 검증
+     * - 캐시 적중 시 서명 검증 생략, 미스 시 JwtTokenUtil.verify() 후 저장
+     * - 로그아웃된 토큰이면 JwtException, 만료된 토큰이면 캐시 여부와 관계없이 ExpiredJwtException 발생
+     */
+    public VerifiedToken verify(String token) {
+        if (!enabled) {
+            return jwtTokenUtil.verify(token);
+        }
+
+        String key = digest(token);
+        CachedToken cached = cache.getIfPresent(key);
+        if (cached == null) {
+            VerifiedToken verifiedToken = jwtTokenUtil.verify(token);
+            // 검증 중에 로그아웃이 기록했을 수 있는 revoked 마커는 덮어쓰지 않음
+            CachedToken existing = cache.asMap().putIfAbsent(key, new CachedToken(verifiedToken, false));
+            if (existing != null && existing.revoked()) {
+                throw new JwtException("로그아웃된 토큰입니다.");
+            }
+            return verifiedToken;
+        }
+        if (cached.revoked()) {
+            throw new JwtException("로그아웃된 토큰입니다.");
+        }
+        if (cached.token().isExpired()) {
+            // exp 직후 스케줄 전에 조회된 경우: 캐시 미스와 같은 결과(ExpiredJwtException)가 나오도록 다시 검증
+            cache.invalidate(key);
+            return jwtTokenUtil.verify(token);
+        }
+        return cached.token();
+    }
+
+    // 로그아웃 시 호출: 토큰의 exp까지 revoked 마커 유지
+    public void invalidate(String token) {
+        if (!enabled || token == null) {
+            return;
+        }
+
+        String key = digest(token);
+        CachedToken cached = cache.getIfPresent(key);
+        VerifiedToken verifiedToken;
+        if (cached != null) {
+            verifiedToken = cached.token();
+        } else {
+            try {
+                verifiedToken = jwtTokenUtil.verify(token);
+            } catch (Exception e) {
+                // 이미 유효하지 않은 토큰은 기록할 필요 없음
+                return;
+            }
+        }
+        cache.put(key, new CachedToken(verifiedToken, true));
+    }
+
+    // 적중/미스 카운터
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    // 캐시 키: 토큰 원문 대신 SHA-256 다이제스트 (TokenIntrospector 응답 캐시도 같은 키 사용)
+    public static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private record CachedToken(VerifiedToken token, boolean revoked) {
+    }
+
+    // 엔트리마다 토큰의 exp 시각까지만 유지
+    private static class TokenExpiry implements Expiry<String, CachedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, CachedToken value, long currentTime) {
+            return untilExpiration(value);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedToken value, long currentTime, long currentDuration) {
+            return untilExpiration(value);
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        private static long untilExpiration(CachedToken value) {
+            Duration remaining = Duration.between(Instant.now(), value.token().expiration());
+            return remaining.isNegative() ? 0L : remaining.toNanos();
+        }
+    }
+}
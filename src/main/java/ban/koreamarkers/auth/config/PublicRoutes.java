@@ -0,0 +1,105 @@
+package ban.koreamarkers.auth.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * 인증 없이 허용하는 경로 목록과 경로 분류기
+ * - SecurityConfig의 permitAll 목록과 JwtAuthenticationFilter의 skip 판단이 같은 목록을 사용
+ * - 패턴은 정확한 경로("/login") 또는 하위 경로 전체("/css/**")만 지원
+ * - 기동 시 문자 단위 prefix 트리로 컴파일해서 요청마다 경로 길이만큼만 탐색 (정규식/AntPathMatcher 없음)
+ * - 경로 정규화(.., //, 인코딩된 문자 등)는 앞단 StrictHttpFirewall에서 거부된 뒤라 원문 그대로 비교
+ */
+public final class PublicRoutes {
+
+    public enum Route {
+        STATIC,    // 정적 리소스: 보안 필터 체인 자체를 최소화
+        PUBLIC,    // permitAll: JWT 처리 생략
+        PROTECTED  // 인증 필요
+    }
+
+    // 정적 리소스
+    public static final String[] STATIC = {"/css/**", "/js/**", "/images/**", "/favicon.ico"};
+
+    // 로그인 전 화면/API, 헬스 체크, 공개키 (메트릭 수집은 SecurityConfig.serviceClientFilterChain에서 인증)
+    public static final String[] PUBLIC = {
+            "/login", "/signup", "/api/auth/refresh", "/api/auth/signup",
+            "/actuator/health", // 로드밸런서 헬스 체크
+            "/.well-known/jwks.json", // 다른 서비스의 토큰 검증용 공개키
+            "/api/users/availability" // 회원가입 폼 실시간 확인
+    };
+
+    private static final Node ROOT = compile();
+
+    private PublicRoutes() {
+    }
+
+    public static Route classify(HttpServletRequest request) {
+        String pathInfo = request.getPathInfo();
+        return classify(pathInfo == null ? request.getServletPath() : request.getServletPath() + pathInfo);
+    }
+
+    public static Route classify(String path) {
+        Node node = ROOT;
+        int length = path.length();
+        for (int i = 0; i < length; i++) {
+            node = node.child(path.charAt(i));
+            if (node == null) {
+                return Route.PROTECTED;
+            }
+            // "/css/**": "/css" 자체와 "/css/..." 모두 해당
+            if (node.prefixRoute != null && (i + 1 == length || path.charAt(i + 1) == '/')) {
+                return node.prefixRoute;
+            }
+        }
+        return node.exactRoute != null ? node.exactRoute : Route.PROTECTED;
+    }
+
+    private static Node compile() {
+        Node root = new Node();
+        for (String pattern : STATIC) {
+            root.add(pattern, Route.STATIC);
+        }
+        for (String pattern : PUBLIC) {
+            root.add(pattern, Route.PUBLIC);
+        }
+        return root;
+    }
+
+    // 경로 문자는 대부분 ASCII라 자식은 배열 인덱스로 바로 조회
+    private static final class Node {
+
+        private static final int FANOUT = 128;
+
+        private Node[] children;
+        private Route exactRoute;
+        private Route prefixRoute;
+
+        Node child(char c) {
+            return children != null && c < FANOUT ? children[c] : null;
+        }
+
+        void add(String pattern, Route route) {
+            boolean prefix = pattern.endsWith("/**");
+            String path = prefix ? pattern.substring(0, pattern.length() - 3) : pattern;
+            Node node = this;
+            for (int i = 0; i < path.length(); i++) {
+                char c = path.charAt(i);
+                if (c >= FANOUT) {
+                    throw new IllegalArgumentException("ASCII 경로만 지원합니다: " + pattern);
+                }
+                if (node.children == null) {
+                    node.children = new Node[FANOUT];
+                }
+                if (node.children[c] == null) {
+                    node.children[c] = new Node();
+                }
+                node = node.children[c];
+            }
+            if (prefix) {
+                node.prefixRoute = route;
+            } else {
+                node.exactRoute = route;
+            }
+        }
+    }
+}
@@ -1,17 +1,48 @@
 package ban.koreamarkers.auth.config;
 
+import ban.koreamarkers.auth.config.PublicRoutes.Route;
+import ban.koreamarkers.auth.crypto.BCryptStrengthCalibrator;
+import ban.koreamarkers.auth.crypto.BoundedPasswordEncoder;
+import ban.koreamarkers.auth.crypto.PasswordUpgradingAuthenticationProvider;
 import ban.koreamarkers.auth.filter.JwtAuthenticationFilter;
+import ban.koreamarkers.auth.filter.LoginThrottleFilter;
 import ban.koreamarkers.auth.handler.JwtAuthenticationSuccessHandler;
+import ban.koreamarkers.auth.handler.JwtLogoutHandler;
+import ban.koreamarkers.auth.handler.LoginFailureHandler;
+import ban.koreamarkers.auth.metrics.AuthMetrics;
+import ban.koreamarkers.domain.service.PasswordUpgradeService;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 @Configuration
 @EnableWebSecurity
@@ -21,36 +52,183 @@ public class SecurityConfig {
     @Lazy
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
 
+    private final LoginThrottleFilter loginThrottleFilter;
+
     private final JwtAuthenticationSuccessHandler jwtAuthenticationSuccessHandler;
 
+    private final JwtLogoutHandler jwtLogoutHandler;
+
+    private final LoginFailureHandler loginFailureHandler;
+
+    private final UserDetailsService userDetailsService;
+
+    /**
+     * 정적 리소스 전용 체인 (먼저 매칭)
+     * - JWT 필터, 세션/SecurityContext 저장, 요청 캐시 없이 보안 헤더만 기록
+     * - 매칭 여부는 PublicRoutes prefix 트리로 판단
+     */
+    @Bean
+    @Order(0)
+    public SecurityFilterChain staticResourceFilterChain(HttpSecurity http, AuthMetrics authMetrics) throws Exception {
+        http
+            .securityMatcher(request -> {
+                if (PublicRoutes.classify(request) != Route.STATIC) {
+                    return false;
+                }
+                if (request.getDispatcherType() == DispatcherType.REQUEST) {
+                    authMetrics.recordRoute(Route.STATIC);
+                }
+                return true;
+            })
+            .csrf(csrf -> csrf.disable())
+            .requestCache(cache -> cache.disable())
+            .securityContext(context -> context.disable())
+            .sessionManagement(session -> session.disable())
+            .anonymous(anonymous -> anonymous.disable())
+            .logout(logout -> logout.disable());
+
+        return http.build();
+    }
+
+    /**
+     * 다른 서비스/수집기 전용 체인 (HTTP Basic, 세션 없음)
+     * - /api/auth/introspect: 익명 호출은 401. 요청당 최대 max-batch-size개 서명 검증을 누구나 시킬 수 있고
+     *   토큰 유효성 확인 창구가 되므로 jwt.introspection.client-id/client-secret 서비스 계정(ROLE_SERVICE)만 허용
+     * - /actuator/prometheus: 사용자/토큰 지표가 외부에 노출되지 않도록 prometheus-scrape.username/password
+     *   수집 계정(ROLE_METRICS)만 허용 (공개는 /actuator/health 뿐)
+     * - 계정이 설정되지 않은 경로는 모든 호출 거부
+     */
+    @Bean
+    @Order(1)
+    public SecurityFilterChain serviceClientFilterChain(
+            HttpSecurity http,
+            @Value("${jwt.introspection.client-id:}") String introspectionClientId,
+            @Value("${jwt.introspection.client-secret:}") String introspectionClientSecret,
+            @Value("${prometheus-scrape.username:}") String scrapeUsername,
+            @Value("${prometheus-scrape.password:}") String scrapePassword) throws Exception {
+        List<UserDetails> clients = new ArrayList<>();
+        addClient(clients, introspectionClientId, introspectionClientSecret, "SERVICE");
+        addClient(clients, scrapeUsername, scrapePassword, "METRICS");
+
+        http
+            .securityMatcher("/api/auth/introspect", "/actuator/prometheus")
+            .csrf(csrf -> csrf.disable())
+            .requestCache(cache -> cache.disable())
+            .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+            .authorizeHttpRequests(auth -> auth
+                .requestMatchers("/api/auth/introspect").hasRole("SERVICE")
+                .requestMatchers("/actuator/prometheus").hasRole("METRICS")
+                .anyRequest().denyAll()
+            )
+            .httpBasic(Customizer.withDefaults())
+            .authenticationManager(serviceClients(clients));
+
+        return http.build();
+    }
+
+    private static void addClient(List<UserDetails> clients, String username, String password, String role) {
+        if (StringUtils.hasText(username) && StringUtils.hasText(password)) {
+            clients.add(org.springframework.security.core.userdetails.User.withUsername(username)
+                    .password(password) // {noop}... 또는 {bcrypt}... 형식
+                    .roles(role)
+                    .build());
+        }
+    }
+
+    // 서비스 계정은 애플리케이션 사용자(users 테이블)와 분리, 해싱 풀도 거치지 않음
+    private static AuthenticationManager serviceClients(List<UserDetails> clients) {
+        if (clients.isEmpty()) {
+            return authentication -> {
+                throw new BadCredentialsException("서비스 계정이 설정되지 않았습니다.");
+            };
+        }
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
+        provider.setUserDetailsService(new InMemoryUserDetailsManager(clients));
+        provider.setPasswordEncoder(PasswordEncoderFactories.createDelegatingPasswordEncoder());
+        return new ProviderManager(provider);
+    }
+
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, PasswordEncoder passwordEncoder,
+                                                   PasswordUpgradeService passwordUpgradeService) throws Exception {
         http
             .csrf(csrf -> csrf.disable()) // JWT 사용 시 CSRF 비활성화 (필요시 설정)
             .authorizeHttpRequests(auth -> auth
-                .requestMatchers("/login", "/signup", "/api/auth/refresh", "/api/auth/signup", "/css/**", "/js/**", "/images/**").permitAll()
+                .requestMatchers(PublicRoutes.PUBLIC).permitAll() // JwtAuthenticationFilter도 이 목록은 건너뜀
+                .requestMatchers(PublicRoutes.STATIC).permitAll()
+                .requestMatchers("/api/users/import").hasRole("ADMIN") // 일괄 가입
                 .anyRequest().authenticated()
             )
             .formLogin(form -> form
                 .loginPage("/login")
                 .successHandler(jwtAuthenticationSuccessHandler)
-                .failureUrl("/login?error=true")
+                .failureHandler(loginFailureHandler) // 실패 시 /login?error=true, 해싱 풀 포화 시 503
                 .permitAll()
             )
             .logout(logout -> logout
                 .logoutUrl("/logout")
+                .addLogoutHandler(jwtLogoutHandler) // 캐시된 토큰 즉시 무효화
                 .logoutSuccessUrl("/login?logout=true")
                 .invalidateHttpSession(true)
                 .deleteCookies("JSESSIONID", "accessToken", "refreshToken")
                 .permitAll()
             )
+            // 캐싱 UserDetailsService 사용 + 로그인 성공 시 레거시 해시 백그라운드 재해싱
+            .authenticationProvider(new PasswordUpgradingAuthenticationProvider(
+                    userDetailsService, passwordEncoder, passwordUpgradeService))
+            // 로그인 시도 제한: 사용자 조회/비밀번호 해싱 전에 429
+            .addFilterBefore(loginThrottleFilter, UsernamePasswordAuthenticationFilter.class)
             .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
     }
 
+    // JwtAuthenticationFilter/LoginThrottleFilter는 보안 체인 안에서만 실행 (@Component 필터의 서블릿 필터 자동 등록으로 두 번 타지 않도록)
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public static FilterRegistrationBean<JwtAuthenticationFilter> jwtAuthenticationFilterRegistration(
+            JwtAuthenticationFilter jwtAuthenticationFilter) {
+        FilterRegistrationBean<JwtAuthenticationFilter> registration = new FilterRegistrationBean<>(jwtAuthenticationFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
+    @Bean
+    public static FilterRegistrationBean<LoginThrottleFilter> loginThrottleFilterRegistration(
+            LoginThrottleFilter loginThrottleFilter) {
+        FilterRegistrationBean<LoginThrottleFilter> registration = new FilterRegistrationBean<>(loginThrottleFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
+    /**
+     * 전용 해싱 풀에서 동작하는 위임 인코더
+     * - 새 해시는 algorithm({bcrypt} 또는 {argon2}) 으로 생성, 접두사 없는 기존 BCrypt 해시도 검증 가능
+     * - target-latency-ms > 0 이면 기동 시 하드웨어에 맞춰 BCrypt cost 보정 (bcrypt-strength가 최솟값)
+     * - pool-size 0 이면 CPU 코어 수만큼 사용
+     */
+    @Bean
+    public PasswordEncoder passwordEncoder(
+            @Value("${password.hashing.algorithm:bcrypt}") String algorithm,
+            @Value("${password.hashing.bcrypt-strength:10}") int bcryptStrength,
+            @Value("${password.hashing.target-latency-ms:0}") long targetLatencyMs,
+            @Value("${password.hashing.argon2.memory:16384}") int argon2Memory,
+            @Value("${password.hashing.argon2.iterations:2}") int argon2Iterations,
+            @Value("${password.hashing.pool-size:0}") int poolSize,
+            @Value("${password.hashing.queue-capacity:64}") int queueCapacity,
+            AuthMetrics authMetrics) {
+        int strength = targetLatencyMs > 0
+                ? BCryptStrengthCalibrator.calibrate(bcryptStrength, targetLatencyMs)
+                : bcryptStrength;
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(strength);
+
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put("bcrypt", bcrypt);
+        encoders.put("argon2", new Argon2PasswordEncoder(16, 32, 1, argon2Memory, argon2Iterations));
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(algorithm, encoders);
+        // users.password에 접두사 없이 저장된 기존 BCrypt 해시
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(delegating, threads, queueCapacity, authMetrics);
     }
 }
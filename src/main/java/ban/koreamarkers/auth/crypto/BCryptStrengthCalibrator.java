@@ -0,0 +1,41 @@
+package ban.koreamarkers.auth.crypto;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * 기동 시 현재 하드웨어에서 목표 지연 시간에 맞는 BCrypt cost 계산
+ * - cost가 1 늘 때마다 해싱 시간이 2배가 되므로 최소 cost에서 한 번 측정 후 외삽
+ */
+@Slf4j
+public final class BCryptStrengthCalibrator {
+
+    private static final int MAX_STRENGTH = 31;
+    private static final int WARMUP_ROUNDS = 2;
+
+    private BCryptStrengthCalibrator() {
+    }
+
+    public static int calibrate(int minStrength, long targetLatencyMillis) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(minStrength);
+
+        // JIT 워밍업
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            encoder.encode("calibration");
+        }
+        long start = System.nanoTime();
+        encoder.encode("calibration");
+        long elapsedMillis = Math.max(1L, (System.nanoTime() - start) / 1_000_000L);
+
+        int strength = minStrength;
+        long expectedMillis = elapsedMillis;
+        while (strength < MAX_STRENGTH && expectedMillis * 2 <= targetLatencyMillis) {
+            strength++;
+            expectedMillis *= 2;
+        }
+
+        log.info("BCrypt cost 보정: cost {} = {}ms 측정, 목표 {}ms -> cost {} (예상 {}ms)",
+                minStrength, elapsedMillis, targetLatencyMillis, strength, expectedMillis);
+        return strength;
+    }
+}
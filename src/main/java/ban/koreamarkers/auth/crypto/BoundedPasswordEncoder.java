@@ -0,0 +1,95 @@
+package ban.koreamarkers.auth.crypto;
+
+import ban.koreamarkers.auth.metrics.AuthMetrics;
+import ban.koreamarkers.auth.metrics.AuthMetrics.PasswordOperation;
+import ban.koreamarkers.common.PasswordHashingBusyException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 전용 해싱 풀에서 encode/matches를 실행하는 PasswordEncoder
+ * - 동시에 BCrypt를 수행하는 스레드 수를 풀 크기로 제한해서 로그인 폭주가 요청 스레드의 CPU를 독점하지 못하도록 함
+ * - 대기열이 가득 차면 즉시 PasswordHashingBusyException (503) 발생
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final AuthMetrics authMetrics;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int poolSize, int queueCapacity, AuthMetrics authMetrics) {
+        this.delegate = delegate;
+        this.authMetrics = authMetrics;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        authMetrics.bindHashingPool(executor);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return submit(PasswordOperation.ENCODE, () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(PasswordOperation.MATCHES, () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    // 현재 대기열 길이
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    // 현재 해싱 중인 스레드 수
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    private <T> T submit(PasswordOperation operation, Callable<T> task) {
+        long start = System.nanoTime();
+        try {
+            T result = executor.submit(task).get();
+            authMetrics.recordPasswordHash(operation, System.nanoTime() - start);
+            return result;
+        } catch (RejectedExecutionException e) {
+            authMetrics.recordPasswordRejected();
+            throw new PasswordHashingBusyException("비밀번호 처리 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 처리 중 인터럽트가 발생했습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("비밀번호 처리 중 오류가 발생했습니다.", e.getCause());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
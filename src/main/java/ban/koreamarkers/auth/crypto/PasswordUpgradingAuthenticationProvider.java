@@ -0,0 +1,36 @@
+package ban.koreamarkers.auth.crypto;
+
+import ban.koreamarkers.domain.service.PasswordUpgradeService;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * 폼 로그인 인증 프로바이더
+ * - 로그인 성공 시 저장된 해시가 현재 목표 알고리즘/파라미터가 아니면 백그라운드 재해싱 요청
+ * - DaoAuthenticationProvider 기본 업그레이드(요청 스레드에서 동기 encode)는 사용하지 않음
+ */
+public class PasswordUpgradingAuthenticationProvider extends DaoAuthenticationProvider {
+
+    private final PasswordUpgradeService passwordUpgradeService;
+
+    public PasswordUpgradingAuthenticationProvider(UserDetailsService userDetailsService,
+                                                   PasswordEncoder passwordEncoder,
+                                                   PasswordUpgradeService passwordUpgradeService) {
+        setPasswordEncoder(passwordEncoder);
+        setUserDetailsService(userDetailsService);
+        this.passwordUpgradeService = passwordUpgradeService;
+    }
+
+    @Override
+    protected Authentication createSuccessAuthentication(Object principal, Authentication authentication,
+                                                         UserDetails user) {
+        if (passwordUpgradeService.needsUpgrade(user.getPassword())) {
+            passwordUpgradeService.upgrade(
+                    user.getUsername(), authentication.getCredentials().toString(), user.getPassword());
+        }
+        return super.createSuccessAuthentication(principal, authentication, user);
+    }
+}
@@ -1,10 +1,20 @@
 package ban.koreamarkers.auth.filter;
 
-import ban.koreamarkers.auth.util.JwtTokenUtil;
+import ban.koreamarkers.auth.cache.VerifiedTokenCache;
+import ban.koreamarkers.auth.config.PublicRoutes;
+import ban.koreamarkers.auth.config.PublicRoutes.Route;
+import ban.koreamarkers.auth.metrics.AuthMetrics;
+import ban.koreamarkers.auth.metrics.AuthMetrics.TokenSource;
+import ban.koreamarkers.auth.refresh.AccessTokenRenewer;
+import ban.koreamarkers.auth.revocation.AccessTokenDenylist;
+import ban.koreamarkers.auth.revocation.TokenVersionRegistry;
+import ban.koreamarkers.auth.util.RequestTokens;
+import ban.koreamarkers.auth.util.VerifiedToken;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -20,56 +30,72 @@ import java.io.IOException;
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
-    private final JwtTokenUtil jwtTokenUtil;
+
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    private final TokenVersionRegistry tokenVersionRegistry;
+
+    private final AccessTokenDenylist accessTokenDenylist;
+
+    private final AuthMetrics authMetrics;
+
+    private final AccessTokenRenewer accessTokenRenewer;
 
     @Lazy
     private final UserDetailsService userDetailsService;
 
+    // true면 AccessToken 클레임으로 principal을 복원하고 DB 조회 생략
+    @Value("${jwt.stateless-principal:false}")
+    private boolean statelessPrincipal;
+
+    // 정적 리소스/permitAll 경로는 토큰 추출, 파싱, 사용자 조회 모두 생략
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        Route route = PublicRoutes.classify(request);
+        authMetrics.recordRoute(route);
+        return route != Route.PROTECTED;
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
             throws ServletException, IOException {
 
-        String jwtToken = null;
-        String username = null;
-
-        // 1. Authorization 헤더에서 토큰 확인
-        final String requestTokenHeader = request.getHeader("Authorization");
-        if (requestTokenHeader != null && requestTokenHeader.startsWith("Bearer ")) {
-            jwtToken = requestTokenHeader.substring(7);
-        } else {
-            // 2. 헤더에 없으면 쿠키에서 토큰 확인
-            jakarta.servlet.http.Cookie[] cookies = request.getCookies();
-            if (cookies != null) {
-                for (jakarta.servlet.http.Cookie cookie : cookies) {
-                    if ("accessToken".equals(cookie.getName())) {
-                        jwtToken = cookie.getValue();
-                        break;
-                    }
-                }
-            }
-        }
+        // 1. Authorization 헤더, 2. accessToken 쿠키 순서로 확인 (Cookie 헤더 원문을 한 번만 스캔)
+        RequestTokens requestTokens = RequestTokens.resolve(request);
+        String jwtToken = requestTokens.accessToken();
+        authMetrics.recordTokenSource(requestTokens.hasBearerToken() ? TokenSource.HEADER
+                : jwtToken != null ? TokenSource.COOKIE : TokenSource.NONE);
 
-        // 토큰 파싱
+        // 토큰 파싱 (캐시 미스일 때만 서명 검증 수행)
+        VerifiedToken verifiedToken = null;
         if (jwtToken != null) {
             try {
-                username = jwtTokenUtil.getUsernameFromToken(jwtToken);
+                verifiedToken = verifiedTokenCache.verify(jwtToken);
             } catch (Exception e) {
                 logger.warn("JWT 토큰을 파싱할 수 없습니다: " + e.getMessage());
             }
         }
 
         // 토큰이 유효한 경우 수동으로 인증 설정
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
+        if (verifiedToken != null && verifiedToken.isAccessToken()
+                && !tokenVersionRegistry.isRevoked(verifiedToken)
+                && !accessTokenDenylist.isRevoked(verifiedToken.id())
+                && SecurityContextHolder.getContext().getAuthentication() == null) {
+            UserDetails userDetails = statelessPrincipal && verifiedToken.hasPrincipalClaims()
+                    ? verifiedToken.toUserDetails()
+                    : this.userDetailsService.loadUserByUsername(verifiedToken.subject());
 
             // 토큰이 유효한 경우 Spring Security를 수동으로 설정하여 인증
-            if (jwtTokenUtil.validateToken(jwtToken, userDetails) && jwtTokenUtil.isAccessToken(jwtToken)) {
+            if (userDetails.isEnabled() && verifiedToken.isValidFor(userDetails)) {
                 UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken =
                         new UsernamePasswordAuthenticationToken(
                                 userDetails, null, userDetails.getAuthorities());
                 usernamePasswordAuthenticationToken
                         .setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(usernamePasswordAuthenticationToken);
+
+                // 만료가 가까우면 응답에 새 AccessToken 기록 (별도 refresh 호출 불필요)
+                accessTokenRenewer.renewIfExpiring(request, response, verifiedToken, userDetails);
             }
         }
         chain.doFilter(request, response);
@@ -0,0 +1,45 @@
+package ban.koreamarkers.auth.filter;
+
+import ban.koreamarkers.auth.metrics.AuthMetrics.LoginThrottleOutcome;
+import ban.koreamarkers.auth.throttle.LoginThrottle;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 폼 로그인(POST /login) 시도 제한
+ * - UsernamePasswordAuthenticationFilter 앞에서 실행되므로 거부된 요청은 사용자 조회/비밀번호 해싱 없음
+ * - 거부 시 리다이렉트/에러 페이지 없이 바로 429 + Retry-After
+ */
+@Component
+@RequiredArgsConstructor
+public class LoginThrottleFilter extends OncePerRequestFilter {
+
+    private final LoginThrottle loginThrottle;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !("POST".equals(request.getMethod()) && "/login".equals(request.getServletPath()));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        LoginThrottleOutcome outcome = loginThrottle.check(request.getRemoteAddr(), request.getParameter("username"));
+        if (outcome != LoginThrottleOutcome.ALLOWED) {
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader("Retry-After", String.valueOf(loginThrottle.retryAfterSeconds(outcome)));
+            response.setContentType("text/plain;charset=UTF-8");
+            response.getWriter().write("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.");
+            return;
+        }
+        chain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,52 @@
+package ban.koreamarkers.auth.handler;
+
+import ban.koreamarkers.auth.cache.VerifiedTokenCache;
+import ban.koreamarkers.auth.refresh.RefreshTokenService;
+import ban.koreamarkers.auth.revocation.AccessTokenDenylist;
+import ban.koreamarkers.auth.util.RequestTokens;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.authentication.logout.LogoutHandler;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class JwtLogoutHandler implements LogoutHandler {
+
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final RefreshTokenService refreshTokenService;
+    private final AccessTokenDenylist accessTokenDenylist;
+
+    @Override
+    public void logout(HttpServletRequest request, HttpServletResponse response, Authentication authentication) {
+        RequestTokens requestTokens = RequestTokens.resolve(request);
+
+        // Authorization 헤더의 토큰 무효화
+        if (requestTokens.hasBearerToken()) {
+            revokeAccessToken(requestTokens.bearerToken());
+        }
+
+        // 쿠키의 AccessToken/RefreshToken 무효화 (쿠키 삭제는 deleteCookies에서 처리)
+        if (requestTokens.hasAccessTokenCookie()) {
+            revokeAccessToken(requestTokens.accessTokenCookie());
+        }
+        if (requestTokens.hasRefreshTokenCookie()) {
+            String refreshToken = requestTokens.refreshTokenCookie();
+            verifiedTokenCache.invalidate(refreshToken);
+            // 서버 측 체인 폐기: 쿠키를 복사해 둔 경우에도 더 이상 갱신 불가
+            refreshTokenService.revoke(refreshToken);
+        }
+    }
+
+    // 폐기 목록에 jti 등록 (다른 노드로 전파) + 로컬 캐시 무효화
+    private void revokeAccessToken(String token) {
+        try {
+            accessTokenDenylist.revoke(verifiedTokenCache.verify(token));
+        } catch (Exception e) {
+            // 이미 유효하지 않은 토큰은 폐기할 필요 없음
+        }
+        verifiedTokenCache.invalidate(token);
+    }
+}
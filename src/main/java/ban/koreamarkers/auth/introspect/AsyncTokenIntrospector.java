@@ -0,0 +1,72 @@
+package ban.koreamarkers.auth.introspect;
+
+import ban.koreamarkers.auth.metrics.AuthMetrics;
+import ban.koreamarkers.controller.dto.TokenIntrospection;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 토큰 일괄 조회를 전용 풀에서 실행 (서명 검증 + stateless-principal=false면 사용자 조회)
+ * - CompletableFuture로 반환, 요청 스레드는 DeferredResult로 즉시 반납
+ * - 풀과 대기열이 가득 차면 RejectedExecutionException으로 완료 (503)
+ */
+@Component
+@RequiredArgsConstructor
+public class AsyncTokenIntrospector implements DisposableBean {
+
+    private final TokenIntrospector tokenIntrospector;
+    private final AuthMetrics authMetrics;
+
+    @Value("${jwt.introspection.async.pool-size:4}")
+    private int poolSize;
+
+    @Value("${jwt.introspection.async.queue-capacity:64}")
+    private int queueCapacity;
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    void init() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "token-introspect-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        authMetrics.bindIntrospectionPool(executor);
+    }
+
+    public int getMaxBatchSize() {
+        return tokenIntrospector.getMaxBatchSize();
+    }
+
+    public CompletableFuture<List<TokenIntrospection>> introspect(List<String> tokens) {
+        try {
+            return CompletableFuture.supplyAsync(() -> tokenIntrospector.introspect(tokens), executor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
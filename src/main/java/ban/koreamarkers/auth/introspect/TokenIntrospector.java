@@ -0,0 +1,190 @@
+package ban.koreamarkers.auth.introspect;
+
+import ban.koreamarkers.auth.cache.VerifiedTokenCache;
+import ban.koreamarkers.auth.metrics.AuthMetrics;
+import ban.koreamarkers.auth.metrics.AuthMetrics.IntrospectionResult;
+import ban.koreamarkers.auth.revocation.AccessTokenDenylist;
+import ban.koreamarkers.auth.revocation.TokenVersionRegistry;
+import ban.koreamarkers.auth.util.VerifiedToken;
+import ban.koreamarkers.controller.dto.TokenIntrospection;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 다른 서비스(게이트웨이)용 토큰 일괄 조회
+ * - 요청 하나에 담긴 토큰을 한 번에 검증, 같은 토큰이 여러 번 있으면 한 번만 처리
+ * - 서명 검증은 VerifiedTokenCache를 거치므로 필터가 이미 검증한 토큰은 다시 검증하지 않음
+ * - active 판단은 필터와 같음: AccessToken + 만료 전 + 사용자 전체 폐기/jti 폐기 목록에 없음 + 활성 계정
+ *   (enabled 클레임이 true여야 하고, stateless-principal=false면 필터처럼 캐싱 UserDetailsService로 현재 상태도 확인)
+ * - RefreshToken은 다른 서비스에 제시할 토큰이 아니므로 항상 active=false
+ * - 응답 캐시(jwt.introspection.cache.enabled)를 켜면 결과를 ttl 동안 재사용 (로그아웃이 최대 ttl만큼 늦게 반영됨)
+ */
+@Component
+@RequiredArgsConstructor
+public class TokenIntrospector {
+
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenVersionRegistry tokenVersionRegistry;
+    private final AccessTokenDenylist accessTokenDenylist;
+    private final AuthMetrics authMetrics;
+    private final UserDetailsService userDetailsService;
+
+    // true면 필터처럼 AccessToken 클레임만으로 계정 상태 판단 (사용자 조회 없음)
+    @Value("${jwt.stateless-principal:false}")
+    private boolean statelessPrincipal;
+
+    @Value("${jwt.introspection.max-batch-size:500}")
+    private int maxBatchSize;
+
+    @Value("${jwt.introspection.cache.enabled:false}")
+    private boolean cacheEnabled;
+
+    @Value("${jwt.introspection.cache.ttl:5000}") // 밀리초
+    private long cacheTtl;
+
+    @Value("${jwt.introspection.cache.maximum-size:10000}")
+    private long cacheMaximumSize;
+
+    private Cache<String, CachedIntrospection> cache;
+
+    @PostConstruct
+    void init() {
+        if (!cacheEnabled) {
+            this.cache = null;
+            return;
+        }
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(cacheMaximumSize)
+                .expireAfter(new IntrospectionExpiry(TimeUnit.MILLISECONDS.toNanos(cacheTtl)))
+                .recordStats()
+                .build();
+        authMetrics.bindCache("jwt.introspection", cache);
+    }
+
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    // 결과는 입력과 같은 순서, null/빈 토큰은 active=false
+    public List<TokenIntrospection> introspect(List<String> tokens) {
+        if (tokens.size() > maxBatchSize) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 토큰은 최대 " + maxBatchSize + "개입니다.");
+        }
+
+        List<TokenIntrospection> results = new ArrayList<>(tokens.size());
+        Map<String, TokenIntrospection> batch = new HashMap<>();
+        for (String token : tokens) {
+            if (token == null || token.isEmpty()) {
+                results.add(TokenIntrospection.INACTIVE);
+                continue;
+            }
+            TokenIntrospection result = batch.get(token);
+            if (result == null) {
+                result = introspect(token);
+                batch.put(token, result);
+            }
+            results.add(result);
+        }
+        return results;
+    }
+
+    private TokenIntrospection introspect(String token) {
+        if (cache == null) {
+            return evaluate(token).result();
+        }
+        String key = VerifiedTokenCache.digest(token);
+        CachedIntrospection cached = cache.getIfPresent(key);
+        if (cached == null || cached.isExpired()) {
+            cached = evaluate(token);
+            cache.put(key, cached);
+        }
+        return cached.result();
+    }
+
+    private CachedIntrospection evaluate(String token) {
+        VerifiedToken verifiedToken;
+        try {
+            verifiedToken = verifiedTokenCache.verify(token);
+        } catch (Exception e) {
+            authMetrics.recordIntrospection(IntrospectionResult.INACTIVE);
+            return CachedIntrospection.INACTIVE;
+        }
+
+        boolean active = verifiedToken.isAccessToken()
+                && !verifiedToken.isExpired()
+                && Boolean.TRUE.equals(verifiedToken.enabled())
+                && !tokenVersionRegistry.isRevoked(verifiedToken)
+                && !accessTokenDenylist.isRevoked(verifiedToken.id())
+                && isAccountActive(verifiedToken);
+        authMetrics.recordIntrospection(active ? IntrospectionResult.ACTIVE : IntrospectionResult.INACTIVE);
+        return active
+                ? new CachedIntrospection(TokenIntrospection.active(verifiedToken), verifiedToken.expiration())
+                : CachedIntrospection.INACTIVE;
+    }
+
+    // 발급 후 비활성화/삭제된 계정 (JwtAuthenticationFilter의 userDetails.isEnabled() 확인과 같음)
+    private boolean isAccountActive(VerifiedToken verifiedToken) {
+        if (statelessPrincipal) {
+            return true;
+        }
+        try {
+            UserDetails userDetails = userDetailsService.loadUserByUsername(verifiedToken.subject());
+            return userDetails.isEnabled() && verifiedToken.isValidFor(userDetails);
+        } catch (UsernameNotFoundException e) {
+            return false;
+        }
+    }
+
+    // active 결과는 토큰 exp를 넘겨서 재사용하지 않음
+    private record CachedIntrospection(TokenIntrospection result, Instant expiration) {
+
+        static final CachedIntrospection INACTIVE = new CachedIntrospection(TokenIntrospection.INACTIVE, null);
+
+        boolean isExpired() {
+            return expiration != null && !Instant.now().isBefore(expiration);
+        }
+    }
+
+    private static class IntrospectionExpiry implements Expiry<String, CachedIntrospection> {
+
+        private final long ttlNanos;
+
+        IntrospectionExpiry(long ttlNanos) {
+            this.ttlNanos = ttlNanos;
+        }
+
+        @Override
+        public long expireAfterCreate(String key, CachedIntrospection value, long currentTime) {
+            if (value.expiration() == null) {
+                return ttlNanos;
+            }
+            long remaining = TimeUnit.MILLISECONDS.toNanos(value.expiration().toEpochMilli() - System.currentTimeMillis());
+            return Math.max(0L, Math.min(ttlNanos, remaining));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedIntrospection value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedIntrospection value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
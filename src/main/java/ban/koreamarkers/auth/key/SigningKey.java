@@ -0,0 +1,9 @@
+package ban.koreamarkers.auth.key;
+
+import java.security.PrivateKey;
+
+/**
+ * 현재 토큰 서명에 사용하는 키 (JWS 헤더의 kid와 함께 사용)
+ */
+public record SigningKey(String kid, PrivateKey privateKey) {
+}
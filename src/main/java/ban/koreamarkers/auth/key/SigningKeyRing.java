@@ -0,0 +1,306 @@
+package ban.koreamarkers.auth.key;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Jwk;
+import io.jsonwebtoken.security.Jwks;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.SecureRandom;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * JWT 서명/검증 키 모음 (ES256 또는 EdDSA)
+ * - 키 디렉터리의 {kid}.pem(PKCS#8 개인키)과 {kid}.pub.pem(X.509 공개키)을 읽어 kid별로 보관
+ * - 공개키만 있는 kid는 검증 전용 (회전 전 미리 배포하거나, 회전 후 기존 토큰이 만료될 때까지 유지)
+ * - 서명 키: active-kid 설정값, 없으면 개인키가 있는 kid 중 사전순으로 가장 뒤 (생성 키의 kid는 UTC 시각 + 임의 접미사)
+ * - 새로 생성한 키는 activation-delay(reload-interval + JWKS 캐시 시간) 동안 검증 전용으로만 공개하고 그 뒤에 서명 시작
+ *   (다른 노드의 재적재와 다른 서비스의 JWKS 캐시가 새 kid를 알기 전에 그 kid로 서명한 토큰이 나가지 않도록)
+ * - 개인키 PEM은 소유자만 읽을 수 있는 임시 파일에 쓴 뒤 하드 링크로 게시 (같은 kid 파일이 이미 있으면 덮어쓰지 않고 회전 중단)
+ * - reload-interval마다 디렉터리를 다시 읽어 스냅샷을 통째로 교체하므로 재기동 없이 키 교체 가능
+ * - 검증 경로에서는 불변 Map 조회 한 번 (O(1))
+ * - directory가 비어 있으면 메모리에만 키를 생성 (테스트/벤치마크용, 재기동 시 기존 토큰 무효)
+ */
+@Slf4j
+@Component
+public class SigningKeyRing {
+
+    private static final DateTimeFormatter KID_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'");
+    private static final int KID_TIMESTAMP_LENGTH = "yyyyMMddTHHmmssZ".length();
+    private static final SecureRandom KID_RANDOM = new SecureRandom();
+    private static final String PRIVATE_SUFFIX = ".pem";
+    private static final String PUBLIC_SUFFIX = ".pub.pem";
+
+    // JwksController의 Cache-Control max-age
+    public static final Duration JWKS_MAX_AGE = Duration.ofMinutes(5);
+
+    @Value("${jwt.keys.algorithm:ES256}")
+    private String algorithm;
+
+    @Value("${jwt.keys.directory:}")
+    private String directory;
+
+    @Value("${jwt.keys.active-kid:}")
+    private String activeKid;
+
+    @Value("${jwt.keys.generate-if-missing:true}")
+    private boolean generateIfMissing;
+
+    @Value("${jwt.keys.rotation-interval:0d}")
+    private Duration rotationInterval;
+
+    @Value("${jwt.keys.reload-interval:60000}") // 밀리초
+    private long reloadInterval;
+
+    private volatile KeySnapshot snapshot;
+
+    @PostConstruct
+    void init() {
+        if (directory.isBlank()) {
+            String kid = newKid();
+            KeyPair keyPair = generateKeyPair();
+            snapshot = KeySnapshot.of(Map.of(kid, keyPair.getPublic()), new SigningKey(kid, keyPair.getPrivate()), kid);
+            return;
+        }
+        reload();
+    }
+
+    /**
+     * 키 디렉터리 재적재
+     * - 가장 최근 생성 키가 rotation-interval을 넘기면 새 키 생성 (activation-delay 뒤부터 서명, 기존 키는 검증용으로 남음)
+     * - 읽기 실패 시 기존 스냅샷 유지
+     */
+    @Scheduled(fixedDelayString = "${jwt.keys.reload-interval:60000}", initialDelayString = "${jwt.keys.reload-interval:60000}")
+    public void reload() {
+        if (directory.isBlank()) {
+            return;
+        }
+        try {
+            Path dir = Path.of(directory);
+            Files.createDirectories(dir);
+            KeySnapshot loaded = load(dir);
+            if (loaded.signingKey() == null || rotationDue(loaded.newestKid())) {
+                if (loaded.signingKey() == null && !generateIfMissing) {
+                    throw new IllegalStateException("서명 키가 없습니다: " + dir.toAbsolutePath());
+                }
+                String kid = writeNewKey(dir);
+                log.info("JWT 서명 키 생성: kid={}, 서명 시작={}", kid, createdAt(kid).plus(activationDelay()));
+                loaded = load(dir);
+            }
+            KeySnapshot previous = snapshot;
+            snapshot = loaded;
+            if (previous == null || !previous.signingKey().kid().equals(loaded.signingKey().kid())
+                    || !previous.verificationKeys().keySet().equals(loaded.verificationKeys().keySet())) {
+                log.info("JWT 키 적재: signing={}, verification={}",
+                        loaded.signingKey().kid(), loaded.verificationKeys().keySet());
+            }
+        } catch (IOException | GeneralSecurityException | RuntimeException e) {
+            if (snapshot == null) {
+                throw new IllegalStateException("JWT 키를 읽을 수 없습니다: " + directory, e);
+            }
+            log.warn("JWT 키 재적재 실패, 기존 키 유지: {}", e.getMessage());
+        }
+    }
+
+    public SigningKey signingKey() {
+        return snapshot.signingKey();
+    }
+
+    // kid에 해당하는 검증 키, 없으면 null
+    public PublicKey verificationKey(String kid) {
+        return snapshot.verificationKeys().get(kid);
+    }
+
+    // JWKS 응답 본문 ({"keys": [...]}, 공개키만 포함)
+    public Map<String, Object> jwks() {
+        return snapshot.jwks();
+    }
+
+    private KeySnapshot load(Path dir) throws IOException, GeneralSecurityException {
+        Map<String, PublicKey> publicKeys = new LinkedHashMap<>();
+        Map<String, PrivateKey> privateKeys = new LinkedHashMap<>();
+        List<Path> files;
+        try (Stream<Path> list = Files.list(dir)) {
+            files = list.filter(Files::isRegularFile).sorted().toList();
+        }
+        for (Path file : files) {
+            String name = file.getFileName().toString();
+            if (name.endsWith(PUBLIC_SUFFIX)) {
+                publicKeys.put(name.substring(0, name.length() - PUBLIC_SUFFIX.length()),
+                        (PublicKey) readKey(file, true));
+            } else if (name.endsWith(PRIVATE_SUFFIX)) {
+                privateKeys.put(name.substring(0, name.length() - PRIVATE_SUFFIX.length()),
+                        (PrivateKey) readKey(file, false));
+            }
+        }
+
+        List<String> pairs = privateKeys.keySet().stream()
+                .filter(publicKeys::containsKey)
+                .sorted(Comparator.reverseOrder())
+                .toList();
+        String newestKid = pairs.isEmpty() ? null : pairs.get(0);
+        String signingKid = !activeKid.isBlank()
+                ? activeKid
+                : pairs.stream().filter(this::isActivated).findFirst().orElse(newestKid);
+        SigningKey signingKey = null;
+        if (signingKid != null) {
+            if (!privateKeys.containsKey(signingKid) || !publicKeys.containsKey(signingKid)) {
+                throw new IllegalStateException("서명 키 쌍이 없습니다: kid=" + signingKid);
+            }
+            signingKey = new SigningKey(signingKid, privateKeys.get(signingKid));
+        }
+        return KeySnapshot.of(publicKeys, signingKey, newestKid);
+    }
+
+    // 생성 후 activation-delay가 지난 키 (직접 배포한 키는 공개키를 미리 배포했다고 보고 바로 사용)
+    private boolean isActivated(String kid) {
+        Instant createdAt = createdAt(kid);
+        return createdAt == null || !createdAt.plus(activationDelay()).isAfter(Instant.now());
+    }
+
+    private Duration activationDelay() {
+        return Duration.ofMillis(reloadInterval).plus(JWKS_MAX_AGE);
+    }
+
+    private boolean rotationDue(String kid) {
+        if (rotationInterval.isZero() || rotationInterval.isNegative() || !activeKid.isBlank()) {
+            return false;
+        }
+        Instant createdAt = createdAt(kid);
+        // 직접 배포한 키는 자동 회전 대상 아님
+        return createdAt != null && createdAt.plus(rotationInterval).isBefore(Instant.now());
+    }
+
+    // 생성 키의 kid(UTC 시각[-접미사])에서 생성 시각 복원, 직접 배포한 키는 null
+    static Instant createdAt(String kid) {
+        if (kid.length() < KID_TIMESTAMP_LENGTH
+                || (kid.length() > KID_TIMESTAMP_LENGTH && kid.charAt(KID_TIMESTAMP_LENGTH) != '-')) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(kid.substring(0, KID_TIMESTAMP_LENGTH), KID_FORMAT).toInstant(ZoneOffset.UTC);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private String writeNewKey(Path dir) throws IOException {
+        String kid = newKid();
+        if (Files.exists(dir.resolve(kid + PUBLIC_SUFFIX)) || Files.exists(dir.resolve(kid + PRIVATE_SUFFIX))) {
+            throw new FileAlreadyExistsException(kid, null, "같은 kid의 키가 이미 있어 회전을 중단합니다.");
+        }
+        KeyPair keyPair = generateKeyPair();
+        // 공개키를 먼저 게시해서 개인키만 있는 상태로 읽히지 않도록 함
+        // 공개키 게시에 성공한 노드만 이 kid의 개인키를 쓰므로 서로 다른 노드의 키 쌍이 섞이지 않음
+        writeAtomically(dir, kid + PUBLIC_SUFFIX, pem("PUBLIC KEY", keyPair.getPublic().getEncoded()), false);
+        writeAtomically(dir, kid + PRIVATE_SUFFIX, pem("PRIVATE KEY", keyPair.getPrivate().getEncoded()), true);
+        return kid;
+    }
+
+    // 임시 파일(.tmp, 재적재 대상 아님)에 쓴 뒤 게시: 다른 노드가 반쯤 쓰인 PEM을 읽지 않도록 함
+    // - 하드 링크는 대상이 이미 있으면 FileAlreadyExistsException (POSIX rename과 달리 덮어쓰지 않음)
+    // - 하드 링크를 지원하지 않는 파일 시스템은 ATOMIC_MOVE 없는 move (대상이 있으면 실패)
+    static void writeAtomically(Path dir, String name, String content, boolean ownerOnly) throws IOException {
+        boolean posix = dir.getFileSystem().supportedFileAttributeViews().contains("posix");
+        Path temp = ownerOnly && posix
+                ? Files.createTempFile(dir, "." + name, ".tmp",
+                        PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------")))
+                : Files.createTempFile(dir, "." + name, ".tmp");
+        try {
+            Files.writeString(temp, content, StandardCharsets.US_ASCII);
+            if (!ownerOnly && posix) {
+                Files.setPosixFilePermissions(temp, PosixFilePermissions.fromString("rw-r--r--"));
+            }
+            try {
+                Files.createLink(dir.resolve(name), temp);
+            } catch (UnsupportedOperationException e) {
+                Files.move(temp, dir.resolve(name));
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private KeyPair generateKeyPair() {
+        return switch (algorithm) {
+            case "ES256" -> Jwts.SIG.ES256.keyPair().build();
+            case "EdDSA" -> Jwks.CRV.Ed25519.keyPair().build();
+            default -> throw new IllegalStateException("지원하지 않는 서명 알고리즘입니다: " + algorithm);
+        };
+    }
+
+    // UTC 시각 + 임의 8자리 16진수: 여러 노드가 같은 초에 회전해도 kid가 겹치지 않음
+    private static String newKid() {
+        return LocalDateTime.now(ZoneOffset.UTC).format(KID_FORMAT) + "-" + HexFormat.of().toHexDigits(KID_RANDOM.nextInt());
+    }
+
+    // PEM 파일의 키 로드 (알고리즘 교체 중에도 읽을 수 있도록 EC, Ed25519 순서로 시도)
+    private static Object readKey(Path file, boolean publicKey) throws IOException, GeneralSecurityException {
+        String body = Files.readString(file, StandardCharsets.US_ASCII)
+                .replaceAll("-----(BEGIN|END) [A-Z ]+-----", "")
+                .replaceAll("\\s", "");
+        byte[] encoded = Base64.getDecoder().decode(body);
+        GeneralSecurityException last = null;
+        for (String keyAlgorithm : List.of("EC", "Ed25519")) {
+            try {
+                KeyFactory keyFactory = KeyFactory.getInstance(keyAlgorithm);
+                return publicKey
+                        ? keyFactory.generatePublic(new X509EncodedKeySpec(encoded))
+                        : keyFactory.generatePrivate(new PKCS8EncodedKeySpec(encoded));
+            } catch (GeneralSecurityException e) {
+                last = e;
+            }
+        }
+        throw new GeneralSecurityException("키 형식을 알 수 없습니다: " + file, last);
+    }
+
+    private static String pem(String type, byte[] encoded) {
+        return "-----BEGIN " + type + "-----\n"
+                + Base64.getMimeEncoder(64, "\n".getBytes(StandardCharsets.US_ASCII)).encodeToString(encoded)
+                + "\n-----END " + type + "-----\n";
+    }
+
+    private record KeySnapshot(Map<String, PublicKey> verificationKeys, SigningKey signingKey, Map<String, Object> jwks,
+                               String newestKid) {
+
+        static KeySnapshot of(Map<String, PublicKey> publicKeys, SigningKey signingKey, String newestKid) {
+            List<Map<String, Object>> keys = new ArrayList<>();
+            publicKeys.forEach((kid, key) -> {
+                Jwk<?> jwk = Jwks.builder().key(key).id(kid).build();
+                Map<String, Object> json = new LinkedHashMap<>(jwk);
+                json.put("use", "sig");
+                keys.add(json);
+            });
+            return new KeySnapshot(Map.copyOf(publicKeys), signingKey, Map.of("keys", List.copyOf(keys)), newestKid);
+        }
+    }
+}
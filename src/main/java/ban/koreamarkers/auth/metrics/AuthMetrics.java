@@ -0,0 +1,255 @@
+package ban.koreamarkers.auth.metrics;
+
+import ban.koreamarkers.auth.config.PublicRoutes.Route;
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+
+/**
+ * 인증 파이프라인 메트릭 (actuator /actuator/prometheus 로 노출)
+ * - 태그 조합이 고정된 저카디널리티 메트릭만 사용
+ * - 모든 Timer/Counter를 기동 시 미리 등록해두고, 요청 경로에서는 조회/태그 배열 생성 없이 기록만 수행
+ */
+@Component
+public class AuthMetrics {
+
+    public enum JwtResult {SUCCESS, EXPIRED, INVALID}
+
+    public enum TokenSource {HEADER, COOKIE, NONE}
+
+    public enum UserLoadResult {FOUND, NOT_FOUND}
+
+    public enum PasswordOperation {ENCODE, MATCHES}
+
+    public enum RefreshOutcome {SUCCESS, MISSING_TOKEN, INVALID_TOKEN, EXPIRED, NOT_REFRESH_TOKEN, USER_MISMATCH, REVOKED, REUSED, BUSY, TIMEOUT, ERROR}
+
+    public enum RenewalOutcome {RENEWED, NO_REFRESH_TOKEN, REJECTED}
+
+    public enum LoginThrottleOutcome {ALLOWED, REJECTED_IP, REJECTED_USERNAME}
+
+    public enum IntrospectionResult {ACTIVE, INACTIVE}
+
+    public enum PasswordUpgradeOutcome {UPGRADED, FAILED}
+
+    private final MeterRegistry registry;
+    private final Map<JwtResult, Timer> jwtVerify = new EnumMap<>(JwtResult.class);
+    private final Map<TokenSource, Counter> tokenSource = new EnumMap<>(TokenSource.class);
+    private final Map<UserLoadResult, Timer> userLoad = new EnumMap<>(UserLoadResult.class);
+    private final Map<PasswordOperation, Timer> passwordHash = new EnumMap<>(PasswordOperation.class);
+    private final Map<RefreshOutcome, Counter> refresh = new EnumMap<>(RefreshOutcome.class);
+    private final Map<RenewalOutcome, Counter> renewal = new EnumMap<>(RenewalOutcome.class);
+    private final Map<Route, Counter> route = new EnumMap<>(Route.class);
+    private final Map<LoginThrottleOutcome, Counter> loginThrottle = new EnumMap<>(LoginThrottleOutcome.class);
+    private final Map<IntrospectionResult, Counter> introspection = new EnumMap<>(IntrospectionResult.class);
+    private final Map<PasswordUpgradeOutcome, Counter> passwordUpgrade = new EnumMap<>(PasswordUpgradeOutcome.class);
+    private final Counter passwordRejected;
+    private final Counter refreshCoalesced;
+    private final Counter refreshReplayed;
+    private final Counter legacyLogins;
+
+    public AuthMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        for (JwtResult result : JwtResult.values()) {
+            jwtVerify.put(result, Timer.builder("auth.jwt.verify")
+                    .description("JWT 파싱/서명 검증 시간")
+                    .tag("result", tagValue(result))
+                    .register(registry));
+        }
+        for (TokenSource source : TokenSource.values()) {
+            tokenSource.put(source, Counter.builder("auth.token.source")
+                    .description("필터에서 토큰을 찾은 위치")
+                    .tag("source", tagValue(source))
+                    .register(registry));
+        }
+        for (UserLoadResult result : UserLoadResult.values()) {
+            userLoad.put(result, Timer.builder("auth.user.load")
+                    .description("loadUserByUsername 시간 (캐시 포함)")
+                    .tag("result", tagValue(result))
+                    .register(registry));
+        }
+        for (PasswordOperation operation : PasswordOperation.values()) {
+            passwordHash.put(operation, Timer.builder("auth.password.hash")
+                    .description("비밀번호 해싱 시간 (해싱 풀 대기 포함)")
+                    .tag("operation", tagValue(operation))
+                    .register(registry));
+        }
+        for (RefreshOutcome outcome : RefreshOutcome.values()) {
+            refresh.put(outcome, Counter.builder("auth.refresh")
+                    .description("토큰 갱신 결과")
+                    .tag("outcome", tagValue(outcome))
+                    .register(registry));
+        }
+        for (RenewalOutcome outcome : RenewalOutcome.values()) {
+            renewal.put(outcome, Counter.builder("auth.jwt.renewal")
+                    .description("필터의 AccessToken 슬라이딩 갱신 결과 (만료 window 안의 요청만)")
+                    .tag("outcome", tagValue(outcome))
+                    .register(registry));
+        }
+        for (Route value : Route.values()) {
+            route.put(value, Counter.builder("auth.filter.route")
+                    .description("보안 필터 경로 분류 (static/public은 JWT 처리 생략, protected만 처리)")
+                    .tag("route", tagValue(value))
+                    .register(registry));
+        }
+        for (LoginThrottleOutcome outcome : LoginThrottleOutcome.values()) {
+            loginThrottle.put(outcome, Counter.builder("auth.login.throttle")
+                    .description("로그인 시도 제한 결과 (rejected는 사용자 조회/해싱 없이 429)")
+                    .tag("outcome", tagValue(outcome))
+                    .register(registry));
+        }
+        for (IntrospectionResult result : IntrospectionResult.values()) {
+            introspection.put(result, Counter.builder("auth.introspect")
+                    .description("토큰 일괄 조회 결과 (응답 캐시 적중 제외)")
+                    .tag("result", tagValue(result))
+                    .register(registry));
+        }
+        for (PasswordUpgradeOutcome outcome : PasswordUpgradeOutcome.values()) {
+            passwordUpgrade.put(outcome, Counter.builder("auth.password.upgrade")
+                    .description("레거시 해시 백그라운드 재해싱 결과 (다른 요청이 먼저 바꾼 경우 제외)")
+                    .tag("outcome", tagValue(outcome))
+                    .register(registry));
+        }
+        this.passwordRejected = Counter.builder("auth.password.rejected")
+                .description("해싱 풀 포화로 거절된 요청 수")
+                .register(registry);
+        this.refreshCoalesced = Counter.builder("auth.refresh.coalesced")
+                .description("진행 중인 같은 RefreshToken 갱신에 합쳐진 요청 수 (사용자 조회/발급 생략)")
+                .register(registry);
+        this.refreshReplayed = Counter.builder("auth.refresh.replayed")
+                .description("유예 기간 안의 재시도에 보관한 갱신 결과를 다시 돌려준 수 (재사용 감지 생략)")
+                .register(registry);
+        this.legacyLogins = Counter.builder("auth.password.legacy.logins")
+                .description("목표 알고리즘/파라미터가 아닌 해시로 로그인한 횟수")
+                .register(registry);
+    }
+
+    // 스프링 컨텍스트 밖(단위 테스트, 벤치마크)에서 사용하는 인스턴스
+    public static AuthMetrics noop() {
+        return new AuthMetrics(new SimpleMeterRegistry());
+    }
+
+    public void recordJwtVerify(JwtResult result, long nanos) {
+        jwtVerify.get(result).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordTokenSource(TokenSource source) {
+        tokenSource.get(source).increment();
+    }
+
+    public void recordUserLoad(UserLoadResult result, long nanos) {
+        userLoad.get(result).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordPasswordHash(PasswordOperation operation, long nanos) {
+        passwordHash.get(operation).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordPasswordRejected() {
+        passwordRejected.increment();
+    }
+
+    public void recordRefresh(RefreshOutcome outcome) {
+        refresh.get(outcome).increment();
+    }
+
+    public void recordRefreshCoalesced() {
+        refreshCoalesced.increment();
+    }
+
+    public void recordRefreshReplayed() {
+        refreshReplayed.increment();
+    }
+
+    public void recordRenewal(RenewalOutcome outcome) {
+        renewal.get(outcome).increment();
+    }
+
+    public void recordRoute(Route value) {
+        route.get(value).increment();
+    }
+
+    public void recordLoginThrottle(LoginThrottleOutcome outcome) {
+        loginThrottle.get(outcome).increment();
+    }
+
+    public void recordIntrospection(IntrospectionResult result) {
+        introspection.get(result).increment();
+    }
+
+    public void recordLegacyLogin() {
+        legacyLogins.increment();
+    }
+
+    public void recordPasswordUpgrade(PasswordUpgradeOutcome outcome) {
+        passwordUpgrade.get(outcome).increment();
+    }
+
+    // Caffeine 캐시 적중률/크기/제거 수
+    public void bindCache(String name, Cache<?, ?> cache) {
+        CaffeineCacheMetrics.monitor(registry, cache, name);
+    }
+
+    // 해싱 풀 대기열 길이/활성 스레드 수
+    public void bindHashingPool(ThreadPoolExecutor executor) {
+        Gauge.builder("auth.password.pool.queued", executor, e -> e.getQueue().size())
+                .description("해싱 풀 대기열 길이")
+                .register(registry);
+        Gauge.builder("auth.password.pool.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("해싱 중인 스레드 수")
+                .register(registry);
+    }
+
+    // 토큰 갱신 풀 대기열 길이/활성 스레드 수
+    public void bindRefreshPool(ThreadPoolExecutor executor) {
+        Gauge.builder("auth.refresh.pool.queued", executor, e -> e.getQueue().size())
+                .description("토큰 갱신 풀 대기열 길이")
+                .register(registry);
+        Gauge.builder("auth.refresh.pool.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("토큰 갱신 중인 스레드 수")
+                .register(registry);
+    }
+
+    // 토큰 일괄 조회 풀 대기열 길이/활성 스레드 수
+    public void bindIntrospectionPool(ThreadPoolExecutor executor) {
+        Gauge.builder("auth.introspect.pool.queued", executor, e -> e.getQueue().size())
+                .description("토큰 일괄 조회 풀 대기열 길이")
+                .register(registry);
+        Gauge.builder("auth.introspect.pool.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("토큰 일괄 조회 중인 스레드 수")
+                .register(registry);
+    }
+
+    // 폐기된 AccessToken 목록 크기
+    public void bindDenylistSize(IntSupplier size) {
+        Gauge.builder("auth.jwt.denylist.size", size, IntSupplier::getAsInt)
+                .description("폐기 목록에 있는 AccessToken 수 (만료 정리 전 포함)")
+                .strongReference(true)
+                .register(registry);
+    }
+
+    // 아직 레거시 해시로 저장된 계정 수 (주기적으로 계산한 값)
+    // - 게이지는 기본으로 대상을 약한 참조로 잡으므로 메서드 참조 람다가 GC되면 NaN이 됨: 강한 참조로 등록
+    public void bindLegacyAccounts(LongSupplier count) {
+        Gauge.builder("auth.password.legacy.accounts", count, LongSupplier::getAsLong)
+                .description("목표보다 낮은 cost이거나 다른 알고리즘으로 저장된 계정 수")
+                .strongReference(true)
+                .register(registry);
+    }
+
+    private static String tagValue(Enum<?> value) {
+        return value.name().toLowerCase(Locale.ROOT);
+    }
+}
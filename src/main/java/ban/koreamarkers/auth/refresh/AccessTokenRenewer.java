@@ -0,0 +1,77 @@
+package ban.koreamarkers.auth.refresh;
+
+import ban.koreamarkers.auth.cache.VerifiedTokenCache;
+import ban.koreamarkers.auth.metrics.AuthMetrics;
+import ban.koreamarkers.auth.metrics.AuthMetrics.RenewalOutcome;
+import ban.koreamarkers.auth.util.JwtTokenUtil;
+import ban.koreamarkers.auth.util.RequestTokens;
+import ban.koreamarkers.auth.util.TokenCookies;
+import ban.koreamarkers.auth.util.VerifiedToken;
+import io.jsonwebtoken.JwtException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/**
+ * AccessToken 슬라이딩 갱신
+ * - 인증된 요청의 AccessToken이 만료 window 안으로 들어오면 필터에서 바로 새 AccessToken 발급
+ * - 클라이언트가 401을 받고 /api/auth/refresh를 다시 호출하는 왕복 제거
+ * - RefreshToken 쿠키가 같은 사용자의 현재 체인 토큰일 때만 발급 (RefreshToken은 회전하지 않음)
+ */
+@Component
+@RequiredArgsConstructor
+public class AccessTokenRenewer {
+
+    private final JwtTokenUtil jwtTokenUtil;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenCookies tokenCookies;
+    private final AuthMetrics authMetrics;
+
+    @Value("${jwt.renewal.enabled:true}")
+    private boolean enabled;
+
+    @Value("${jwt.renewal.window:120000}") // 만료 2분 전부터 (밀리초)
+    private long windowMillis;
+
+    /**
+     * 만료가 가까우면 새 AccessToken을 쿠키와 Authorization 응답 헤더에 기록
+     * - 같은 토큰으로 동시에 들어온 요청은 각자 발급될 수 있지만, RefreshToken을 회전하지 않으므로 재사용 감지와 충돌 없음
+     *
+     * @return 새 AccessToken을 발급했으면 true
+     */
+    public boolean renewIfExpiring(HttpServletRequest request, HttpServletResponse response,
+                                   VerifiedToken accessToken, UserDetails userDetails) {
+        if (!enabled || accessToken.expiration().toEpochMilli() - Instant.now().toEpochMilli() > windowMillis) {
+            return false;
+        }
+
+        String refreshToken = RequestTokens.resolve(request).refreshTokenCookie();
+        if (refreshToken == null) {
+            authMetrics.recordRenewal(RenewalOutcome.NO_REFRESH_TOKEN);
+            return false;
+        }
+
+        VerifiedToken verifiedRefreshToken;
+        try {
+            verifiedRefreshToken = verifiedTokenCache.verify(refreshToken);
+        } catch (JwtException | IllegalArgumentException e) {
+            authMetrics.recordRenewal(RenewalOutcome.REJECTED);
+            return false;
+        }
+        if (!verifiedRefreshToken.subject().equals(accessToken.subject())
+                || !refreshTokenService.isCurrent(verifiedRefreshToken)) {
+            authMetrics.recordRenewal(RenewalOutcome.REJECTED);
+            return false;
+        }
+
+        tokenCookies.writeAccessToken(response, jwtTokenUtil.generateAccessToken(userDetails));
+        authMetrics.recordRenewal(RenewalOutcome.RENEWED);
+        return true;
+    }
+}
@@ -0,0 +1,199 @@
+package ban.koreamarkers.auth.refresh;
+
+import ban.koreamarkers.auth.metrics.AuthMetrics;
+import ban.koreamarkers.auth.metrics.AuthMetrics.RefreshOutcome;
+import ban.koreamarkers.auth.refresh.RefreshTokenService.Rotation;
+import ban.koreamarkers.auth.refresh.RefreshTokenStore.RotationOutcome;
+import ban.koreamarkers.auth.util.JwtTokenUtil;
+import ban.koreamarkers.auth.util.VerifiedToken;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.jsonwebtoken.JwtException;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 검증이 끝난 RefreshToken으로 새 토큰 발급 (사용자 조회 + 회전 + AccessToken 서명)
+ * - 전용 풀에서 실행하고 CompletableFuture로 반환, 요청 스레드는 DeferredResult로 즉시 반납
+ * - 풀과 대기열이 가득 차면 RejectedExecutionException으로 완료 (503)
+ * - 같은 RefreshToken(jti)의 진행 중인 갱신은 하나로 합침: 사용자 조회/회전/서명 1회, 모든 요청이 같은 결과를 받음
+ *   (동시에 재전송된 요청이 재사용으로 오판되어 체인이 폐기되지 않음)
+ * - reuse-grace-period(기본 0, 사용 안 함)를 켜면 성공한 갱신 결과를 그 기간 동안 jti별로 보관: 응답 시간 초과/유실 뒤
+ *   같은 RefreshToken으로 재시도하면 회전된 토큰이 아직 체인의 현재 토큰일 때 같은 결과를 다시 받음
+ *   (탈취된 이전 토큰도 그 기간에는 재사용 감지 없이 새 토큰을 받으므로 몇 초 이내로만 설정, 재전송 횟수는 auth.refresh.replayed)
+ */
+@Component
+@RequiredArgsConstructor
+public class AsyncTokenRefresher implements DisposableBean {
+
+    private final JwtTokenUtil jwtTokenUtil;
+    private final UserDetailsService userDetailsService;
+    private final RefreshTokenService refreshTokenService;
+    private final AuthMetrics authMetrics;
+
+    @Value("${jwt.refresh-async.pool-size:8}")
+    private int poolSize;
+
+    @Value("${jwt.refresh-async.queue-capacity:256}")
+    private int queueCapacity;
+
+    @Value("${jwt.refresh-async.reuse-grace-period:0}") // 밀리초, 0이면 사용 안 함
+    private long reuseGracePeriod;
+
+    private final ConcurrentHashMap<String, CompletableFuture<Exchange>> inFlight = new ConcurrentHashMap<>();
+
+    // 방금 회전된 RefreshToken jti -> 그 갱신 결과
+    private Cache<String, Exchange> recentlyRotated;
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    void init() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "token-refresh-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        authMetrics.bindRefreshPool(executor);
+        this.recentlyRotated = Caffeine.newBuilder()
+                .expireAfterWrite(Math.max(0, reuseGracePeriod), TimeUnit.MILLISECONDS)
+                .build();
+    }
+
+    public CompletableFuture<Exchange> refresh(VerifiedToken refreshToken) {
+        String key = refreshToken.id();
+        CompletableFuture<Exchange> promise = new CompletableFuture<>();
+        if (key != null) {
+            Exchange recent = recentExchange(key);
+            if (recent != null) {
+                authMetrics.recordRefreshReplayed();
+                return CompletableFuture.completedFuture(recent);
+            }
+            CompletableFuture<Exchange> existing = inFlight.putIfAbsent(key, promise);
+            if (existing != null) {
+                authMetrics.recordRefreshCoalesced();
+                return existing;
+            }
+            // 위 확인과 putIfAbsent 사이에 끝난 갱신
+            recent = recentExchange(key);
+            if (recent != null) {
+                inFlight.remove(key, promise);
+                authMetrics.recordRefreshReplayed();
+                promise.complete(recent);
+                return promise;
+            }
+        }
+
+        try {
+            executor.execute(() -> {
+                Exchange exchange;
+                try {
+                    exchange = exchange(refreshToken);
+                } catch (Throwable e) {
+                    release(key, promise);
+                    promise.completeExceptionally(e);
+                    return;
+                }
+                // inFlight에서 빠지기 전에 보관해서 재시도가 둘 사이로 새지 않도록 함
+                if (key != null && exchange.isSuccess() && reuseGracePeriod > 0) {
+                    recentlyRotated.put(key, exchange);
+                }
+                // 완료 전에 inFlight에서 빼야 결과를 받은 클라이언트의 다음 요청이 끝난 갱신에 합쳐지지 않음
+                release(key, promise);
+                promise.complete(exchange);
+            });
+        } catch (RejectedExecutionException e) {
+            release(key, promise);
+            promise.completeExceptionally(e);
+        }
+        return promise;
+    }
+
+    private void release(String key, CompletableFuture<Exchange> promise) {
+        if (key != null) {
+            inFlight.remove(key, promise);
+        }
+    }
+
+    // 진행 중인 갱신 수 (합쳐진 요청 제외)
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    // 유예 기간 안의 결과 중 회전된 토큰이 아직 현재 토큰인 것 (그 사이 로그아웃/재회전되었으면 null)
+    private Exchange recentExchange(String key) {
+        Exchange recent = recentlyRotated.getIfPresent(key);
+        if (recent == null) {
+            return null;
+        }
+        try {
+            if (refreshTokenService.isCurrent(jwtTokenUtil.verify(recent.refreshToken()))) {
+                return recent;
+            }
+        } catch (JwtException | IllegalArgumentException e) {
+            // 그 사이 만료된 체인
+        }
+        recentlyRotated.invalidate(key);
+        return null;
+    }
+
+    private Exchange exchange(VerifiedToken refreshToken) {
+        UserDetails userDetails = userDetailsService.loadUserByUsername(refreshToken.subject());
+        if (!refreshToken.isValidFor(userDetails)) {
+            return Exchange.rejected(RefreshOutcome.USER_MISMATCH);
+        }
+
+        // RefreshToken 회전 (사용한 토큰은 즉시 무효화)
+        Rotation rotation = refreshTokenService.rotate(refreshToken, userDetails);
+        if (rotation.outcome() == RotationOutcome.REUSED) {
+            return Exchange.rejected(RefreshOutcome.REUSED);
+        }
+        if (rotation.outcome() != RotationOutcome.ROTATED) {
+            return Exchange.rejected(RefreshOutcome.REVOKED);
+        }
+
+        return new Exchange(RefreshOutcome.SUCCESS, jwtTokenUtil.generateAccessToken(userDetails),
+                rotation.refreshToken(), refreshToken.expiration());
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    /**
+     * 갱신 결과
+     * - SUCCESS일 때만 토큰과 RefreshToken 만료 시각(최초 로그인 기준 유지)이 채워짐
+     */
+    public record Exchange(RefreshOutcome outcome, String accessToken, String refreshToken, Instant refreshExpiresAt) {
+
+        static Exchange rejected(RefreshOutcome outcome) {
+            return new Exchange(outcome, null, null, null);
+        }
+
+        public boolean isSuccess() {
+            return outcome == RefreshOutcome.SUCCESS;
+        }
+    }
+}
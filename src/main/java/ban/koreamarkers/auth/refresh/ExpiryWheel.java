@@ -0,0 +1,62 @@
+package ban.koreamarkers.auth.refresh;
+
+import java.time.Instant;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Predicate;
+
+/**
+ * 해시 타임 휠
+ * - 만료 시각을 tick 단위 슬롯에 배치해서 sweep 때 현재까지 지난 슬롯만 확인 (전체 스캔 없음)
+ * - 한 바퀴(slots * tick)보다 먼 만료는 해당 슬롯에 남아 다음 바퀴에 다시 확인
+ */
+class ExpiryWheel {
+
+    private final long tickMillis;
+    private final Queue<String>[] slots;
+    private long lastTick;
+
+    @SuppressWarnings("unchecked")
+    ExpiryWheel(int slotCount, long tickMillis, Instant start) {
+        this.tickMillis = tickMillis;
+        this.slots = new Queue[slotCount];
+        for (int i = 0; i < slotCount; i++) {
+            slots[i] = new ConcurrentLinkedQueue<>();
+        }
+        this.lastTick = start.toEpochMilli() / tickMillis - 1;
+    }
+
+    void schedule(String key, Instant deadline) {
+        slots[slotOf(deadline.toEpochMilli() / tickMillis)].add(key);
+    }
+
+    /**
+     * now까지 지난 슬롯을 돌면서 expireIfDue 호출
+     * - expireIfDue가 false(아직 만료 전)를 반환한 키는 같은 슬롯에 다시 넣음
+     */
+    synchronized int advance(Instant now, Predicate<String> expireIfDue) {
+        long currentTick = now.toEpochMilli() / tickMillis;
+        long from = Math.max(lastTick + 1, currentTick - slots.length + 1);
+        int expired = 0;
+        for (long tick = from; tick <= currentTick; tick++) {
+            Queue<String> slot = slots[slotOf(tick)];
+            for (int remaining = slot.size(); remaining > 0; remaining--) {
+                String key = slot.poll();
+                if (key == null) {
+                    break;
+                }
+                if (expireIfDue.test(key)) {
+                    expired++;
+                } else {
+                    slot.add(key);
+                }
+            }
+        }
+        lastTick = Math.max(lastTick, currentTick);
+        return expired;
+    }
+
+    private int slotOf(long tick) {
+        return (int) Math.floorMod(tick, (long) slots.length);
+    }
+}
@@ -0,0 +1,120 @@
+package ban.koreamarkers.auth.refresh;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 단일 노드용 RefreshToken 저장소
+ * - familyId -> 엔트리 ConcurrentHashMap, 갱신 경로는 compute 한 번 (O(1), 원자적)
+ * - 사용자별 familyId 인덱스로 사용자 단위 폐기
+ * - 만료 엔트리는 타임 휠 sweep에서 제거되므로 메모리에 쌓이지 않음
+ */
+@Component
+@ConditionalOnProperty(name = "jwt.refresh-store.type", havingValue = "memory", matchIfMissing = true)
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+
+    private static final int WHEEL_SLOTS = 1024;
+
+    private final Map<String, RefreshTokenEntry> entries = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> familiesByUser = new ConcurrentHashMap<>();
+    private final ExpiryWheel expiryWheel;
+
+    public InMemoryRefreshTokenStore(@Value("${jwt.refresh-store.sweep-interval:60000}") long sweepIntervalMillis) {
+        this.expiryWheel = new ExpiryWheel(WHEEL_SLOTS, sweepIntervalMillis, Instant.now());
+    }
+
+    @Override
+    public void save(RefreshTokenEntry entry) {
+        entries.put(entry.familyId(), entry);
+        familiesByUser.computeIfAbsent(entry.username(), username -> ConcurrentHashMap.newKeySet())
+                .add(entry.familyId());
+        expiryWheel.schedule(entry.familyId(), entry.expiresAt());
+    }
+
+    @Override
+    public RotationOutcome rotate(String familyId, String presentedTokenId, String nextTokenId) {
+        Instant now = Instant.now();
+        AtomicReference<RotationOutcome> outcome = new AtomicReference<>(RotationOutcome.NOT_FOUND);
+        AtomicReference<RefreshTokenEntry> removed = new AtomicReference<>();
+        entries.computeIfPresent(familyId, (id, entry) -> {
+            if (entry.isExpired(now)) {
+                removed.set(entry);
+                return null;
+            }
+            if (!entry.tokenId().equals(presentedTokenId)) {
+                // 이미 회전된 토큰 재사용: 체인 전체 폐기
+                outcome.set(RotationOutcome.REUSED);
+                removed.set(entry);
+                return null;
+            }
+            outcome.set(RotationOutcome.ROTATED);
+            return entry.withTokenId(nextTokenId);
+        });
+        if (removed.get() != null) {
+            unindex(removed.get());
+        }
+        return outcome.get();
+    }
+
+    @Override
+    public boolean isCurrent(String familyId, String tokenId, Instant now) {
+        RefreshTokenEntry entry = entries.get(familyId);
+        return entry != null && !entry.isExpired(now) && entry.tokenId().equals(tokenId);
+    }
+
+    @Override
+    public void revoke(String familyId) {
+        RefreshTokenEntry entry = entries.remove(familyId);
+        if (entry != null) {
+            unindex(entry);
+        }
+    }
+
+    @Override
+    public void revokeAllForUser(String username) {
+        Set<String> families = familiesByUser.remove(username);
+        if (families != null) {
+            families.forEach(entries::remove);
+        }
+    }
+
+    @Override
+    public int purgeExpired(Instant now) {
+        AtomicInteger purged = new AtomicInteger();
+        expiryWheel.advance(now, familyId -> {
+            RefreshTokenEntry entry = entries.get(familyId);
+            if (entry == null) {
+                // 이미 폐기됨
+                return true;
+            }
+            if (!entry.isExpired(now)) {
+                return false;
+            }
+            if (entries.remove(familyId, entry)) {
+                unindex(entry);
+                purged.incrementAndGet();
+            }
+            return true;
+        });
+        return purged.get();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void unindex(RefreshTokenEntry entry) {
+        familiesByUser.computeIfPresent(entry.username(), (username, families) -> {
+            families.remove(entry.familyId());
+            return families.isEmpty() ? null : families;
+        });
+    }
+}
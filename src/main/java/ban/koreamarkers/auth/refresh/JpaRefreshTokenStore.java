@@ -0,0 +1,82 @@
+package ban.koreamarkers.auth.refresh;
+
+import ban.koreamarkers.domain.RefreshToken;
+import ban.koreamarkers.repository.RefreshTokenRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 클러스터용 RefreshToken 저장소 (refresh_tokens 테이블)
+ * - 회전은 "현재 jti가 일치하면 교체" 조건부 UPDATE 한 번이라 노드 간 경합에도 한 요청만 성공
+ * - 만료 정리는 cleanup-batch-size 단위로 나눠서 삭제 (긴 트랜잭션/락 방지)
+ */
+@Component
+@ConditionalOnProperty(name = "jwt.refresh-store.type", havingValue = "jpa")
+@RequiredArgsConstructor
+public class JpaRefreshTokenStore implements RefreshTokenStore {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    @Value("${jwt.refresh-store.cleanup-batch-size:1000}")
+    private int cleanupBatchSize;
+
+    @Override
+    @Transactional
+    public void save(RefreshTokenEntry entry) {
+        refreshTokenRepository.save(new RefreshToken(
+                entry.familyId(), entry.username(), entry.tokenId(), entry.expiresAt()));
+    }
+
+    @Override
+    @Transactional
+    public RotationOutcome rotate(String familyId, String presentedTokenId, String nextTokenId) {
+        Instant now = Instant.now();
+        if (refreshTokenRepository.rotate(familyId, presentedTokenId, nextTokenId, now) == 1) {
+            return RotationOutcome.ROTATED;
+        }
+        // 체인은 살아있는데 jti가 다르면 재사용
+        if (refreshTokenRepository.deleteActiveFamily(familyId, now) > 0) {
+            return RotationOutcome.REUSED;
+        }
+        return RotationOutcome.NOT_FOUND;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean isCurrent(String familyId, String tokenId, Instant now) {
+        return refreshTokenRepository.existsByFamilyIdAndTokenIdAndExpiresAtAfter(familyId, tokenId, now);
+    }
+
+    @Override
+    @Transactional
+    public void revoke(String familyId) {
+        refreshTokenRepository.deleteByFamilyId(familyId);
+    }
+
+    @Override
+    @Transactional
+    public void revokeAllForUser(String username) {
+        refreshTokenRepository.deleteByUsername(username);
+    }
+
+    @Override
+    public int purgeExpired(Instant now) {
+        int purged = 0;
+        List<String> expired;
+        do {
+            expired = refreshTokenRepository.findExpiredFamilyIds(now, PageRequest.of(0, cleanupBatchSize));
+            if (!expired.isEmpty()) {
+                refreshTokenRepository.deleteAllByIdInBatch(expired);
+                purged += expired.size();
+            }
+        } while (expired.size() == cleanupBatchSize);
+        return purged;
+    }
+}
@@ -0,0 +1,20 @@
+package ban.koreamarkers.auth.refresh;
+
+import java.time.Instant;
+
+/**
+ * 로그인 한 번에서 이어지는 RefreshToken 회전 체인의 서버 측 상태
+ * - familyId: 체인 식별자 (토큰의 fid 클레임), 저장소 키
+ * - tokenId: 현재 유효한 토큰의 jti, 회전할 때마다 교체
+ * - 사용된 jti마다 엔트리를 남기지 않고 체인당 하나만 유지해서 회전이 잦아도 메모리가 늘지 않음
+ */
+public record RefreshTokenEntry(String familyId, String username, String tokenId, Instant expiresAt) {
+
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+
+    public RefreshTokenEntry withTokenId(String nextTokenId) {
+        return new RefreshTokenEntry(familyId, username, nextTokenId, expiresAt);
+    }
+}
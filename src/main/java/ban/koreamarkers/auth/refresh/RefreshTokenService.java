@@ -0,0 +1,92 @@
+package ban.koreamarkers.auth.refresh;
+
+import ban.koreamarkers.auth.refresh.RefreshTokenStore.RotationOutcome;
+import ban.koreamarkers.auth.util.JwtTokenUtil;
+import ban.koreamarkers.auth.util.VerifiedToken;
+import io.jsonwebtoken.JwtException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * RefreshToken 발급/회전/폐기
+ * - 로그인 시 새 체인(familyId) 생성 후 저장소에 등록
+ * - 갱신 시 사용한 토큰은 즉시 무효화하고 같은 체인의 새 토큰 발급 (만료 시각은 최초 로그인 기준 유지)
+ * - 이미 회전된 토큰이 다시 오면 체인 전체 폐기
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenService {
+
+    private final JwtTokenUtil jwtTokenUtil;
+    private final RefreshTokenStore refreshTokenStore;
+
+    public String issue(UserDetails userDetails) {
+        String familyId = JwtTokenUtil.newTokenId();
+        String tokenId = JwtTokenUtil.newTokenId();
+        // JWT exp는 초 단위
+        Instant expiresAt = Instant.now()
+                .plusMillis(jwtTokenUtil.getRefreshTokenExpiration())
+                .truncatedTo(ChronoUnit.SECONDS);
+        refreshTokenStore.save(new RefreshTokenEntry(familyId, userDetails.getUsername(), tokenId, expiresAt));
+        return jwtTokenUtil.generateRefreshToken(userDetails, tokenId, familyId, expiresAt);
+    }
+
+    /**
+     * 검증이 끝난 RefreshToken 회전
+     * - 저장소에 없는 토큰(로그아웃, 만료 정리, 이전 버전에서 발급)은 NOT_FOUND
+     */
+    public Rotation rotate(VerifiedToken refreshToken, UserDetails userDetails) {
+        if (refreshToken.id() == null || refreshToken.familyId() == null) {
+            return new Rotation(RotationOutcome.NOT_FOUND, null);
+        }
+
+        String nextTokenId = JwtTokenUtil.newTokenId();
+        RotationOutcome outcome = refreshTokenStore.rotate(refreshToken.familyId(), refreshToken.id(), nextTokenId);
+        if (outcome == RotationOutcome.REUSED) {
+            log.warn("RefreshToken 재사용 감지, 체인 폐기: username={}, familyId={}",
+                    refreshToken.subject(), refreshToken.familyId());
+        }
+        if (outcome != RotationOutcome.ROTATED) {
+            return new Rotation(outcome, null);
+        }
+        return new Rotation(outcome, jwtTokenUtil.generateRefreshToken(
+                userDetails, nextTokenId, refreshToken.familyId(), refreshToken.expiration()));
+    }
+
+    /**
+     * 검증이 끝난 RefreshToken이 체인의 현재 토큰인지 확인 (회전하지 않음)
+     * - 필터의 슬라이딩 갱신용: 동시 요청이 같은 RefreshToken을 제시해도 재사용으로 오판하지 않음
+     */
+    public boolean isCurrent(VerifiedToken refreshToken) {
+        return refreshToken.isRefreshToken()
+                && refreshToken.id() != null
+                && refreshToken.familyId() != null
+                && refreshTokenStore.isCurrent(refreshToken.familyId(), refreshToken.id(), Instant.now());
+    }
+
+    // 로그아웃: 토큰이 속한 체인 폐기
+    public void revoke(String refreshToken) {
+        try {
+            VerifiedToken verifiedToken = jwtTokenUtil.verify(refreshToken);
+            if (verifiedToken.isRefreshToken() && verifiedToken.familyId() != null) {
+                refreshTokenStore.revoke(verifiedToken.familyId());
+            }
+        } catch (JwtException | IllegalArgumentException e) {
+            // 이미 유효하지 않은 토큰은 폐기할 필요 없음
+        }
+    }
+
+    // 사용자의 모든 RefreshToken 폐기 (AccessToken까지 폐기하려면 UserTokenRevocationService 사용)
+    public void revokeAll(String username) {
+        refreshTokenStore.revokeAllForUser(username);
+    }
+
+    public record Rotation(RotationOutcome outcome, String refreshToken) {
+    }
+}
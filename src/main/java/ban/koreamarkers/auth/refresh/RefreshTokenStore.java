@@ -0,0 +1,38 @@
+package ban.koreamarkers.auth.refresh;
+
+import java.time.Instant;
+
+/**
+ * RefreshToken 저장소
+ * - memory: 단일 노드용 ConcurrentHashMap + 타임 휠 만료
+ * - jpa: 클러스터용 refresh_tokens 테이블 + 배치 만료 정리
+ * - jwt.refresh-store.type 으로 선택
+ */
+public interface RefreshTokenStore {
+
+    void save(RefreshTokenEntry entry);
+
+    /**
+     * 제시된 jti가 체인의 현재 토큰이면 nextTokenId로 교체 (원자적)
+     * - 이미 회전된 jti가 다시 제시되면 탈취로 보고 체인 전체 폐기 후 REUSED
+     */
+    RotationOutcome rotate(String familyId, String presentedTokenId, String nextTokenId);
+
+    // 제시된 jti가 만료되지 않은 체인의 현재 토큰인지 확인 (회전하지 않음)
+    boolean isCurrent(String familyId, String tokenId, Instant now);
+
+    // 체인 하나 폐기 (로그아웃)
+    void revoke(String familyId);
+
+    // 사용자의 모든 체인 폐기
+    void revokeAllForUser(String username);
+
+    // 만료된 체인 정리, 정리한 개수 반환
+    int purgeExpired(Instant now);
+
+    enum RotationOutcome {
+        ROTATED,
+        REUSED,
+        NOT_FOUND
+    }
+}
@@ -0,0 +1,25 @@
+package ban.koreamarkers.auth.refresh;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+// 만료된 RefreshToken 체인 주기적 정리
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenSweeper {
+
+    private final RefreshTokenStore refreshTokenStore;
+
+    @Scheduled(fixedDelayString = "${jwt.refresh-store.sweep-interval:60000}")
+    public void sweep() {
+        int purged = refreshTokenStore.purgeExpired(Instant.now());
+        if (purged > 0) {
+            log.debug("만료된 RefreshToken 정리: {}건", purged);
+        }
+    }
+}
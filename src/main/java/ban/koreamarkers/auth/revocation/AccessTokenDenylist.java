@@ -0,0 +1,180 @@
+package ban.koreamarkers.auth.revocation;
+
+import ban.koreamarkers.auth.metrics.AuthMetrics;
+import ban.koreamarkers.auth.util.VerifiedToken;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * 폐기된 AccessToken jti 목록 (로그아웃 후 exp까지 거부)
+ * - jti 문자열 대신 64비트 지문을 long 배열 하나에 [지문, 만료(초)] 쌍으로 저장하는 open addressing 해시 집합
+ *   (엔트리당 16바이트, 박싱/노드 객체 없음)
+ * - 조회는 StampedLock 낙관적 읽기라 락 없이 배열 탐색만 수행, 목록이 비어 있으면 즉시 반환
+ * - 만료된 엔트리는 조회 시 무시하고 sweep 때 테이블을 다시 만들면서 제거
+ * - 폐기는 RevocationBroadcaster로 다른 노드에 전파
+ */
+@Component
+@RequiredArgsConstructor
+public class AccessTokenDenylist {
+
+    private static final long EMPTY = 0L;
+    private static final int INITIAL_SLOTS = 1024;
+
+    private final RevocationBroadcaster broadcaster;
+    private final AuthMetrics authMetrics;
+
+    private final StampedLock lock = new StampedLock();
+    private long[] table = new long[INITIAL_SLOTS * 2];
+    private volatile int size;
+
+    @PostConstruct
+    void init() {
+        broadcaster.subscribe(this::apply);
+        authMetrics.bindDenylistSize(this::size);
+    }
+
+    // 로그아웃한 AccessToken 폐기 (jti가 없는 이전 토큰은 대상 아님)
+    public void revoke(VerifiedToken verifiedToken) {
+        if (verifiedToken.id() == null || !verifiedToken.isAccessToken()) {
+            return;
+        }
+        TokenRevocation revocation = new TokenRevocation(verifiedToken.id(), verifiedToken.expiration());
+        apply(revocation);
+        broadcaster.publish(revocation);
+    }
+
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null || size == 0) {
+            return false;
+        }
+        long key = fingerprint(tokenId);
+        long now = System.currentTimeMillis() / 1000;
+
+        long stamp = lock.tryOptimisticRead();
+        boolean revoked = probe(table, key, now);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                revoked = probe(table, key, now);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return revoked;
+    }
+
+    // 로컬 폐기 및 다른 노드에서 받은 폐기 반영 (멱등)
+    void apply(TokenRevocation revocation) {
+        long expiresAt = revocation.expiresAt().getEpochSecond();
+        if (expiresAt <= Instant.now().getEpochSecond()) {
+            return;
+        }
+        long key = fingerprint(revocation.tokenId());
+
+        long stamp = lock.writeLock();
+        try {
+            // 적재율 0.5 초과 시 슬롯 수 2배
+            if ((size + 1) * 2 > table.length / 2) {
+                rebuild(table.length, Instant.now().getEpochSecond());
+            }
+            if (insert(table, key, expiresAt)) {
+                size++;
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    // 만료된 엔트리 제거 (테이블 재구성)
+    @Scheduled(fixedDelayString = "${jwt.denylist.sweep-interval:60000}")
+    public void purgeExpired() {
+        if (size == 0) {
+            return;
+        }
+        long stamp = lock.writeLock();
+        try {
+            long now = Instant.now().getEpochSecond();
+            int live = 0;
+            for (int i = 0; i < table.length; i += 2) {
+                if (table[i] != EMPTY && table[i + 1] > now) {
+                    live++;
+                }
+            }
+            int slots = INITIAL_SLOTS;
+            while (live * 2 > slots / 2) {
+                slots *= 2;
+            }
+            rebuild(slots, now);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private static boolean probe(long[] table, long key, long now) {
+        int mask = (table.length >>> 1) - 1;
+        for (int slot = spread(key) & mask; ; slot = (slot + 1) & mask) {
+            long candidate = table[slot << 1];
+            if (candidate == EMPTY) {
+                return false;
+            }
+            if (candidate == key) {
+                return table[(slot << 1) + 1] > now;
+            }
+        }
+    }
+
+    // 새 엔트리면 true, 이미 있으면 만료 시각만 늘리고 false
+    private static boolean insert(long[] table, long key, long expiresAt) {
+        int mask = (table.length >>> 1) - 1;
+        for (int slot = spread(key) & mask; ; slot = (slot + 1) & mask) {
+            long candidate = table[slot << 1];
+            if (candidate == EMPTY) {
+                table[(slot << 1) + 1] = expiresAt;
+                table[slot << 1] = key;
+                return true;
+            }
+            if (candidate == key) {
+                table[(slot << 1) + 1] = Math.max(table[(slot << 1) + 1], expiresAt);
+                return false;
+            }
+        }
+    }
+
+    // 쓰기 락 안에서 호출: 만료되지 않은 엔트리만 slots 크기의 새 테이블로 옮김
+    private void rebuild(int slots, long now) {
+        long[] rebuilt = new long[slots * 2];
+        int live = 0;
+        for (int i = 0; i < table.length; i += 2) {
+            if (table[i] != EMPTY && table[i + 1] > now && insert(rebuilt, table[i], table[i + 1])) {
+                live++;
+            }
+        }
+        table = rebuilt;
+        size = live;
+    }
+
+    // jti 문자열의 64비트 지문 (FNV-1a + SplitMix64), 0은 빈 슬롯 표시용이라 제외
+    static long fingerprint(String tokenId) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < tokenId.length(); i++) {
+            hash = (hash ^ tokenId.charAt(i)) * 0x100000001b3L;
+        }
+        hash = (hash ^ (hash >>> 30)) * 0xbf58476d1ce4e5b9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94d049bb133111ebL;
+        hash ^= hash >>> 31;
+        return hash == EMPTY ? 1L : hash;
+    }
+
+    private static int spread(long key) {
+        return (int) (key ^ (key >>> 32));
+    }
+}
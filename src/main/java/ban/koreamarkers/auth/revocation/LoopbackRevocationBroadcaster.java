@@ -0,0 +1,31 @@
+package ban.koreamarkers.auth.revocation;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 같은 JVM 안의 구독자에게만 동기 전달하는 채널 (단일 노드, 테스트용)
+ * - 테스트에서는 인스턴스 하나를 여러 AccessTokenDenylist가 공유해서 다중 노드를 흉내낼 수 있음
+ */
+@Component
+@ConditionalOnProperty(name = "jwt.denylist.broadcaster", havingValue = "loopback", matchIfMissing = true)
+public class LoopbackRevocationBroadcaster implements RevocationBroadcaster {
+
+    private final List<Consumer<TokenRevocation>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(TokenRevocation revocation) {
+        for (Consumer<TokenRevocation> listener : listeners) {
+            listener.accept(revocation);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<TokenRevocation> listener) {
+        listeners.add(listener);
+    }
+}
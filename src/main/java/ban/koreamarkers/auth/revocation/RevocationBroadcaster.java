@@ -0,0 +1,16 @@
+package ban.koreamarkers.auth.revocation;
+
+import java.util.function.Consumer;
+
+/**
+ * AccessToken 폐기 이벤트 전파 채널
+ * - 구현체는 publish된 이벤트를 (자기 자신을 포함한) 모든 노드의 구독자에게 전달
+ * - 수신 측 처리는 멱등이어야 함 (같은 이벤트가 여러 번 올 수 있음)
+ * - jwt.denylist.broadcaster 로 선택, 기본은 단일 JVM 안에서만 전달하는 loopback
+ */
+public interface RevocationBroadcaster {
+
+    void publish(TokenRevocation revocation);
+
+    void subscribe(Consumer<TokenRevocation> listener);
+}
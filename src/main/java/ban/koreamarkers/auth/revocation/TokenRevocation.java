@@ -0,0 +1,10 @@
+package ban.koreamarkers.auth.revocation;
+
+import java.time.Instant;
+
+/**
+ * 노드 간 전파되는 AccessToken 폐기 이벤트
+ * - expiresAt 이후에는 토큰 자체가 만료되므로 수신 측도 그때까지만 보관
+ */
+public record TokenRevocation(String tokenId, Instant expiresAt) {
+}
@@ -0,0 +1,50 @@
+package ban.koreamarkers.auth.revocation;
+
+import ban.koreamarkers.auth.util.VerifiedToken;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 "이 시각까지 발급된 토큰은 무효" 기준 시각
+ * - stateless 모드에서도 DB 조회 없이 강제 로그아웃(전체 토큰 폐기) 가능
+ * - 요청 경로에서는 ConcurrentHashMap 조회 한 번만 수행
+ * - 노드 로컬 기준: 다른 노드의 AccessToken은 RefreshToken 체인 폐기로 최대 AccessToken 수명 안에 만료
+ * - 기준 시각 + AccessToken 수명이 지나면 그 이전 토큰은 모두 만료됐으므로 sweep 때 제거
+ */
+@Component
+public class TokenVersionRegistry {
+
+    private final Map<String, Instant> validAfter = new ConcurrentHashMap<>();
+
+    @Value("${jwt.access-token-expiration:900000}") // 15분 (밀리초)
+    private long accessTokenExpiration;
+
+    // 해당 사용자에게 지금까지 발급된 모든 토큰 무효화
+    public void revokeAll(String username) {
+        // iat는 초 단위라 폐기 시각이 속한 초에 발급된 토큰까지 모두 무효 (같은 초의 재로그인도 한 번 더 로그인 필요)
+        validAfter.put(username, Instant.now().truncatedTo(ChronoUnit.SECONDS));
+    }
+
+    // 폐기 기준 시각 이전(같은 초 포함)에 발급된 토큰인지 확인
+    public boolean isRevoked(VerifiedToken verifiedToken) {
+        Instant threshold = validAfter.get(verifiedToken.subject());
+        return threshold != null && !verifiedToken.issuedAt().isAfter(threshold);
+    }
+
+    // 더 이상 살아 있는 토큰을 막지 않는 기준 시각 제거 (AccessTokenDenylist와 같은 주기)
+    @Scheduled(fixedDelayString = "${jwt.denylist.sweep-interval:60000}")
+    public void sweep() {
+        Instant cutoff = Instant.now().minusMillis(accessTokenExpiration);
+        validAfter.values().removeIf(threshold -> threshold.isBefore(cutoff));
+    }
+
+    public int size() {
+        return validAfter.size();
+    }
+}
@@ -0,0 +1,26 @@
+package ban.koreamarkers.auth.revocation;
+
+import ban.koreamarkers.auth.refresh.RefreshTokenService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * 사용자 단위 전체 토큰 폐기 (모든 기기 로그아웃, 비밀번호 변경/계정 탈취 대응)
+ * - RefreshToken 체인을 모두 폐기해서 더 이상 갱신 불가
+ * - 이미 발급된 AccessToken은 TokenVersionRegistry 기준 시각으로 즉시 거부 (exp까지 기다리지 않음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserTokenRevocationService {
+
+    private final RefreshTokenService refreshTokenService;
+    private final TokenVersionRegistry tokenVersionRegistry;
+
+    public void revokeAll(String username) {
+        refreshTokenService.revokeAll(username);
+        tokenVersionRegistry.revokeAll(username);
+        log.info("사용자 전체 토큰 폐기: username={}", username);
+    }
+}
@@ -0,0 +1,105 @@
+package ban.koreamarkers.auth.throttle;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 단일 노드용 토큰 버킷 저장소
+ * - 키 해시로 고른 스트라이프(ConcurrentHashMap)에 버킷 보관, 정리는 스트라이프 단위로 진행
+ * - 버킷 상태는 (마지막 갱신 시각 << 20 | milli-token) long 하나, 소비는 락 없이 CAS 재시도
+ * - 정리 중 지워진 버킷에 동시에 소비한 시도는 새 버킷에 반영되지 않을 수 있음 (가득 찬 버킷만 지우므로 최대 1회 차이)
+ */
+@Component
+@ConditionalOnProperty(name = "login-throttle.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryRateLimitStore implements RateLimitStore {
+
+    private static final int STRIPES = 16;
+    private static final int TOKEN_BITS = 20;
+    private static final long TOKEN_MASK = (1L << TOKEN_BITS) - 1;
+
+    // 시각은 기준 시점으로부터의 밀리초 (44비트)
+    private final long epochMillis = System.currentTimeMillis();
+
+    @SuppressWarnings("unchecked")
+    private final ConcurrentHashMap<String, Bucket>[] stripes = new ConcurrentHashMap[STRIPES];
+
+    public InMemoryRateLimitStore() {
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new ConcurrentHashMap<>();
+        }
+    }
+
+    @Override
+    public boolean tryConsume(String key, RateLimit limit, long nowMillis) {
+        long now = Math.max(0L, nowMillis - epochMillis);
+        ConcurrentHashMap<String, Bucket> stripe = stripe(key);
+        Bucket bucket = stripe.get(key);
+        if (bucket == null) {
+            bucket = stripe.computeIfAbsent(key, k -> new Bucket(limit, now));
+        }
+        return bucket.tryConsume(now);
+    }
+
+    @Override
+    public int evictIdle(long nowMillis) {
+        long now = Math.max(0L, nowMillis - epochMillis);
+        int evicted = 0;
+        for (ConcurrentHashMap<String, Bucket> stripe : stripes) {
+            int before = stripe.size();
+            stripe.values().removeIf(bucket -> bucket.isFull(now));
+            evicted += before - stripe.size();
+        }
+        return Math.max(0, evicted);
+    }
+
+    public int size() {
+        int size = 0;
+        for (ConcurrentHashMap<String, Bucket> stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    private ConcurrentHashMap<String, Bucket> stripe(String key) {
+        int hash = key.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (STRIPES - 1)];
+    }
+
+    private static final class Bucket {
+
+        private final RateLimit limit;
+        private final AtomicLong state;
+
+        Bucket(RateLimit limit, long now) {
+            this.limit = limit;
+            this.state = new AtomicLong(pack(now, limit.capacityMilli()));
+        }
+
+        boolean tryConsume(long now) {
+            while (true) {
+                long current = state.get();
+                long last = current >>> TOKEN_BITS;
+                long tokens = limit.refill(current & TOKEN_MASK, last, now);
+                if (tokens < RateLimit.MILLI) {
+                    return false;
+                }
+                // 다른 스레드가 더 늦은 시각으로 갱신했으면 시각을 되돌리지 않음
+                if (state.compareAndSet(current, pack(Math.max(now, last), tokens - RateLimit.MILLI))) {
+                    return true;
+                }
+            }
+        }
+
+        boolean isFull(long now) {
+            long current = state.get();
+            return limit.refill(current & TOKEN_MASK, current >>> TOKEN_BITS, now) >= limit.capacityMilli();
+        }
+
+        private static long pack(long now, long milliTokens) {
+            return now << TOKEN_BITS | milliTokens;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package ban.koreamarkers.auth.throttle;
+
+import ban.koreamarkers.domain.LoginRateLimit;
+import ban.koreamarkers.repository.LoginRateLimitRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+/**
+ * 클러스터용 토큰 버킷 저장소 (login_rate_limits 테이블)
+ * - 읽기 후 "읽은 값 그대로일 때만 갱신" 조건부 UPDATE로 노드 간 경합에도 토큰이 중복 소비되지 않음
+ * - 같은 키에 경합이 계속되면 거부 (공격 상황으로 간주)
+ * - 노드 간 시계 차이만큼 회복 속도가 달라질 수 있음 (NTP 동기화 전제)
+ */
+@Component
+@ConditionalOnProperty(name = "login-throttle.store", havingValue = "jpa")
+@RequiredArgsConstructor
+public class JpaRateLimitStore implements RateLimitStore {
+
+    private static final int MAX_ATTEMPTS = 4;
+
+    private final LoginRateLimitRepository loginRateLimitRepository;
+
+    @Override
+    public boolean tryConsume(String key, RateLimit limit, long nowMillis) {
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            LoginRateLimit bucket = loginRateLimitRepository.findById(key).orElse(null);
+            if (bucket == null) {
+                long tokens = limit.capacityMilli() - RateLimit.MILLI;
+                try {
+                    loginRateLimitRepository.insert(key, tokens, nowMillis, limit.fullAt(tokens, nowMillis));
+                    return true;
+                } catch (DataIntegrityViolationException e) {
+                    // 다른 노드가 먼저 생성: 다시 읽어서 소비
+                    continue;
+                }
+            }
+
+            long tokens = limit.refill(bucket.getMilliTokens(), bucket.getUpdatedAtMillis(), nowMillis);
+            if (tokens < RateLimit.MILLI) {
+                return false;
+            }
+            long next = tokens - RateLimit.MILLI;
+            long updatedAt = Math.max(nowMillis, bucket.getUpdatedAtMillis());
+            if (loginRateLimitRepository.compareAndSet(key, bucket.getMilliTokens(), bucket.getUpdatedAtMillis(),
+                    next, updatedAt, limit.fullAt(next, updatedAt)) == 1) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int evictIdle(long nowMillis) {
+        return loginRateLimitRepository.deleteFull(nowMillis);
+    }
+}
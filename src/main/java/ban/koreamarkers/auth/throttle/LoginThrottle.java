@@ -0,0 +1,92 @@
+package ban.koreamarkers.auth.throttle;
+
+import ban.koreamarkers.auth.metrics.AuthMetrics;
+import ban.koreamarkers.auth.metrics.AuthMetrics.LoginThrottleOutcome;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+/**
+ * 로그인 시도 제한 (IP별, 사용자명별 토큰 버킷)
+ * - 사용자 조회와 BCrypt 비교 전에 확인해서 크리덴셜 스터핑 시 해싱 비용을 치르지 않음
+ * - IP 버킷을 먼저 확인하고 통과한 경우에만 사용자명 버킷 생성 (임의 사용자명으로 메모리를 채우는 것 방지)
+ * - 사용자명은 대소문자/공백 변형으로 우회하지 못하도록 정규화
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LoginThrottle {
+
+    private static final int MAX_USERNAME_KEY_LENGTH = 100;
+
+    private final RateLimitStore rateLimitStore;
+    private final AuthMetrics authMetrics;
+
+    @Value("${login-throttle.enabled:true}")
+    private boolean enabled;
+
+    @Value("${login-throttle.username.capacity:5}")
+    private int usernameCapacity;
+
+    @Value("${login-throttle.username.refill-period:12000}") // 분당 5회 (밀리초)
+    private long usernameRefillPeriod;
+
+    @Value("${login-throttle.ip.capacity:50}")
+    private int ipCapacity;
+
+    @Value("${login-throttle.ip.refill-period:1200}") // 분당 50회 (밀리초)
+    private long ipRefillPeriod;
+
+    private RateLimit usernameLimit;
+    private RateLimit ipLimit;
+
+    @PostConstruct
+    void init() {
+        this.usernameLimit = new RateLimit(usernameCapacity, usernameRefillPeriod);
+        this.ipLimit = new RateLimit(ipCapacity, ipRefillPeriod);
+    }
+
+    public LoginThrottleOutcome check(String ip, String username) {
+        if (!enabled) {
+            return LoginThrottleOutcome.ALLOWED;
+        }
+        long now = System.currentTimeMillis();
+        LoginThrottleOutcome outcome;
+        if (ip != null && !rateLimitStore.tryConsume("ip:" + ip, ipLimit, now)) {
+            outcome = LoginThrottleOutcome.REJECTED_IP;
+        } else if (username != null && !username.isBlank()
+                && !rateLimitStore.tryConsume("user:" + normalize(username), usernameLimit, now)) {
+            outcome = LoginThrottleOutcome.REJECTED_USERNAME;
+        } else {
+            outcome = LoginThrottleOutcome.ALLOWED;
+        }
+        authMetrics.recordLoginThrottle(outcome);
+        return outcome;
+    }
+
+    // 거부된 경우 다음 토큰이 채워질 때까지의 최대 시간 (Retry-After 헤더, 초)
+    public long retryAfterSeconds(LoginThrottleOutcome outcome) {
+        long periodMillis = outcome == LoginThrottleOutcome.REJECTED_IP ? ipRefillPeriod : usernameRefillPeriod;
+        return Math.max(1L, (periodMillis + 999) / 1000);
+    }
+
+    @Scheduled(fixedDelayString = "${login-throttle.sweep-interval:60000}")
+    public void evictIdle() {
+        int evicted = rateLimitStore.evictIdle(System.currentTimeMillis());
+        if (evicted > 0) {
+            log.debug("유휴 로그인 버킷 정리: {}건", evicted);
+        }
+    }
+
+    private static String normalize(String username) {
+        String normalized = username.strip().toLowerCase(Locale.ROOT);
+        return normalized.length() > MAX_USERNAME_KEY_LENGTH
+                ? normalized.substring(0, MAX_USERNAME_KEY_LENGTH)
+                : normalized;
+    }
+}
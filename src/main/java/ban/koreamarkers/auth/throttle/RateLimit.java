@@ -0,0 +1,43 @@
+package ban.koreamarkers.auth.throttle;
+
+/**
+ * 토큰 버킷 설정
+ * - capacity: 연속으로 허용하는 최대 시도 수
+ * - refillPeriodMillis: 토큰 1개가 다시 채워지는 시간
+ * - 저장소는 소수 토큰을 1/1000 단위 정수(milli-token)로 다룸
+ */
+public record RateLimit(int capacity, long refillPeriodMillis) {
+
+    static final long MILLI = 1000L;
+
+    // InMemoryRateLimitStore가 상태를 long 하나에 담기 위한 상한 (20비트)
+    static final int MAX_CAPACITY = (int) (((1L << 20) - 1) / MILLI);
+
+    public RateLimit {
+        if (capacity < 1 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("capacity는 1~" + MAX_CAPACITY + " 사이여야 합니다: " + capacity);
+        }
+        if (refillPeriodMillis < 1) {
+            throw new IllegalArgumentException("refillPeriodMillis는 1 이상이어야 합니다: " + refillPeriodMillis);
+        }
+    }
+
+    long capacityMilli() {
+        return capacity * MILLI;
+    }
+
+    // lastMillis 시점에 milliTokens였던 버킷의 nowMillis 시점 잔량
+    long refill(long milliTokens, long lastMillis, long nowMillis) {
+        long elapsed = Math.max(0L, nowMillis - lastMillis);
+        if (elapsed >= refillPeriodMillis * capacity) {
+            return capacityMilli();
+        }
+        return Math.min(capacityMilli(), milliTokens + elapsed * MILLI / refillPeriodMillis);
+    }
+
+    // 버킷이 다시 가득 차는 시각 (이후에는 새 버킷과 같으므로 지워도 됨)
+    long fullAt(long milliTokens, long nowMillis) {
+        long missing = capacityMilli() - milliTokens;
+        return nowMillis + (missing * refillPeriodMillis + MILLI - 1) / MILLI;
+    }
+}
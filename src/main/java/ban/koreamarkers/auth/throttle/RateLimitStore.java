@@ -0,0 +1,16 @@
+package ban.koreamarkers.auth.throttle;
+
+/**
+ * 로그인 시도 토큰 버킷 저장소
+ * - memory: 단일 노드용 스트라이프 ConcurrentHashMap + CAS (테스트용 대체 구현 겸용)
+ * - jpa: 클러스터용 login_rate_limits 테이블 + 조건부 UPDATE
+ * - login-throttle.store 로 선택
+ */
+public interface RateLimitStore {
+
+    // key 버킷에서 토큰 하나 소비, 남은 토큰이 없으면 false (상태 변경 없음)
+    boolean tryConsume(String key, RateLimit limit, long nowMillis);
+
+    // 다시 가득 찬 버킷 제거 (새 버킷과 같으므로 결과에 영향 없음), 제거한 개수 반환
+    int evictIdle(long nowMillis);
+}
@@ -0,0 +1,300 @@
+package ban.koreamarkers.auth.util;
+
+import ban.koreamarkers.auth.key.SigningKey;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.PrivateKey;
+import java.security.Signature;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.EdECPrivateKey;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * JJWT 빌더를 거치지 않는 토큰 발급 경로
+ * - 서명 키(kid)별 헤더 Base64URL과 토큰 타입별 고정 클레임 조각을 미리 계산
+ * - 스레드마다 재사용하는 바이트 버퍼에 payload JSON과 Base64URL을 직접 쓰고, initSign이 끝난 Signature 재사용
+ * - 클레임 Map, Date, 빌더 체인, 중간 문자열 없이 결과 String과 서명 바이트만 할당
+ * - 헤더/클레임 내용은 JJWT 빌더 결과와 같고(필드 순서만 다름) 같은 JwtParser로 검증
+ * - ES256(P-256)/Ed25519 이외의 키는 null 반환 -> 호출자가 JJWT 빌더로 발급
+ * - 가상 스레드에서는 스레드마다 버퍼가 새로 만들어지므로 이득이 줄어듦
+ */
+final class CompactTokenWriter {
+
+    private static final byte[] BASE64URL =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    private static final byte[] ACCESS_PREFIX = ascii("{\"type\":\"" + VerifiedToken.ACCESS + "\",\"authorities\":[");
+    private static final byte[] ENABLED_TRUE = ascii("],\"enabled\":true");
+    private static final byte[] ENABLED_FALSE = ascii("],\"enabled\":false");
+    private static final byte[] REFRESH_PREFIX = ascii("{\"type\":\"" + VerifiedToken.REFRESH + "\",\"fid\":");
+    private static final byte[] SUB = ascii(",\"sub\":");
+    private static final byte[] JTI = ascii(",\"jti\":");
+    private static final byte[] IAT = ascii(",\"iat\":");
+    private static final byte[] EXP = ascii(",\"exp\":");
+
+    private final ThreadLocal<Workspace> workspaces = ThreadLocal.withInitial(Workspace::new);
+
+    // 현재 서명 키의 헤더 (키가 바뀌면 다시 계산)
+    private volatile Header header;
+
+    // AccessToken: {"type","authorities","enabled","sub","jti","iat","exp"}
+    String accessToken(SigningKey signingKey, String subject, String tokenId,
+                       Collection<? extends GrantedAuthority> authorities, boolean enabled,
+                       long issuedAtSeconds, long expiresAtSeconds) {
+        Header header = header(signingKey);
+        if (header == null) {
+            return null;
+        }
+        Workspace workspace = workspaces.get();
+        workspace.reset();
+        workspace.write(ACCESS_PREFIX);
+        boolean first = true;
+        for (GrantedAuthority authority : authorities) {
+            if (!first) {
+                workspace.write((byte) ',');
+            }
+            workspace.writeString(authority.getAuthority());
+            first = false;
+        }
+        workspace.write(enabled ? ENABLED_TRUE : ENABLED_FALSE);
+        writeRegisteredClaims(workspace, subject, tokenId, issuedAtSeconds, expiresAtSeconds);
+        return workspace.sign(header);
+    }
+
+    // RefreshToken: {"type","fid","sub","jti","iat","exp"}
+    String refreshToken(SigningKey signingKey, String subject, String tokenId, String familyId,
+                        long issuedAtSeconds, long expiresAtSeconds) {
+        Header header = header(signingKey);
+        if (header == null) {
+            return null;
+        }
+        Workspace workspace = workspaces.get();
+        workspace.reset();
+        workspace.write(REFRESH_PREFIX);
+        workspace.writeString(familyId);
+        writeRegisteredClaims(workspace, subject, tokenId, issuedAtSeconds, expiresAtSeconds);
+        return workspace.sign(header);
+    }
+
+    private static void writeRegisteredClaims(Workspace workspace, String subject, String tokenId,
+                                              long issuedAtSeconds, long expiresAtSeconds) {
+        workspace.write(SUB);
+        workspace.writeString(subject);
+        workspace.write(JTI);
+        workspace.writeString(tokenId);
+        workspace.write(IAT);
+        workspace.writeLong(issuedAtSeconds);
+        workspace.write(EXP);
+        workspace.writeLong(expiresAtSeconds);
+        workspace.write((byte) '}');
+    }
+
+    private Header header(SigningKey signingKey) {
+        Header current = header;
+        if (current != null && current.signingKey() == signingKey) {
+            return current.supported() ? current : null;
+        }
+        current = Header.of(signingKey);
+        header = current;
+        return current.supported() ? current : null;
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * 서명 키별로 미리 계산한 헤더
+     * - encoded: {"kid":"...","alg":"..."}의 Base64URL + '.'
+     * - jcaAlgorithm: ES256은 JWS 형식(R||S 64바이트)을 바로 내는 P1363 서명 사용
+     */
+    private record Header(SigningKey signingKey, byte[] encoded, String jcaAlgorithm) {
+
+        static Header of(SigningKey signingKey) {
+            PrivateKey privateKey = signingKey.privateKey();
+            String alg;
+            String jcaAlgorithm;
+            if (privateKey instanceof ECPrivateKey ec && ec.getParams().getCurve().getField().getFieldSize() == 256) {
+                alg = "ES256";
+                jcaAlgorithm = "SHA256withECDSAinP1363Format";
+            } else if (privateKey instanceof EdECPrivateKey ed && "Ed25519".equalsIgnoreCase(ed.getParams().getName())) {
+                alg = "EdDSA";
+                jcaAlgorithm = "Ed25519";
+            } else {
+                return new Header(signingKey, null, null);
+            }
+
+            Workspace json = new Workspace();
+            json.write(ascii("{\"kid\":"));
+            json.writeString(signingKey.kid());
+            json.write(ascii(",\"alg\":\"" + alg + "\"}"));
+            byte[] encoded = new byte[base64Length(json.length) + 1];
+            int length = base64(json.buffer, json.length, encoded, 0);
+            encoded[length] = '.';
+            return new Header(signingKey, encoded, jcaAlgorithm);
+        }
+
+        boolean supported() {
+            return encoded != null;
+        }
+    }
+
+    /**
+     * 스레드별 작업 공간
+     * - buffer: payload JSON, output: 헤더.payload.서명 (모두 필요할 때만 늘림)
+     * - signature: 마지막으로 사용한 키로 initSign된 인스턴스 (sign() 후 같은 키로 재사용 가능)
+     */
+    private static final class Workspace {
+
+        private byte[] buffer = new byte[512];
+        private int length;
+        private byte[] output = new byte[1024];
+        private Signature signature;
+        private PrivateKey signatureKey;
+
+        void reset() {
+            length = 0;
+        }
+
+        void write(byte value) {
+            ensure(1);
+            buffer[length++] = value;
+        }
+
+        void write(byte[] bytes) {
+            ensure(bytes.length);
+            System.arraycopy(bytes, 0, buffer, length, bytes.length);
+            length += bytes.length;
+        }
+
+        // JSON 문자열 (따옴표 포함, UTF-8)
+        void writeString(String value) {
+            ensure(value.length() * 6 + 2);
+            buffer[length++] = '"';
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '"' || c == '\\') {
+                    buffer[length++] = '\\';
+                    buffer[length++] = (byte) c;
+                } else if (c < 0x20) {
+                    buffer[length++] = '\\';
+                    buffer[length++] = 'u';
+                    buffer[length++] = '0';
+                    buffer[length++] = '0';
+                    buffer[length++] = HEX[c >> 4];
+                    buffer[length++] = HEX[c & 0xF];
+                } else if (c < 0x80) {
+                    buffer[length++] = (byte) c;
+                } else if (c < 0x800) {
+                    buffer[length++] = (byte) (0xC0 | (c >> 6));
+                    buffer[length++] = (byte) (0x80 | (c & 0x3F));
+                } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                        && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                    buffer[length++] = (byte) (0xF0 | (codePoint >> 18));
+                    buffer[length++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                    buffer[length++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                    buffer[length++] = (byte) (0x80 | (codePoint & 0x3F));
+                } else {
+                    buffer[length++] = (byte) (0xE0 | (c >> 12));
+                    buffer[length++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                    buffer[length++] = (byte) (0x80 | (c & 0x3F));
+                }
+            }
+            buffer[length++] = '"';
+        }
+
+        // 음수가 아닌 epoch 초
+        void writeLong(long value) {
+            ensure(20);
+            int start = length;
+            do {
+                buffer[length++] = (byte) ('0' + (value % 10));
+                value /= 10;
+            } while (value > 0);
+            for (int i = start, j = length - 1; i < j; i++, j--) {
+                byte tmp = buffer[i];
+                buffer[i] = buffer[j];
+                buffer[j] = tmp;
+            }
+        }
+
+        String sign(Header header) {
+            // 헤더. + payload. + 서명(최대 64바이트)
+            int capacity = header.encoded().length + base64Length(length) + 1 + base64Length(64);
+            if (output.length < capacity) {
+                output = new byte[Math.max(capacity, output.length * 2)];
+            }
+            int position = header.encoded().length;
+            System.arraycopy(header.encoded(), 0, output, 0, position);
+            position = base64(buffer, length, output, position);
+
+            byte[] signed;
+            try {
+                Signature signer = signer(header);
+                signer.update(output, 0, position);
+                signed = signer.sign();
+            } catch (GeneralSecurityException e) {
+                signature = null;
+                signatureKey = null;
+                throw new IllegalStateException("토큰 서명에 실패했습니다.", e);
+            }
+
+            output[position++] = '.';
+            position = base64(signed, signed.length, output, position);
+            // Base64URL은 ASCII라 LATIN1 그대로 복사 (인코딩 변환 없음)
+            return new String(output, 0, position, StandardCharsets.ISO_8859_1);
+        }
+
+        private Signature signer(Header header) throws GeneralSecurityException {
+            PrivateKey privateKey = header.signingKey().privateKey();
+            if (signature == null || signatureKey != privateKey
+                    || !signature.getAlgorithm().equals(header.jcaAlgorithm())) {
+                Signature signer = Signature.getInstance(header.jcaAlgorithm());
+                signer.initSign(privateKey);
+                signature = signer;
+                signatureKey = privateKey;
+            }
+            return signature;
+        }
+
+        private void ensure(int additional) {
+            if (length + additional > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(length + additional, buffer.length * 2));
+            }
+        }
+    }
+
+    // 패딩 없는 Base64URL 길이
+    private static int base64Length(int length) {
+        return (length / 3) * 4 + (length % 3 == 0 ? 0 : length % 3 + 1);
+    }
+
+    // src[0, length)를 패딩 없는 Base64URL로 dst[offset..]에 쓰고 끝 위치 반환
+    private static int base64(byte[] src, int length, byte[] dst, int offset) {
+        int i = 0;
+        for (; i + 2 < length; i += 3) {
+            int bits = (src[i] & 0xFF) << 16 | (src[i + 1] & 0xFF) << 8 | (src[i + 2] & 0xFF);
+            dst[offset++] = BASE64URL[bits >>> 18];
+            dst[offset++] = BASE64URL[(bits >>> 12) & 0x3F];
+            dst[offset++] = BASE64URL[(bits >>> 6) & 0x3F];
+            dst[offset++] = BASE64URL[bits & 0x3F];
+        }
+        int remaining = length - i;
+        if (remaining == 1) {
+            int bits = (src[i] & 0xFF) << 16;
+            dst[offset++] = BASE64URL[bits >>> 18];
+            dst[offset++] = BASE64URL[(bits >>> 12) & 0x3F];
+        } else if (remaining == 2) {
+            int bits = (src[i] & 0xFF) << 16 | (src[i + 1] & 0xFF) << 8;
+            dst[offset++] = BASE64URL[bits >>> 18];
+            dst[offset++] = BASE64URL[(bits >>> 12) & 0x3F];
+            dst[offset++] = BASE64URL[(bits >>> 6) & 0x3F];
+        }
+        return offset;
+    }
+}
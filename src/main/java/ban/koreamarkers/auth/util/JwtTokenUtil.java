@@ -1,63 +1,206 @@
 package ban.koreamarkers.auth.util;
 
+import ban.koreamarkers.auth.key.SigningKey;
+import ban.koreamarkers.auth.key.SigningKeyRing;
+import ban.koreamarkers.auth.metrics.AuthMetrics;
+import ban.koreamarkers.auth.metrics.AuthMetrics.JwtResult;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.time.Instant;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Function;
 
+/**
+ * JWT 발급/검증
+ * - SigningKeyRing의 현재 키(ES256/EdDSA)로 서명하고 헤더에 kid 기록
+ * - 검증 시 헤더의 kid로 공개키를 찾으므로 회전 전후 키로 서명된 토큰 모두 검증 가능
+ * - kid가 없는 토큰은 이전 HMAC(jwt.secret) 토큰으로 보고, jwt.keys.accept-legacy-hmac=true 일 때만 허용
+ */
 @Component
+@RequiredArgsConstructor
 public class JwtTokenUtil {
 
-    @Value("${jwt.secret:mySecretKeyForJWTTokenGenerationAndValidationMustBeAtLeast256Bits}")
+    private final AuthMetrics authMetrics;
+    private final SigningKeyRing signingKeyRing;
+
+    // 이전 버전에서 발급된 HMAC 토큰 검증용 (RefreshToken 최대 수명이 지나면 false로 변경)
+    @Value("${jwt.secret:}")
     private String secret;
 
+    @Value("${jwt.keys.accept-legacy-hmac:true}")
+    private boolean acceptLegacyHmac;
+
     @Value("${jwt.access-token-expiration:900000}") // 15분 (밀리초)
     private Long accessTokenExpiration;
 
+    // AccessToken 만료 시각을 토큰마다 [0, jitter] 만큼 앞당겨서 같은 시각에 로그인한 클라이언트의 갱신 시점 분산
+    @Value("${jwt.access-token-jitter:60000}") // 1분 (밀리초)
+    private long accessTokenJitter;
+
     @Value("${jwt.refresh-token-expiration:604800000}") // 7일 (밀리초)
     private Long refreshTokenExpiration;
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+    // true면 미리 계산한 헤더/클레임 조각으로 발급 (CompactTokenWriter), false면 JJWT 빌더
+    @Value("${jwt.issuance.compact-writer:true}")
+    private boolean compactWriter;
+
+    private final CompactTokenWriter tokenWriter = new CompactTokenWriter();
+
+    // 파서는 불변 + thread-safe 이므로 기동 시 한 번만 생성해서 재사용 (키는 kid로 매번 조회)
+    private JwtParser jwtParser;
+
+    @PostConstruct
+    void init() {
+        SecretKey legacyKey = acceptLegacyHmac && !secret.isBlank()
+                ? Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8))
+                : null;
+        this.jwtParser = Jwts.parser()
+                .keyLocator(new LocatorAdapter<>() {
+                    @Override
+                    protected Key locate(JwsHeader header) {
+                        String kid = header.getKeyId();
+                        if (kid == null) {
+                            if (legacyKey == null) {
+                                throw new JwtException("kid가 없는 토큰입니다.");
+                            }
+                            return legacyKey;
+                        }
+                        Key key = signingKeyRing.verificationKey(kid);
+                        if (key == null) {
+                            throw new JwtException("알 수 없는 kid입니다: " + kid);
+                        }
+                        return key;
+                    }
+                })
+                .build();
     }
 
     // AccessToken 생성
     public String generateAccessToken(UserDetails userDetails) {
+        long now = System.currentTimeMillis();
+        long expiresAt = now + accessTokenExpiration - jitter();
+        String tokenId = newTokenId();
+        if (compactWriter) {
+            String token = tokenWriter.accessToken(signingKeyRing.signingKey(), userDetails.getUsername(), tokenId,
+                    userDetails.getAuthorities(), userDetails.isEnabled(), now / 1000, expiresAt / 1000);
+            if (token != null) {
+                return token;
+            }
+        }
+
         Map<String, Object> claims = new HashMap<>();
-        claims.put("type", "ACCESS");
-        return createToken(claims, userDetails.getUsername(), accessTokenExpiration);
+        claims.put("type", VerifiedToken.ACCESS);
+        // stateless principal 복원용 클레임
+        claims.put("authorities", userDetails.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .toList());
+        claims.put("enabled", userDetails.isEnabled());
+        return createToken(claims, userDetails.getUsername(), tokenId, new Date(now), new Date(expiresAt));
     }
 
-    // RefreshToken 생성
+    // RefreshToken 생성 (저장소에 등록되지 않는 단독 토큰, 로그인 시에는 RefreshTokenService.issue() 사용)
     public String generateRefreshToken(UserDetails userDetails) {
+        return generateRefreshToken(userDetails, newTokenId(), newTokenId(),
+                Instant.now().plusMillis(refreshTokenExpiration));
+    }
+
+    /**
+     * RefreshToken 생성
+     * - tokenId(jti)는 회전마다 새로 발급, familyId는 로그인 한 번에서 이어지는 회전 체인 식별자
+     * - 회전해도 만료 시각은 최초 로그인 기준으로 유지
+     */
+    public String generateRefreshToken(UserDetails userDetails, String tokenId, String familyId, Instant expiresAt) {
+        if (compactWriter) {
+            String token = tokenWriter.refreshToken(signingKeyRing.signingKey(), userDetails.getUsername(), tokenId,
+                    familyId, System.currentTimeMillis() / 1000, expiresAt.getEpochSecond());
+            if (token != null) {
+                return token;
+            }
+        }
+
         Map<String, Object> claims = new HashMap<>();
-        claims.put("type", "REFRESH");
-        return createToken(claims, userDetails.getUsername(), refreshTokenExpiration);
+        claims.put("type", VerifiedToken.REFRESH);
+        claims.put("fid", familyId);
+        return createToken(claims, userDetails.getUsername(), tokenId, new Date(), Date.from(expiresAt));
     }
 
-    // 토큰 생성
-    private String createToken(Map<String, Object> claims, String subject, Long expiration) {
-        Date now = new Date();
-        Date expiryDate = new Date(now.getTime() + expiration);
+    public static String newTokenId() {
+        return UUID.randomUUID().toString();
+    }
 
+    // 토큰 생성 (JJWT 빌더, 고속 경로가 지원하지 않는 키일 때)
+    private String createToken(Map<String, Object> claims, String subject, String tokenId, Date issuedAt, Date expiryDate) {
+        SigningKey signingKey = signingKeyRing.signingKey();
         return Jwts.builder()
+                .header().keyId(signingKey.kid()).and()
                 .claims(claims)
+                .id(tokenId)
                 .subject(subject)
-                .issuedAt(now)
+                .issuedAt(issuedAt)
                 .expiration(expiryDate)
-                .signWith(getSigningKey())
+                .signWith(signingKey.privateKey())
                 .compact();
     }
 
+    /**
+     * 토큰을 한 번만 파싱/서명 검증해서 필요한 클레임을 모두 담은 VerifiedToken 반환
+     * - 서명 불일치, 형식 오류, 만료 시 JwtException 계열 예외 발생
+     * - 필터/컨트롤러는 이 메서드 결과만 사용하고 토큰을 다시 파싱하지 않음
+     */
+    public VerifiedToken verify(String token) {
+        long start = System.nanoTime();
+        try {
+            Claims claims = getAllClaimsFromToken(token);
+            VerifiedToken verifiedToken = new VerifiedToken(
+                    claims.getId(),
+                    claims.getSubject(),
+                    claims.get("type", String.class),
+                    claims.getExpiration().toInstant(),
+                    claims.getIssuedAt().toInstant(),
+                    getAuthorities(claims),
+                    claims.get("enabled", Boolean.class),
+                    claims.get("fid", String.class)
+            );
+            authMetrics.recordJwtVerify(JwtResult.SUCCESS, System.nanoTime() - start);
+            return verifiedToken;
+        } catch (ExpiredJwtException e) {
+            authMetrics.recordJwtVerify(JwtResult.EXPIRED, System.nanoTime() - start);
+            throw e;
+        } catch (JwtException | IllegalArgumentException e) {
+            authMetrics.recordJwtVerify(JwtResult.INVALID, System.nanoTime() - start);
+            throw e;
+        }
+    }
+
+    private static List<String> getAuthorities(Claims claims) {
+        Object authorities = claims.get("authorities");
+        if (!(authorities instanceof List<?> list)) {
+            return null;
+        }
+        return list.stream().map(String::valueOf).toList();
+    }
+
     // 토큰에서 사용자명 추출
     public String getUsernameFromToken(String token) {
         return getClaimFromToken(token, Claims::getSubject);
@@ -76,30 +219,20 @@ public class JwtTokenUtil {
 
     // 토큰에서 모든 클레임 추출
     private Claims getAllClaimsFromToken(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
+        return jwtParser
                 .parseSignedClaims(token)
                 .getPayload();
     }
 
-    // 토큰 만료 확인
-    private Boolean isTokenExpired(String token) {
-        final Date expiration = getExpirationDateFromToken(token);
-        return expiration.before(new Date());
-    }
-
     // 토큰 검증
     public Boolean validateToken(String token, UserDetails userDetails) {
-        final String username = getUsernameFromToken(token);
-        return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+        return verify(token).isValidFor(userDetails);
     }
 
     // AccessToken인지 확인
     public Boolean isAccessToken(String token) {
         try {
-            String type = getClaimFromToken(token, claims -> claims.get("type", String.class));
-            return "ACCESS".equals(type);
+            return verify(token).isAccessToken();
         } catch (Exception e) {
             return false;
         }
@@ -108,13 +241,17 @@ public class JwtTokenUtil {
     // RefreshToken인지 확인
     public Boolean isRefreshToken(String token) {
         try {
-            String type = getClaimFromToken(token, claims -> claims.get("type", String.class));
-            return "REFRESH".equals(type);
+            return verify(token).isRefreshToken();
         } catch (Exception e) {
             return false;
         }
     }
 
+    // 만료 지터 (밀리초)
+    private long jitter() {
+        return accessTokenJitter > 0 ? ThreadLocalRandom.current().nextLong(accessTokenJitter + 1) : 0L;
+    }
+
     // AccessToken 만료 시간 반환 (밀리초)
     public Long getAccessTokenExpiration() {
         return accessTokenExpiration;
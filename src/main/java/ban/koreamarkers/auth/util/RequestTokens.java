@@ -0,0 +1,142 @@
+package ban.koreamarkers.auth.util;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.util.Enumeration;
+
+/**
+ * 요청에 담긴 토큰 위치 (Authorization 헤더, accessToken/refreshToken 쿠키)
+ * - Cookie 헤더 원문을 한 번만 훑어서 위치(시작/끝 인덱스)만 기록, request.getCookies()의 Cookie 객체 생성 없음
+ * - 토큰 문자열은 실제로 꺼낼 때 한 번만 잘라서 보관
+ * - 요청 속성에 캐시하므로 필터, 로그아웃 핸들러, 컨트롤러가 같은 결과를 공유
+ * - 같은 이름의 쿠키가 여러 개면 첫 번째 사용
+ */
+public final class RequestTokens {
+
+    public static final String ATTRIBUTE = RequestTokens.class.getName();
+
+    private static final String BEARER = "Bearer ";
+    private static final String ACCESS_TOKEN = "accessToken";
+    private static final String REFRESH_TOKEN = "refreshToken";
+
+    private final String authorization;
+
+    private String accessSource;
+    private int accessStart;
+    private int accessEnd;
+    private String refreshSource;
+    private int refreshStart;
+    private int refreshEnd;
+
+    private String bearerToken;
+    private String accessTokenCookie;
+    private String refreshTokenCookie;
+
+    private RequestTokens(String authorization) {
+        this.authorization = authorization != null && authorization.startsWith(BEARER) ? authorization : null;
+    }
+
+    // 요청당 한 번만 해석하고 이후에는 요청 속성에서 재사용
+    public static RequestTokens resolve(HttpServletRequest request) {
+        if (request.getAttribute(ATTRIBUTE) instanceof RequestTokens cached) {
+            return cached;
+        }
+        RequestTokens tokens = new RequestTokens(request.getHeader("Authorization"));
+        Enumeration<String> cookieHeaders = request.getHeaders("Cookie");
+        while (cookieHeaders != null && cookieHeaders.hasMoreElements()) {
+            tokens.scan(cookieHeaders.nextElement());
+        }
+        request.setAttribute(ATTRIBUTE, tokens);
+        return tokens;
+    }
+
+    public boolean hasBearerToken() {
+        return authorization != null;
+    }
+
+    public boolean hasAccessTokenCookie() {
+        return accessSource != null;
+    }
+
+    public boolean hasRefreshTokenCookie() {
+        return refreshSource != null;
+    }
+
+    // Authorization: Bearer 토큰, 없으면 null
+    public String bearerToken() {
+        if (bearerToken == null && authorization != null) {
+            bearerToken = authorization.substring(BEARER.length());
+        }
+        return bearerToken;
+    }
+
+    public String accessTokenCookie() {
+        if (accessTokenCookie == null && accessSource != null) {
+            accessTokenCookie = accessSource.substring(accessStart, accessEnd);
+        }
+        return accessTokenCookie;
+    }
+
+    public String refreshTokenCookie() {
+        if (refreshTokenCookie == null && refreshSource != null) {
+            refreshTokenCookie = refreshSource.substring(refreshStart, refreshEnd);
+        }
+        return refreshTokenCookie;
+    }
+
+    // 인증에 쓸 AccessToken (헤더 우선, 없으면 쿠키)
+    public String accessToken() {
+        return hasBearerToken() ? bearerToken() : accessTokenCookie();
+    }
+
+    // name=value; name=value ... 에서 두 토큰 쿠키의 값 위치만 기록
+    private void scan(String header) {
+        int length = header.length();
+        int i = 0;
+        while (i < length && (accessSource == null || refreshSource == null)) {
+            while (i < length && (header.charAt(i) == ' ' || header.charAt(i) == ';')) {
+                i++;
+            }
+            int nameStart = i;
+            int separator = -1;
+            while (i < length && header.charAt(i) != ';') {
+                if (separator < 0 && header.charAt(i) == '=') {
+                    separator = i;
+                }
+                i++;
+            }
+            if (separator < 0 || separator + 1 == i) {
+                // 값이 없는 쿠키 (삭제 직후 등)
+                continue;
+            }
+
+            int valueStart = separator + 1;
+            int valueEnd = i;
+            while (valueEnd > valueStart && header.charAt(valueEnd - 1) == ' ') {
+                valueEnd--;
+            }
+            // RFC 6265: 값이 큰따옴표로 감싸져 있을 수 있음
+            if (valueEnd - valueStart >= 2 && header.charAt(valueStart) == '"' && header.charAt(valueEnd - 1) == '"') {
+                valueStart++;
+                valueEnd--;
+            }
+
+            if (accessSource == null && isName(header, nameStart, separator, ACCESS_TOKEN)) {
+                accessSource = header;
+                accessStart = valueStart;
+                accessEnd = valueEnd;
+            } else if (refreshSource == null && isName(header, nameStart, separator, REFRESH_TOKEN)) {
+                refreshSource = header;
+                refreshStart = valueStart;
+                refreshEnd = valueEnd;
+            }
+        }
+    }
+
+    private static boolean isName(String header, int start, int end, String name) {
+        while (end > start && header.charAt(end - 1) == ' ') {
+            end--;
+        }
+        return end - start == name.length() && header.regionMatches(start, name, 0, name.length());
+    }
+}
@@ -0,0 +1,64 @@
+package ban.koreamarkers.auth.util;
+
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.stereotype.Component;
+
+/**
+ * 토큰 응답 쿠키/헤더 기록
+ * - 로그인 성공, 토큰 갱신, 필터의 슬라이딩 갱신이 같은 쿠키 속성을 쓰도록 한 곳에서 생성
+ * - 비동기 갱신(DeferredResult)은 응답 객체 대신 ResponseEntity 헤더로 쿠키 전달
+ */
+@Component
+@RequiredArgsConstructor
+public class TokenCookies {
+
+    private final JwtTokenUtil jwtTokenUtil;
+
+    @Value("${jwt.cookie.secure:false}") // 개발 환경에서는 false, 프로덕션에서는 true
+    private boolean cookieSecure;
+
+    // AccessToken을 쿠키(HttpOnly=false, 클라이언트에서 접근 가능)와 Authorization 응답 헤더에 기록
+    public void writeAccessToken(HttpServletResponse response, String accessToken) {
+        response.addHeader(HttpHeaders.SET_COOKIE, accessTokenCookie(accessToken).toString());
+
+        // API 호출용
+        response.setHeader(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken);
+    }
+
+    // RefreshToken을 HttpOnly 쿠키에 기록 (XSS 공격 방지)
+    public void writeRefreshToken(HttpServletResponse response, String refreshToken, long maxAgeSeconds) {
+        response.addHeader(HttpHeaders.SET_COOKIE, refreshTokenCookie(refreshToken, maxAgeSeconds).toString());
+    }
+
+    public ResponseCookie accessTokenCookie(String accessToken) {
+        return ResponseCookie.from("accessToken", accessToken)
+                .httpOnly(false)
+                .secure(cookieSecure)
+                .path("/")
+                .maxAge(jwtTokenUtil.getAccessTokenExpiration() / 1000) // 초 단위
+                .build();
+    }
+
+    public ResponseCookie refreshTokenCookie(String refreshToken, long maxAgeSeconds) {
+        return ResponseCookie.from("refreshToken", refreshToken)
+                .httpOnly(true)
+                .secure(cookieSecure)
+                .path("/")
+                .maxAge(Math.max(0, maxAgeSeconds))
+                .build();
+    }
+
+    // 쿠키 삭제용 (maxAge=0)
+    public ResponseCookie expiredAccessTokenCookie() {
+        return ResponseCookie.from("accessToken", "")
+                .httpOnly(false)
+                .secure(cookieSecure)
+                .path("/")
+                .maxAge(0)
+                .build();
+    }
+}
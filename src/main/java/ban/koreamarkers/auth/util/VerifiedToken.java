@@ -0,0 +1,56 @@
+package ban.koreamarkers.auth.util;
+
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 서명 검증이 끝난 JWT의 클레임 스냅샷
+ * - JwtTokenUtil.verify()에서 한 번만 파싱해서 만들고, 이후에는 재파싱 없이 이 객체만 사용
+ * - 불변 객체이므로 요청 속성/캐시에 그대로 공유 가능
+ * - authorities/enabled는 AccessToken에만 포함되며, 이전에 발급된 토큰에서는 null
+ * - id(jti)는 모든 토큰, familyId는 RefreshToken에만 포함 (이전에 발급된 토큰에서는 null)
+ */
+public record VerifiedToken(String id, String subject, String type, Instant expiration, Instant issuedAt,
+                            List<String> authorities, Boolean enabled, String familyId) {
+
+    public static final String ACCESS = "ACCESS";
+    public static final String REFRESH = "REFRESH";
+
+    // AccessToken인지 확인
+    public boolean isAccessToken() {
+        return ACCESS.equals(type);
+    }
+
+    // RefreshToken인지 확인
+    public boolean isRefreshToken() {
+        return REFRESH.equals(type);
+    }
+
+    // 토큰 만료 확인
+    public boolean isExpired() {
+        return expiration.isBefore(Instant.now());
+    }
+
+    // 권한/활성화 클레임이 있어서 DB 조회 없이 principal 복원이 가능한지 확인
+    public boolean hasPrincipalClaims() {
+        return authorities != null && enabled != null;
+    }
+
+    // 클레임만으로 경량 principal 생성 (JPA 엔티티 조회 없음)
+    public UserDetails toUserDetails() {
+        return User.withUsername(subject)
+                .password("")
+                .authorities(authorities.stream().map(SimpleGrantedAuthority::new).toList())
+                .disabled(!enabled)
+                .build();
+    }
+
+    // 해당 사용자에게 발급된, 만료되지 않은 토큰인지 확인
+    public boolean isValidFor(UserDetails userDetails) {
+        return subject.equals(userDetails.getUsername()) && !isExpired();
+    }
+}
@@ -0,0 +1,13 @@
+package ban.koreamarkers.common;
+
+import org.springframework.security.authentication.AuthenticationServiceException;
+
+/**
+ * 비밀번호 해싱 풀이 포화 상태일 때 발생
+ * - 폼 로그인 실패 핸들러/회원가입 컨트롤러에서 503으로 변환
+ */
+public class PasswordHashingBusyException extends AuthenticationServiceException {
+    public PasswordHashingBusyException(String message) {
+        super(message);
+    }
+}
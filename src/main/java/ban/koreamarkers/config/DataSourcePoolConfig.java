@@ -0,0 +1,48 @@
+package ban.koreamarkers.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Hikari 커넥션 풀 크기를 CPU 코어 수에서 계산 (datasource.pool.auto-size=true, prod 프로필)
+ * - HikariCP 권장식: 코어 수 x 2 + 1, 동시 요청 수가 아니라 DB 쪽 처리 능력에 맞춤 (가상 스레드에서도 동일)
+ * - 최소 유휴 커넥션을 같은 값으로 고정해서 부하 급증 시 커넥션 생성 지연 없음
+ * - spring.datasource.hikari.maximum-pool-size 를 직접 지정하면 계산하지 않음
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "datasource.pool.auto-size", havingValue = "true")
+public class DataSourcePoolConfig {
+
+    // 프로퍼티 바인딩(@ConfigurationProperties) 직후, 풀이 시작되기 전에 적용
+    @Bean
+    public static BeanPostProcessor hikariPoolSizer(Environment environment) {
+        int connectionsPerCore = environment.getProperty("datasource.pool.connections-per-core", Integer.class, 2);
+        int spareConnections = environment.getProperty("datasource.pool.spare-connections", Integer.class, 1);
+        boolean explicit = environment.containsProperty("spring.datasource.hikari.maximum-pool-size");
+        int cores = Runtime.getRuntime().availableProcessors();
+        int poolSize = poolSize(cores, connectionsPerCore, spareConnections);
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource && !explicit) {
+                    dataSource.setMaximumPoolSize(poolSize);
+                    dataSource.setMinimumIdle(poolSize);
+                    log.info("커넥션 풀 크기: {} (코어 {}개 x {} + {})",
+                            poolSize, cores, connectionsPerCore, spareConnections);
+                }
+                return bean;
+            }
+        };
+    }
+
+    static int poolSize(int cores, int connectionsPerCore, int spareConnections) {
+        return Math.max(2, cores * connectionsPerCore + spareConnections);
+    }
+}
@@ -0,0 +1,108 @@
+package ban.koreamarkers.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 가상 스레드 pinning 진단 (spring.threads.virtual.enabled=true 일 때만 동작)
+ * - JFR jdk.VirtualThreadPinned 이벤트를 구독해서 캐리어 스레드를 붙잡은 지점을 로그/메트릭으로 남김
+ * - mysql-connector-j 8.x 의 synchronized 블록 안 소켓 I/O, 커넥션 풀, 애플리케이션 코드로 구분
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 8;
+
+    enum PinningSource {JDBC, POOL, APP, OTHER}
+
+    private final Map<PinningSource, Counter> pinned = new EnumMap<>(PinningSource.class);
+
+    @Value("${virtual-threads.pinning.threshold-ms:20}")
+    private long thresholdMs;
+
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry registry) {
+        for (PinningSource source : PinningSource.values()) {
+            pinned.put(source, Counter.builder("jvm.threads.virtual.pinned")
+                    .description("캐리어 스레드에 고정된 가상 스레드 이벤트 수")
+                    .tag("source", source.name().toLowerCase(Locale.ROOT))
+                    .register(registry));
+        }
+    }
+
+    @Override
+    public void start() {
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT)
+                .withThreshold(Duration.ofMillis(thresholdMs))
+                .withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+        log.info("가상 스레드 pinning 모니터 시작 (threshold={}ms)", thresholdMs);
+    }
+
+    @Override
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    private void onPinned(RecordedEvent event) {
+        List<RecordedFrame> frames = event.getStackTrace() != null ? event.getStackTrace().getFrames() : List.of();
+        PinningSource source = classify(frames);
+        pinned.get(source).increment();
+
+        StringBuilder trace = new StringBuilder();
+        for (int i = 0; i < Math.min(LOGGED_FRAMES, frames.size()); i++) {
+            RecordedFrame frame = frames.get(i);
+            trace.append("\n\tat ")
+                    .append(frame.getMethod().getType().getName()).append('.')
+                    .append(frame.getMethod().getName()).append(':')
+                    .append(frame.getLineNumber());
+        }
+        log.warn("가상 스레드 pinning {}ms (source={}){}", event.getDuration().toMillis(), source, trace);
+    }
+
+    // 스택에서 가장 먼저 나오는 의미 있는 프레임 기준으로 분류
+    private static PinningSource classify(List<RecordedFrame> frames) {
+        for (RecordedFrame frame : frames) {
+            String type = frame.getMethod().getType().getName();
+            if (type.startsWith("com.mysql.") || type.startsWith("org.h2.")) {
+                return PinningSource.JDBC;
+            }
+            if (type.startsWith("com.zaxxer.hikari.")) {
+                return PinningSource.POOL;
+            }
+            if (type.startsWith("ban.koreamarkers.")) {
+                return PinningSource.APP;
+            }
+        }
+        return PinningSource.OTHER;
+    }
+}
@@ -1,86 +1,208 @@
 package ban.koreamarkers.controller;
 
-import ban.koreamarkers.auth.util.JwtTokenUtil;
-import jakarta.servlet.http.Cookie;
+import ban.koreamarkers.auth.cache.VerifiedTokenCache;
+import ban.koreamarkers.auth.introspect.AsyncTokenIntrospector;
+import ban.koreamarkers.auth.metrics.AuthMetrics;
+import ban.koreamarkers.auth.metrics.AuthMetrics.RefreshOutcome;
+import ban.koreamarkers.auth.refresh.AsyncTokenRefresher;
+import ban.koreamarkers.auth.refresh.AsyncTokenRefresher.Exchange;
+import ban.koreamarkers.auth.revocation.UserTokenRevocationService;
+import ban.koreamarkers.auth.util.RequestTokens;
+import ban.koreamarkers.auth.util.TokenCookies;
+import ban.koreamarkers.auth.util.VerifiedToken;
+import ban.koreamarkers.controller.dto.TokenIntrospection;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.http.HttpServletRequest;
-import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestController
 @RequestMapping("/api/auth")
 @RequiredArgsConstructor
 public class AuthController {
 
-    private final JwtTokenUtil jwtTokenUtil;
-    private final UserDetailsService userDetailsService;
+    private static final String REFRESH_BUSY = "토큰 갱신 요청이 많습니다. 잠시 후 다시 시도해주세요.";
+    private static final String INTROSPECTION_BUSY = "토큰 조회 요청이 많습니다. 잠시 후 다시 시도해주세요.";
 
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final AuthMetrics authMetrics;
+    private final AsyncTokenRefresher asyncTokenRefresher;
+    private final AsyncTokenIntrospector asyncTokenIntrospector;
+    private final TokenCookies tokenCookies;
+    private final UserTokenRevocationService userTokenRevocationService;
+
+    @Value("${jwt.refresh-async.timeout:5000}") // 밀리초
+    private long refreshTimeout;
+
+    @Value("${jwt.introspection.async.timeout:5000}") // 밀리초
+    private long introspectionTimeout;
+
+    /**
+     * 토큰 갱신
+     * - 쿠키 확인과 서명 검증(캐시)은 요청 스레드에서 바로 처리
+     * - 사용자 조회/회전/발급은 AsyncTokenRefresher 풀에서 처리하고 요청 스레드는 즉시 반납
+     */
     @PostMapping("/refresh")
-    public ResponseEntity<?> refreshToken(HttpServletRequest request, HttpServletResponse response) {
+    public DeferredResult<ResponseEntity<?>> refreshToken(HttpServletRequest request) {
+        DeferredResult<ResponseEntity<?>> result = new DeferredResult<>(refreshTimeout);
+
         // 쿠키에서 RefreshToken 가져오기
-        String refreshToken = null;
-        Cookie[] cookies = request.getCookies();
-        if (cookies != null) {
-            for (Cookie cookie : cookies) {
-                if ("refreshToken".equals(cookie.getName())) {
-                    refreshToken = cookie.getValue();
-                    break;
-                }
-            }
-        }
+        String refreshToken = RequestTokens.resolve(request).refreshTokenCookie();
 
         if (refreshToken == null) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-                    .body(Map.of("error", "RefreshToken이 없습니다."));
+            reply(result, RefreshOutcome.MISSING_TOKEN, unauthorized("RefreshToken이 없습니다."));
+            return result;
         }
 
+        // RefreshToken 검증 (한 번만 파싱)
+        VerifiedToken verifiedToken;
         try {
-            // RefreshToken 검증
-            if (!jwtTokenUtil.isRefreshToken(refreshToken)) {
-                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-                        .body(Map.of("error", "유효하지 않은 RefreshToken입니다."));
-            }
+            verifiedToken = verifiedTokenCache.verify(refreshToken);
+        } catch (ExpiredJwtException e) {
+            reply(result, RefreshOutcome.EXPIRED, unauthorized("RefreshToken이 만료되었습니다."));
+            return result;
+        } catch (JwtException | IllegalArgumentException e) {
+            reply(result, RefreshOutcome.INVALID_TOKEN, unauthorized("유효하지 않은 RefreshToken입니다."));
+            return result;
+        }
 
-            String username = jwtTokenUtil.getUsernameFromToken(refreshToken);
-            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+        if (!verifiedToken.isRefreshToken()) {
+            reply(result, RefreshOutcome.NOT_REFRESH_TOKEN, unauthorized("유효하지 않은 RefreshToken입니다."));
+            return result;
+        }
 
-            if (!jwtTokenUtil.validateToken(refreshToken, userDetails)) {
-                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-                        .body(Map.of("error", "RefreshToken이 만료되었습니다."));
-            }
+        // 시간 초과 뒤에 끝난 갱신도 회전은 커밋됨: reuse-grace-period를 켜면 그 기간 안의 재시도는 같은 결과를 받음
+        result.onTimeout(() -> reply(result, RefreshOutcome.TIMEOUT, unavailable(REFRESH_BUSY)));
+        asyncTokenRefresher.refresh(verifiedToken)
+                .whenComplete((exchange, error) -> {
+                    if (error == null) {
+                        reply(result, exchange.outcome(), toResponse(exchange));
+                    } else {
+                        replyFailure(result, error);
+                    }
+                });
+        return result;
+    }
 
-            // 새로운 AccessToken 발급
-            String newAccessToken = jwtTokenUtil.generateAccessToken(userDetails);
+    /**
+     * 토큰 일괄 조회 (게이트웨이가 요청마다 호출하지 않고 모아서 한 번에 확인)
+     * - 요청: {"tokens": ["...", "..."]}, 응답: {"results": [{"active": true, "sub": ..., "type": ..., "exp": ...}, ...]}
+     * - 서비스 계정(HTTP Basic, ROLE_SERVICE)만 호출 가능 (SecurityConfig.serviceClientFilterChain)
+     * - 검증/계정 확인은 AsyncTokenIntrospector 풀에서 처리하고 요청 스레드는 즉시 반납 (포화/시간 초과 시 503)
+     */
+    @PostMapping("/introspect")
+    public DeferredResult<ResponseEntity<?>> introspect(@RequestBody TokenIntrospection.Request request) {
+        DeferredResult<ResponseEntity<?>> result = new DeferredResult<>(introspectionTimeout);
+        if (request.tokens() == null || request.tokens().isEmpty()) {
+            result.setResult(ResponseEntity.badRequest().body(Map.of("error", "조회할 토큰이 없습니다.")));
+            return result;
+        }
+        if (request.tokens().size() > asyncTokenIntrospector.getMaxBatchSize()) {
+            result.setResult(ResponseEntity.badRequest()
+                    .body(Map.of("error", "한 번에 조회할 수 있는 토큰은 최대 " + asyncTokenIntrospector.getMaxBatchSize() + "개입니다.")));
+            return result;
+        }
+
+        result.onTimeout(() -> result.setResult(unavailable(INTROSPECTION_BUSY)));
+        asyncTokenIntrospector.introspect(request.tokens())
+                .whenComplete((results, error) -> {
+                    if (error == null) {
+                        result.setResult(ResponseEntity.ok(new TokenIntrospection.Response(results)));
+                    } else if (unwrap(error) instanceof RejectedExecutionException) {
+                        result.setResult(unavailable(INTROSPECTION_BUSY));
+                    } else {
+                        result.setErrorResult(unwrap(error));
+                    }
+                });
+        return result;
+    }
 
-            // 새로운 AccessToken을 쿠키에 저장
-            Cookie accessTokenCookie = new Cookie("accessToken", newAccessToken);
-            accessTokenCookie.setHttpOnly(false);
-            accessTokenCookie.setSecure(false); // 개발 환경용, 프로덕션에서는 true로 설정
-            accessTokenCookie.setPath("/");
-            accessTokenCookie.setMaxAge((int) (jwtTokenUtil.getAccessTokenExpiration() / 1000));
-            response.addCookie(accessTokenCookie);
+    /**
+     * 모든 기기에서 로그아웃
+     * - 사용자의 모든 RefreshToken 체인 폐기 + 지금까지 발급된 AccessToken 즉시 무효화
+     */
+    @PostMapping("/logout-all")
+    public ResponseEntity<?> logoutAll(@AuthenticationPrincipal UserDetails userDetails) {
+        userTokenRevocationService.revokeAll(userDetails.getUsername());
+        return ResponseEntity.ok()
+                .header(HttpHeaders.SET_COOKIE, tokenCookies.refreshTokenCookie("", 0).toString())
+                .header(HttpHeaders.SET_COOKIE, tokenCookies.expiredAccessTokenCookie().toString())
+                .body(Map.of("message", "모든 기기에서 로그아웃되었습니다."));
+    }
 
-            Map<String, String> responseBody = new HashMap<>();
-            responseBody.put("accessToken", newAccessToken);
-            responseBody.put("message", "AccessToken이 갱신되었습니다.");
+    private ResponseEntity<?> toResponse(Exchange exchange) {
+        switch (exchange.outcome()) {
+            case SUCCESS -> {
+                // 새로운 AccessToken/RefreshToken을 쿠키와 응답 헤더에 저장
+                Map<String, String> responseBody = new HashMap<>();
+                responseBody.put("accessToken", exchange.accessToken());
+                responseBody.put("message", "AccessToken이 갱신되었습니다.");
 
-            // 응답 헤더에도 추가
-            response.setHeader("Authorization", "Bearer " + newAccessToken);
+                return ResponseEntity.ok()
+                        .header(HttpHeaders.SET_COOKIE, tokenCookies.refreshTokenCookie(exchange.refreshToken(),
+                                Duration.between(Instant.now(), exchange.refreshExpiresAt()).getSeconds()).toString())
+                        .header(HttpHeaders.SET_COOKIE, tokenCookies.accessTokenCookie(exchange.accessToken()).toString())
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + exchange.accessToken())
+                        .body(responseBody);
+            }
+            case USER_MISMATCH -> {
+                return unauthorized("RefreshToken이 만료되었습니다.");
+            }
+            case REUSED -> {
+                return unauthorized("이미 사용된 RefreshToken입니다. 다시 로그인해주세요.");
+            }
+            default -> {
+                return unauthorized("폐기된 RefreshToken입니다. 다시 로그인해주세요.");
+            }
+        }
+    }
 
-            return ResponseEntity.ok(responseBody);
+    private void replyFailure(DeferredResult<ResponseEntity<?>> result, Throwable error) {
+        Throwable cause = unwrap(error);
+        if (cause instanceof RejectedExecutionException) {
+            reply(result, RefreshOutcome.BUSY, unavailable(REFRESH_BUSY));
+            return;
+        }
+        reply(result, RefreshOutcome.ERROR, unauthorized("토큰 갱신 중 오류가 발생했습니다: " + cause.getMessage()));
+    }
 
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-                    .body(Map.of("error", "토큰 갱신 중 오류가 발생했습니다: " + e.getMessage()));
+    // 실제로 응답한 결과만 집계 (시간 초과 503 뒤에 늦게 끝난 갱신은 다시 세지 않음)
+    private void reply(DeferredResult<ResponseEntity<?>> result, RefreshOutcome outcome, ResponseEntity<?> response) {
+        if (result.setResult(response)) {
+            authMetrics.recordRefresh(outcome);
         }
     }
+
+    private ResponseEntity<?> unauthorized(String message) {
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                .body(Map.of("error", message));
+    }
+
+    private ResponseEntity<?> unavailable(String message) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(Map.of("error", message));
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
 }
@@ -1,6 +1,6 @@
 package ban.koreamarkers.controller;
 
-import jakarta.servlet.http.Cookie;
+import ban.koreamarkers.auth.util.RequestTokens;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -13,20 +13,10 @@ public class HomeController {
 
     @GetMapping("/")
     public String home(Model model, HttpServletRequest request) {
-        // 쿠키에서 토큰 정보 가져오기
-        String accessToken = null;
-        String refreshToken = null;
-        
-        Cookie[] cookies = request.getCookies();
-        if (cookies != null) {
-            for (Cookie cookie : cookies) {
-                if ("accessToken".equals(cookie.getName())) {
-                    accessToken = cookie.getValue();
-                } else if ("refreshToken".equals(cookie.getName())) {
-                    refreshToken = cookie.getValue();
-                }
-            }
-        }
+        // 쿠키에서 토큰 정보 가져오기 (필터에서 해석한 결과 재사용)
+        RequestTokens requestTokens = RequestTokens.resolve(request);
+        String accessToken = requestTokens.accessTokenCookie();
+        String refreshToken = requestTokens.refreshTokenCookie();
 
         // 현재 인증된 사용자 정보
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
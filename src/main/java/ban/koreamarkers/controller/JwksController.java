@@ -0,0 +1,29 @@
+package ban.koreamarkers.controller;
+
+import ban.koreamarkers.auth.key.SigningKeyRing;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * JWKS 공개 엔드포인트
+ * - 다른 서비스가 이 앱을 호출하지 않고 kid로 공개키를 찾아 토큰을 직접 검증
+ * - 모르는 kid를 만나면 다시 받아가는 것을 전제로 짧게 캐시
+ */
+@RestController
+@RequiredArgsConstructor
+public class JwksController {
+
+    private final SigningKeyRing signingKeyRing;
+
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<Map<String, Object>> jwks() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(SigningKeyRing.JWKS_MAX_AGE).cachePublic())
+                .body(signingKeyRing.jwks());
+    }
+}
@@ -1,11 +1,16 @@
 package ban.koreamarkers.controller;
 
+import ban.koreamarkers.common.DuplicateEmailException;
+import ban.koreamarkers.common.DuplicateUserNameException;
+import ban.koreamarkers.common.PasswordHashingBusyException;
 import ban.koreamarkers.controller.dto.SignupRequest;
 import ban.koreamarkers.domain.service.UserService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
@@ -38,7 +43,9 @@ public class SignupController {
     public String signup(
             @Valid @ModelAttribute("signupRequest") SignupRequest signupRequest,
             BindingResult bindingResult,
-            RedirectAttributes redirectAttributes
+            RedirectAttributes redirectAttributes,
+            Model model,
+            HttpServletResponse response
     ) {
         log.info("userSignUp Request={}", signupRequest);
         if (bindingResult.hasErrors()) {
@@ -52,6 +59,15 @@ public class SignupController {
                     "message", "회원가입이 완료되었습니다. 로그인해주세요."
             );
             return "redirect:/login";
+        } catch (PasswordHashingBusyException e) {
+            // 해싱 풀 포화: 재시도 가능하도록 503과 함께 폼 유지
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            response.setHeader("Retry-After", "1");
+            model.addAttribute("error", e.getMessage());
+            return "signup";
+        } catch (DuplicateUserNameException | DuplicateEmailException e) {
+            redirectAttributes.addFlashAttribute("error", e.getMessage());
+            return "redirect:/signup";
         } catch (IllegalArgumentException e) {
             redirectAttributes.addFlashAttribute("error", e.getMessage());
             return "redirect:/signup";
@@ -0,0 +1,41 @@
+package ban.koreamarkers.controller;
+
+import ban.koreamarkers.domain.service.UserAvailabilityService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 회원가입 폼 실시간 중복 확인
+ * - GET /api/users/availability?username=ban&email=bbgiloo@gmail.com
+ * - 응답: {"username": true, "email": false} (true = 사용 가능)
+ */
+@RestController
+@RequestMapping("/api/users")
+@RequiredArgsConstructor
+public class UserAvailabilityController {
+
+    private final UserAvailabilityService userAvailabilityService;
+
+    @GetMapping("/availability")
+    public ResponseEntity<Map<String, Boolean>> availability(@RequestParam(required = false) String username,
+                                                             @RequestParam(required = false) String email) {
+        Map<String, Boolean> result = new LinkedHashMap<>();
+        if (username != null && !username.isBlank()) {
+            result.put("username", userAvailabilityService.isUsernameAvailable(username));
+        }
+        if (email != null && !email.isBlank()) {
+            result.put("email", userAvailabilityService.isEmailAvailable(email));
+        }
+        if (result.isEmpty()) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(result);
+    }
+}
@@ -0,0 +1,52 @@
+package ban.koreamarkers.controller;
+
+import ban.koreamarkers.controller.dto.UserImportResult;
+import ban.koreamarkers.controller.support.SignupRequestReaders;
+import ban.koreamarkers.domain.service.UserImportService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+
+/**
+ * 사용자 일괄 가입 API (관리자 전용)
+ * - 본문을 메시지 컨버터로 한 번에 읽지 않고 InputStream에서 레코드 단위로 스트리밍
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/users")
+@RequiredArgsConstructor
+public class UserImportController {
+
+    private final UserImportService userImportService;
+    private final ObjectMapper objectMapper;
+
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ResponseEntity<UserImportResult> importCsv(HttpServletRequest request) throws IOException {
+        return ResponseEntity.ok(userImportService.importUsers(SignupRequestReaders.csv(request.getInputStream())));
+    }
+
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<UserImportResult> importJson(HttpServletRequest request) throws IOException {
+        return ResponseEntity.ok(userImportService.importUsers(
+                SignupRequestReaders.json(request.getInputStream(), objectMapper)));
+    }
+
+    // 본문 구조가 깨졌으면 일부만 처리한 결과를 완료처럼 돌려주지 않고 요청 전체를 실패 처리
+    // (청크마다 커밋하므로 오류 지점 이전 청크의 가입은 유지됨)
+    @ExceptionHandler({IOException.class, UncheckedIOException.class})
+    public ResponseEntity<Map<String, String>> malformedBody(Exception e) {
+        log.warn("일괄 가입 본문 형식 오류로 중단: {}", e.getMessage());
+        return ResponseEntity.badRequest().body(Map.of("error", "요청 본문 형식이 올바르지 않아 가져오기를 중단했습니다."));
+    }
+}
@@ -0,0 +1,29 @@
+package ban.koreamarkers.controller.dto;
+
+import ban.koreamarkers.auth.util.VerifiedToken;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/**
+ * 토큰 일괄 조회(introspection) 요청/응답
+ * - 필드 이름은 RFC 7662를 따름 (exp는 epoch 초)
+ * - 유효하지 않은 토큰은 이유와 클레임 없이 active=false만 반환
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record TokenIntrospection(boolean active, String sub, String type, Long exp) {
+
+    public static final TokenIntrospection INACTIVE = new TokenIntrospection(false, null, null, null);
+
+    public static TokenIntrospection active(VerifiedToken verifiedToken) {
+        return new TokenIntrospection(true, verifiedToken.subject(), verifiedToken.type(),
+                verifiedToken.expiration().getEpochSecond());
+    }
+
+    public record Request(List<String> tokens) {
+    }
+
+    // results는 요청의 tokens와 같은 순서
+    public record Response(List<TokenIntrospection> results) {
+    }
+}
@@ -0,0 +1,26 @@
+package ban.koreamarkers.controller.dto;
+
+import java.util.List;
+
+/**
+ * 일괄 가입 결과 리포트
+ * - rows는 입력 순서(line)대로 정렬, line은 CSV 헤더/JSON 배열과 무관하게 1부터 시작하는 레코드 번호
+ */
+public record UserImportResult(int total, int created, int failed, List<Row> rows) {
+
+    public static UserImportResult of(List<Row> rows) {
+        int created = (int) rows.stream().filter(row -> row.status() == Status.CREATED).count();
+        return new UserImportResult(rows.size(), created, rows.size() - created, rows);
+    }
+
+    public record Row(int line, String username, Status status, String message) {
+    }
+
+    public enum Status {
+        CREATED,
+        INVALID,
+        DUPLICATE_USERNAME,
+        DUPLICATE_EMAIL,
+        FAILED
+    }
+}
@@ -0,0 +1,186 @@
+package ban.koreamarkers.controller.support;
+
+import ban.koreamarkers.controller.dto.SignupRequest;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * 일괄 가입 요청 본문을 한 건씩 읽는 스트리밍 리더
+ * - 본문 전체를 메모리에 올리지 않고 레코드 단위로 SignupRequest 생성
+ * - 형식이 잘못된 레코드는 빈 필드로 만들어 검증 단계에서 INVALID 처리
+ * - 본문 구조 자체가 깨진 경우(닫히지 않은 JSON 배열 등)는 UncheckedIOException으로 가져오기 전체를 중단
+ */
+public final class SignupRequestReaders {
+
+    private static final String CSV_HEADER = "username,password,email,name";
+
+    private SignupRequestReaders() {
+    }
+
+    /**
+     * CSV: username,password,email,name (name 생략 가능, 첫 줄 헤더 선택)
+     * - 큰따옴표로 감싼 필드와 "" 이스케이프 지원, 필드 내 줄바꿈은 미지원
+     * - 앞뒤 공백은 따옴표 밖의 username/email/name에서만 제거 (비밀번호와 따옴표 안 값은 그대로)
+     */
+    public static Iterator<SignupRequest> csv(InputStream inputStream) {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        return new Iterator<>() {
+            private String nextLine = readLine(true);
+
+            @Override
+            public boolean hasNext() {
+                return nextLine != null;
+            }
+
+            @Override
+            public SignupRequest next() {
+                if (nextLine == null) {
+                    throw new NoSuchElementException();
+                }
+                List<CsvField> fields = splitCsvLine(nextLine);
+                nextLine = readLine(false);
+                if (fields.size() < 3 || fields.size() > 4) {
+                    return new SignupRequest();
+                }
+                String name = fields.size() == 4 ? fields.get(3).trimmed() : "";
+                return new SignupRequest(fields.get(0).trimmed(), fields.get(1).value(), fields.get(2).trimmed(),
+                        name.isEmpty() ? null : name);
+            }
+
+            private String readLine(boolean first) {
+                try {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        if (line.isBlank()) {
+                            continue;
+                        }
+                        if (first && line.replace("\uFEFF", "").strip().equalsIgnoreCase(CSV_HEADER)) {
+                            first = false;
+                            continue;
+                        }
+                        return line;
+                    }
+                    return null;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        };
+    }
+
+    /**
+     * JSON: SignupRequest 객체 배열
+     * - 객체가 아닌 원소는 해당 레코드만 INVALID 처리하고 다음 원소로 진행
+     */
+    public static Iterator<SignupRequest> json(InputStream inputStream, ObjectMapper objectMapper) throws IOException {
+        JsonParser parser = objectMapper.getFactory().createParser(inputStream);
+        if (parser.nextToken() != JsonToken.START_ARRAY) {
+            throw new IOException("JSON 배열 형식이어야 합니다.");
+        }
+        return new Iterator<>() {
+            private JsonToken token = advance();
+
+            @Override
+            public boolean hasNext() {
+                if (token == null) {
+                    throw new UncheckedIOException(new IOException("JSON 배열이 닫히지 않았습니다."));
+                }
+                return token != JsonToken.END_ARRAY;
+            }
+
+            @Override
+            public SignupRequest next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                if (token != JsonToken.START_OBJECT) {
+                    // 문자열/숫자/배열 등: 값을 건너뛰고 빈 레코드로 INVALID 보고
+                    try {
+                        parser.skipChildren();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    token = advance();
+                    return new SignupRequest();
+                }
+                JsonNode node;
+                try {
+                    node = parser.readValueAsTree();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                token = advance();
+                try {
+                    return objectMapper.treeToValue(node, SignupRequest.class);
+                } catch (IOException e) {
+                    // 필드 타입 오류 등은 해당 레코드만 INVALID 처리
+                    return new SignupRequest();
+                }
+            }
+
+            private JsonToken advance() {
+                try {
+                    return parser.nextToken();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        };
+    }
+
+    // 따옴표로 감싼 필드는 따옴표 밖 공백만 버리고 안쪽 값은 그대로 보존
+    static List<CsvField> splitCsvLine(String line) {
+        List<CsvField> fields = new ArrayList<>(4);
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean wasQuoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                if (!wasQuoted && field.toString().isBlank()) {
+                    field.setLength(0);
+                }
+                quoted = true;
+                wasQuoted = true;
+            } else if (c == ',') {
+                fields.add(new CsvField(field.toString(), wasQuoted));
+                field.setLength(0);
+                wasQuoted = false;
+            } else if (!(wasQuoted && Character.isWhitespace(c))) {
+                field.append(c);
+            }
+        }
+        fields.add(new CsvField(field.toString(), wasQuoted));
+        return fields;
+    }
+
+    record CsvField(String value, boolean quoted) {
+
+        // 따옴표 밖 값만 앞뒤 공백 제거
+        String trimmed() {
+            return quoted ? value : value.strip();
+        }
+    }
+}
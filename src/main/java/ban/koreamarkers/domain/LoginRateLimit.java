@@ -0,0 +1,34 @@
+package ban.koreamarkers.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 로그인 시도 토큰 버킷 (login-throttle.store=jpa 일 때 사용)
+ * - 시각은 CAS 비교가 정확하도록 epoch 밀리초 정수로 저장
+ */
+@Entity
+@Table(name = "login_rate_limits", indexes = {
+        @Index(name = "idx_login_rate_limits_full_at", columnList = "fullAtMillis")
+})
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoginRateLimit {
+
+    @Id
+    @Column(length = 120)
+    private String bucketKey;
+
+    @Column(nullable = false)
+    private long milliTokens;
+
+    @Column(nullable = false)
+    private long updatedAtMillis;
+
+    // 버킷이 다시 가득 차는 시각 (이후에는 삭제해도 됨)
+    @Column(nullable = false)
+    private long fullAtMillis;
+}
@@ -0,0 +1,67 @@
+package ban.koreamarkers.domain;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 캐시 보관용 불변 사용자 스냅샷
+ * - 영속성 컨텍스트와 무관한 값 객체라서 여러 스레드/요청에서 공유 가능
+ * - CredentialsContainer를 구현하지 않으므로 인증 후 password가 지워지지 않음
+ */
+public record UserSnapshot(String username, String password,
+                           List<GrantedAuthority> authorities, boolean enabled) implements UserDetails {
+
+    public UserSnapshot {
+        authorities = List.copyOf(authorities);
+    }
+
+    public static UserSnapshot from(UserDetails userDetails) {
+        if (userDetails instanceof UserSnapshot snapshot) {
+            return snapshot;
+        }
+        return new UserSnapshot(
+                userDetails.getUsername(),
+                userDetails.getPassword(),
+                List.copyOf(userDetails.getAuthorities()),
+                userDetails.isEnabled()
+        );
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public String getPassword() {
+        return password;
+    }
+
+    @Override
+    public String getUsername() {
+        return username;
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return true;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+}
@@ -0,0 +1,8 @@
+package ban.koreamarkers.domain.event;
+
+/**
+ * 사용자 생성/변경 이벤트
+ * - 커밋 이후 캐시 무효화 등에 사용
+ */
+public record UserChangedEvent(String username) {
+}
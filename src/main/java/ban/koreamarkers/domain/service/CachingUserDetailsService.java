@@ -0,0 +1,87 @@
+package ban.koreamarkers.domain.service;
+
+import ban.koreamarkers.auth.metrics.AuthMetrics;
+import ban.koreamarkers.auth.metrics.AuthMetrics.UserLoadResult;
+import ban.koreamarkers.domain.UserSnapshot;
+import ban.koreamarkers.domain.event.UserChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/**
+ * CustomUserDetailsService 캐싱 데코레이터
+ * - 폼 로그인, 토큰 갱신, 필터 인증마다 반복되는 findByUsername 조회를 캐시로 흡수
+ * - JPA 엔티티가 아닌 불변 UserSnapshot을 보관 (W-TinyLFU, 크기 제한 + TTL), 조회 결과가 이미 스냅샷이라 복사 없음
+ * - 사용자 생성/변경 트랜잭션 커밋 후 해당 엔트리 무효화
+ */
+@Primary
+@Service
+@RequiredArgsConstructor
+public class CachingUserDetailsService implements UserDetailsService {
+
+    private final CustomUserDetailsService customUserDetailsService;
+    private final AuthMetrics authMetrics;
+
+    @Value("${user-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${user-cache.maximum-size:10000}")
+    private long maximumSize;
+
+    @Value("${user-cache.ttl:300000}") // 5분 (밀리초)
+    private long ttl;
+
+    private Cache<String, UserSnapshot> cache;
+
+    @PostConstruct
+    void init() {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMillis(ttl))
+                .recordStats()
+                .build();
+        authMetrics.bindCache("user.details", cache);
+    }
+
+    @Override
+    public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        long start = System.nanoTime();
+        try {
+            UserDetails userDetails = enabled
+                    // 존재하지 않는 사용자는 예외가 그대로 전파되고 캐시되지 않음
+                    ? cache.get(username, key -> UserSnapshot.from(customUserDetailsService.loadUserByUsername(key)))
+                    : customUserDetailsService.loadUserByUsername(username);
+            authMetrics.recordUserLoad(UserLoadResult.FOUND, System.nanoTime() - start);
+            return userDetails;
+        } catch (UsernameNotFoundException e) {
+            authMetrics.recordUserLoad(UserLoadResult.NOT_FOUND, System.nanoTime() - start);
+            throw e;
+        }
+    }
+
+    // 사용자 생성/변경 커밋 후 무효화
+    @TransactionalEventListener
+    public void onUserChanged(UserChangedEvent event) {
+        evict(event.username());
+    }
+
+    public void evict(String username) {
+        cache.invalidate(username);
+    }
+
+    // 적중률 등 캐시 통계
+    public CacheStats stats() {
+        return cache.stats();
+    }
+}
@@ -1,8 +1,10 @@
 package ban.koreamarkers.domain.service;
 
-import ban.koreamarkers.domain.User;
+import ban.koreamarkers.domain.event.UserChangedEvent;
+import ban.koreamarkers.repository.UserCredentials;
 import ban.koreamarkers.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -14,12 +16,32 @@ import org.springframework.transaction.annotation.Transactional;
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
+    /**
+     * 인증에 필요한 컬럼만 프로젝션으로 조회해서 불변 UserSnapshot으로 반환
+     * - User 엔티티를 영속성 컨텍스트에 올리지 않으므로 트랜잭션 종료 시 dirty checking 없음
+     * - 쿼리 한 번이라 별도 읽기 전용 트랜잭션도 열지 않음
+     */
     @Override
-    @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        User user = userRepository.findByUsername(username)
+        return userRepository.findCredentialsByUsername(username)
+                .map(UserCredentials::toUserDetails)
                 .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + username));
-        return user;
+    }
+
+    /**
+     * 비밀번호 해시 교체 (로그인 시 레거시 해시 업그레이드용)
+     * - 그 사이 비밀번호가 바뀌었으면 덮어쓰지 않도록 기존 해시가 일치할 때만 갱신
+     */
+    @Transactional
+    public boolean updatePassword(String username, String oldEncodedPassword, String newEncodedPassword) {
+        int updated = userRepository.updatePassword(username, oldEncodedPassword, newEncodedPassword);
+        if (updated == 0) {
+            return false;
+        }
+        // 커밋 후 사용자 캐시 무효화
+        eventPublisher.publishEvent(new UserChangedEvent(username));
+        return true;
     }
 }
@@ -0,0 +1,151 @@
+package ban.koreamarkers.domain.service;
+
+import ban.koreamarkers.auth.metrics.AuthMetrics;
+import ban.koreamarkers.auth.metrics.AuthMetrics.PasswordUpgradeOutcome;
+import ban.koreamarkers.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 레거시 비밀번호 해시 투명 업그레이드
+ * - 목표 알고리즘과 다르거나 목표보다 낮은 cost(BCrypt cost, Argon2 메모리/반복 수)면 레거시로 판단
+ *   (노드마다 보정된 cost가 달라도 더 높은 cost의 해시는 다시 쓰지 않아 노드끼리 서로의 해시를 덮어쓰지 않음)
+ * - 로그인 성공 시 평문 비밀번호로 백그라운드 재해싱 후 조건부 UPDATE
+ * - 비밀번호 초기화 없이 cost/알고리즘을 조정할 수 있음
+ * - 진행 상황은 AuthMetrics로 노출 (레거시 로그인/재해싱 결과 카운터, 남은 레거시 계정 수 게이지)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PasswordUpgradeService {
+
+    private static final int PREFIX_SAMPLES = 3;
+
+    // {bcrypt}$2a$12$..., {argon2}$argon2id$v=19$m=16384,t=2,p=1$...
+    private static final Pattern BCRYPT = Pattern.compile("^\\{bcrypt}\\$2[abxy]?\\$(\\d{2})\\$");
+    private static final Pattern ARGON2 = Pattern.compile("^\\{argon2}\\$(argon2(?:id|i|d))\\$v=(\\d+)\\$m=(\\d+),t=(\\d+),p=\\d+\\$");
+
+    private final PasswordEncoder passwordEncoder;
+    private final CustomUserDetailsService customUserDetailsService;
+    private final UserRepository userRepository;
+    private final AuthMetrics authMetrics;
+
+    // 같은 사용자의 동시 로그인으로 중복 재해싱하지 않도록 진행 중인 사용자 기록
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+    // COUNT 쿼리는 수집 주기마다 돌지 않도록 legacy-count-interval마다 계산해서 게이지로 노출 (계산 전 -1)
+    private final AtomicLong legacyAccounts = new AtomicLong(-1);
+
+    private volatile String targetPrefix;
+
+    @PostConstruct
+    void init() {
+        authMetrics.bindLegacyAccounts(legacyAccounts::get);
+    }
+
+    // 저장된 해시가 목표와 다른 알고리즘이거나 목표보다 낮은 cost면 true
+    public boolean needsUpgrade(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        String target = getTargetPrefix();
+        if (encodedPassword.startsWith(target)) {
+            return false;
+        }
+        Matcher targetBcrypt = BCRYPT.matcher(target);
+        if (targetBcrypt.find()) {
+            Matcher stored = BCRYPT.matcher(encodedPassword);
+            return !stored.find() || Integer.parseInt(stored.group(1)) < Integer.parseInt(targetBcrypt.group(1));
+        }
+        Matcher targetArgon2 = ARGON2.matcher(target);
+        if (targetArgon2.find()) {
+            Matcher stored = ARGON2.matcher(encodedPassword);
+            return !stored.find()
+                    || !stored.group(1).equals(targetArgon2.group(1))
+                    || Integer.parseInt(stored.group(2)) < Integer.parseInt(targetArgon2.group(2))
+                    || Long.parseLong(stored.group(3)) < Long.parseLong(targetArgon2.group(3))
+                    || Long.parseLong(stored.group(4)) < Long.parseLong(targetArgon2.group(4));
+        }
+        // cost를 해석할 수 없는 알고리즘은 목표 접두사와 다르면 업그레이드
+        return true;
+    }
+
+    @Async
+    public void upgrade(String username, String rawPassword, String oldEncodedPassword) {
+        authMetrics.recordLegacyLogin();
+        if (!inFlight.add(username)) {
+            return;
+        }
+        try {
+            String newEncodedPassword = passwordEncoder.encode(rawPassword);
+            if (customUserDetailsService.updatePassword(username, oldEncodedPassword, newEncodedPassword)) {
+                authMetrics.recordPasswordUpgrade(PasswordUpgradeOutcome.UPGRADED);
+            }
+        } catch (Exception e) {
+            // 다음 로그인 때 다시 시도
+            authMetrics.recordPasswordUpgrade(PasswordUpgradeOutcome.FAILED);
+            log.warn("비밀번호 해시 업그레이드 실패: username={}, reason={}", username, e.getMessage());
+        } finally {
+            inFlight.remove(username);
+        }
+    }
+
+    // 아직 레거시로 저장된 계정 수
+    // - BCrypt: 다른 알고리즘 + 목표보다 낮은 cost (needsUpgrade와 같음)
+    // - 그 밖: 목표 알고리즘 접두사가 아닌 해시만 (같은 알고리즘의 낮은 파라미터는 SQL로 비교하지 않음)
+    public long countLegacyAccounts() {
+        String target = getTargetPrefix();
+        Matcher targetBcrypt = BCRYPT.matcher(target);
+        if (targetBcrypt.find()) {
+            return userRepository.countBcryptLegacyPasswords(targetBcrypt.group(1));
+        }
+        Matcher targetArgon2 = ARGON2.matcher(target);
+        if (targetArgon2.find()) {
+            return userRepository.countByPasswordNotLike("{argon2}$" + targetArgon2.group(1) + "$%");
+        }
+        return userRepository.countByPasswordNotLike(target + "%");
+    }
+
+    @Scheduled(fixedDelayString = "${password.hashing.legacy-count-interval:600000}")
+    public void refreshLegacyAccountCount() {
+        try {
+            legacyAccounts.set(countLegacyAccounts());
+        } catch (RuntimeException e) {
+            log.warn("레거시 해시 계정 수 계산 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 목표 인코더가 만드는 해시의 파라미터 접두사
+     * - 솔트가 매번 다르므로 여러 샘플의 공통 접두사를 구한 뒤 마지막 '$'까지 잘라냄
+     */
+    private String getTargetPrefix() {
+        String prefix = targetPrefix;
+        if (prefix == null) {
+            prefix = passwordEncoder.encode("prefix-sample");
+            for (int i = 1; i < PREFIX_SAMPLES; i++) {
+                String sample = passwordEncoder.encode("prefix-sample");
+                int length = 0;
+                while (length < prefix.length() && length < sample.length()
+                        && prefix.charAt(length) == sample.charAt(length)) {
+                    length++;
+                }
+                prefix = prefix.substring(0, length);
+            }
+            prefix = prefix.substring(0, prefix.lastIndexOf('$') + 1);
+            targetPrefix = prefix;
+        }
+        return prefix;
+    }
+}
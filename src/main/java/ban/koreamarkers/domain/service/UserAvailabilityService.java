@@ -0,0 +1,192 @@
+package ban.koreamarkers.domain.service;
+
+import ban.koreamarkers.domain.availability.BloomFilter;
+import ban.koreamarkers.repository.UserIdentity;
+import ban.koreamarkers.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * 아이디/이메일 사용 가능 여부 확인 (회원가입 폼 실시간 확인용)
+ * - users.username / users.email 을 담은 Bloom 필터로 대부분의 "사용 가능" 응답을 DB 조회 없이 처리
+ * - 필터가 "있을 수도 있음"이라고 답한 경우에만 existsByUsername / existsByEmail 조회
+ * - 기동 시 스냅샷 파일을 읽고 그 이후 가입자(id > 스냅샷 maxId)만 스트리밍으로 보충, 스냅샷이 없으면 전체 스트리밍
+ * - 구축이 끝나기 전에는 항상 DB 조회
+ * - 값은 소문자로 정규화 (MySQL 기본 collation이 대소문자를 구분하지 않음)
+ * - 필터는 노드 로컬: 다른 노드에서 가입한 값은 다음 재기동 전까지 이 노드 필터에 없어 "사용 가능"으로 답할 수 있음
+ *   -> 단일 노드 배포 전용. 여러 노드로 띄우려면 다른 노드의 가입 이벤트를 공유 채널(메시지 브로커 등)로 받아 register 해야 함
+ *   (어느 쪽이든 최종 중복 방지는 users 테이블의 unique 제약과 가입 시 검사가 담당)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserAvailabilityService {
+
+    private static final int SNAPSHOT_MAGIC = 0x4b4d4246; // "KMBF"
+    private static final int SNAPSHOT_VERSION = 1;
+
+    private final UserRepository userRepository;
+
+    @Value("${user-availability.expected-insertions:1000000}")
+    private long expectedInsertions;
+
+    @Value("${user-availability.false-positive-probability:0.01}")
+    private double falsePositiveProbability;
+
+    @Value("${user-availability.snapshot-path:}")
+    private String snapshotPath;
+
+    private BloomFilter usernames;
+    private BloomFilter emails;
+    private final AtomicLong maxIndexedId = new AtomicLong();
+    private volatile boolean ready;
+
+    @PostConstruct
+    void init() {
+        // 구축 중 가입한 사용자도 놓치지 않도록 빈 필터를 먼저 만들어 두고 그 위에 채움
+        this.usernames = BloomFilter.create(expectedInsertions, falsePositiveProbability);
+        this.emails = BloomFilter.create(expectedInsertions, falsePositiveProbability);
+    }
+
+    // 기동 후 백그라운드에서 필터 구축
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void warmUp() {
+        long start = System.nanoTime();
+        boolean restored = restoreSnapshot();
+
+        long count = 0;
+        try (Stream<UserIdentity> identities = userRepository.streamIdentitiesAfter(maxIndexedId.get())) {
+            for (UserIdentity identity : (Iterable<UserIdentity>) identities::iterator) {
+                usernames.put(normalize(identity.getUsername()));
+                emails.put(normalize(identity.getEmail()));
+                maxIndexedId.accumulateAndGet(identity.getId(), Math::max);
+                count++;
+            }
+        }
+        ready = true;
+        log.info("가입 여부 필터 준비 완료: snapshot={}, streamed={}, bits={}, hashes={}, {}ms",
+                restored, count, usernames.bitSize(), usernames.hashCount(), (System.nanoTime() - start) / 1_000_000);
+
+        saveSnapshot();
+    }
+
+    // 가입 시 필터에 추가 (커밋 전이어도 오탐만 늘어날 뿐 안전)
+    public void register(String username, String email) {
+        usernames.put(normalize(username));
+        emails.put(normalize(email));
+    }
+
+    // 단일 노드 전제: 필터가 "없음"이라고 답하면 DB를 보지 않음 (클래스 주석 참고)
+    public boolean isUsernameAvailable(String username) {
+        if (ready && !usernames.mightContain(normalize(username))) {
+            return true;
+        }
+        return !userRepository.existsByUsername(username);
+    }
+
+    public boolean isEmailAvailable(String email) {
+        if (ready && !emails.mightContain(normalize(email))) {
+            return true;
+        }
+        return !userRepository.existsByEmail(email);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (ready) {
+            saveSnapshot();
+        }
+    }
+
+    private boolean restoreSnapshot() {
+        if (snapshotPath.isBlank() || !Files.isReadable(Path.of(snapshotPath))) {
+            return false;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(Path.of(snapshotPath))))) {
+            if (in.readInt() != SNAPSHOT_MAGIC || in.readInt() != SNAPSHOT_VERSION
+                    || in.readLong() != usernames.bitSize() || in.readInt() != usernames.hashCount()) {
+                log.info("가입 여부 필터 스냅샷 설정이 달라 전체 재구축: {}", snapshotPath);
+                return false;
+            }
+            long snapshotMaxId = in.readLong();
+            long[] usernameWords = readWords(in, usernames.wordCount());
+            long[] emailWords = readWords(in, emails.wordCount());
+            usernames.merge(usernameWords);
+            emails.merge(emailWords);
+            maxIndexedId.accumulateAndGet(snapshotMaxId, Math::max);
+            return true;
+        } catch (IOException e) {
+            log.warn("가입 여부 필터 스냅샷 읽기 실패, 전체 재구축: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void saveSnapshot() {
+        if (snapshotPath.isBlank()) {
+            return;
+        }
+        Path target = Path.of(snapshotPath);
+        try {
+            Path parent = target.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path temp = Files.createTempFile(parent, "availability", ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(SNAPSHOT_MAGIC);
+                out.writeInt(SNAPSHOT_VERSION);
+                out.writeLong(usernames.bitSize());
+                out.writeInt(usernames.hashCount());
+                out.writeLong(maxIndexedId.get());
+                writeWords(out, usernames.toWords());
+                writeWords(out, emails.toWords());
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("가입 여부 필터 스냅샷 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    private static long[] readWords(DataInputStream in, int length) throws IOException {
+        long[] words = new long[length];
+        for (int i = 0; i < length; i++) {
+            words[i] = in.readLong();
+        }
+        return words;
+    }
+
+    private static void writeWords(DataOutputStream out, long[] words) throws IOException {
+        for (long word : words) {
+            out.writeLong(word);
+        }
+    }
+
+    // MySQL 기본 collation(대소문자 무시)과 같은 기준의 비교 키
+    static String normalize(String value) {
+        return value == null ? "" : value.strip().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,250 @@
+package ban.koreamarkers.domain.service;
+
+import ban.koreamarkers.common.PasswordHashingBusyException;
+import ban.koreamarkers.controller.dto.SignupRequest;
+import ban.koreamarkers.controller.dto.UserImportResult;
+import ban.koreamarkers.controller.dto.UserImportResult.Row;
+import ban.koreamarkers.controller.dto.UserImportResult.Status;
+import ban.koreamarkers.domain.User;
+import ban.koreamarkers.repository.UserBulkInsertRepository;
+import ban.koreamarkers.repository.UserIdentity;
+import ban.koreamarkers.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 사용자 일괄 가입 (조직 온보딩)
+ * - 입력을 스트리밍으로 읽어 chunk-size 단위로 처리
+ * - 청크마다 IN 쿼리 한 번으로 기존 아이디/이메일 중복 확인 (건별 exists 2회 + save 대신)
+ * - 비밀번호 해싱은 전용 가져오기 풀(hash-concurrency개 스레드)에서 병렬로 요청
+ *   (공유 해싱 풀을 다 차지하지 않도록 로그인 몫을 남기고, 포화 시 재시도 대기도 공용 ForkJoinPool이 아닌 이 풀에서 수행)
+ * - 아이디/이메일 중복은 MySQL collation처럼 대소문자/앞뒤 공백 무시하고 비교
+ * - 청크 단위 JDBC 배치 INSERT, 청크마다 별도 트랜잭션이라 실패해도 앞선 청크는 유지
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserImportService implements DisposableBean {
+
+    private static final int MAX_HASH_ATTEMPTS = 20;
+
+    private final UserRepository userRepository;
+    private final UserBulkInsertRepository userBulkInsertRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final UserAvailabilityService userAvailabilityService;
+
+    @Value("${user-import.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${user-import.hash-concurrency:0}") // 0이면 CPU 코어 수의 절반
+    private int hashConcurrency;
+
+    private ExecutorService hashExecutor;
+
+    @PostConstruct
+    void init() {
+        int threads = hashConcurrency > 0
+                ? hashConcurrency
+                : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.hashExecutor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "user-import-hash-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public void destroy() {
+        hashExecutor.shutdown();
+    }
+
+    public UserImportResult importUsers(Iterator<SignupRequest> requests) {
+        List<Row> rows = new ArrayList<>();
+        // 파일 내부 중복 확인용
+        Set<String> seenUsernames = new HashSet<>();
+        Set<String> seenEmails = new HashSet<>();
+        List<PendingRow> chunk = new ArrayList<>(chunkSize);
+
+        int line = 0;
+        while (requests.hasNext()) {
+            SignupRequest request = requests.next();
+            line++;
+
+            String violation = validate(request);
+            if (violation != null) {
+                rows.add(new Row(line, request.getUsername(), Status.INVALID, violation));
+                continue;
+            }
+            String username = UserAvailabilityService.normalize(request.getUsername());
+            String email = UserAvailabilityService.normalize(request.getEmail());
+            if (seenUsernames.contains(username)) {
+                rows.add(new Row(line, request.getUsername(), Status.DUPLICATE_USERNAME, "파일 내 중복된 아이디입니다."));
+                continue;
+            }
+            if (seenEmails.contains(email)) {
+                rows.add(new Row(line, request.getUsername(), Status.DUPLICATE_EMAIL, "파일 내 중복된 이메일입니다."));
+                continue;
+            }
+            seenUsernames.add(username);
+            seenEmails.add(email);
+
+            chunk.add(new PendingRow(line, request));
+            if (chunk.size() >= chunkSize) {
+                rows.addAll(processChunk(chunk));
+                chunk = new ArrayList<>(chunkSize);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            rows.addAll(processChunk(chunk));
+        }
+
+        rows.sort(Comparator.comparingInt(Row::line));
+        UserImportResult result = UserImportResult.of(rows);
+        log.info("일괄 가입 완료: total={}, created={}, failed={}", result.total(), result.created(), result.failed());
+        return result;
+    }
+
+    private List<Row> processChunk(List<PendingRow> chunk) {
+        List<Row> rows = new ArrayList<>(chunk.size());
+
+        // 1. 기존 사용자 중복 확인 (IN 쿼리 한 번)
+        Set<String> existingUsernames = new HashSet<>();
+        Set<String> existingEmails = new HashSet<>();
+        for (UserIdentity identity : userRepository.findIdentities(
+                chunk.stream().map(row -> row.request().getUsername()).toList(),
+                chunk.stream().map(row -> row.request().getEmail()).toList())) {
+            existingUsernames.add(UserAvailabilityService.normalize(identity.getUsername()));
+            existingEmails.add(UserAvailabilityService.normalize(identity.getEmail()));
+        }
+
+        List<PendingRow> candidates = new ArrayList<>(chunk.size());
+        for (PendingRow row : chunk) {
+            if (existingUsernames.contains(UserAvailabilityService.normalize(row.request().getUsername()))) {
+                rows.add(row.result(Status.DUPLICATE_USERNAME, "이미 사용 중인 아이디입니다."));
+            } else if (existingEmails.contains(UserAvailabilityService.normalize(row.request().getEmail()))) {
+                rows.add(row.result(Status.DUPLICATE_EMAIL, "이미 사용 중인 이메일입니다."));
+            } else {
+                candidates.add(row);
+            }
+        }
+
+        // 2. 병렬 해싱 (가져오기 풀 크기만큼만 동시에 해싱 풀에 요청)
+        List<CompletableFuture<HashedRow>> futures = candidates.stream()
+                .map(row -> CompletableFuture.supplyAsync(() -> hash(row), hashExecutor))
+                .toList();
+        List<HashedRow> hashed = futures.stream().map(CompletableFuture::join).toList();
+        List<User> users = new ArrayList<>(hashed.size());
+        List<PendingRow> inserted = new ArrayList<>(hashed.size());
+        for (HashedRow row : hashed) {
+            if (row.user() == null) {
+                rows.add(row.pending().result(Status.FAILED, "비밀번호 처리에 실패했습니다."));
+            } else {
+                users.add(row.user());
+                inserted.add(row.pending());
+            }
+        }
+
+        // 3. 배치 INSERT
+        if (!users.isEmpty()) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> userBulkInsertRepository.insertAll(users));
+                users.forEach(user -> userAvailabilityService.register(user.getUsername(), user.getEmail()));
+                inserted.forEach(row -> rows.add(row.result(Status.CREATED, null)));
+            } catch (DataIntegrityViolationException e) {
+                // 중복 확인 이후 다른 가입과 경합한 경우: 건별로 다시 저장해서 실패한 행만 표시
+                log.warn("일괄 INSERT 제약 조건 위반, 건별 저장으로 재시도: {}", e.getMostSpecificCause().getMessage());
+                for (int i = 0; i < users.size(); i++) {
+                    rows.add(insertOne(inserted.get(i), users.get(i)));
+                }
+            }
+        }
+        return rows;
+    }
+
+    private Row insertOne(PendingRow row, User user) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> userBulkInsertRepository.insertAll(List.of(user)));
+            userAvailabilityService.register(user.getUsername(), user.getEmail());
+            return row.result(Status.CREATED, null);
+        } catch (DataIntegrityViolationException e) {
+            return row.result(Status.FAILED, "이미 사용 중인 아이디 또는 이메일입니다.");
+        }
+    }
+
+    private HashedRow hash(PendingRow row) {
+        SignupRequest request = row.request();
+        String encoded = encode(request.getPassword());
+        if (encoded == null) {
+            return new HashedRow(row, null);
+        }
+        return new HashedRow(row, User.builder()
+                .username(request.getUsername())
+                .password(encoded)
+                .email(request.getEmail())
+                .name(request.getName())
+                .role(User.Role.USER)
+                .enabled(true)
+                .build());
+    }
+
+    // 로그인 트래픽으로 해싱 대기열이 가득 찬 경우 잠시 후 재시도
+    private String encode(String rawPassword) {
+        for (int attempt = 1; attempt <= MAX_HASH_ATTEMPTS; attempt++) {
+            try {
+                return passwordEncoder.encode(rawPassword);
+            } catch (PasswordHashingBusyException e) {
+                try {
+                    Thread.sleep(50L * attempt);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return null;
+                }
+            }
+        }
+        return null;
+    }
+
+    private String validate(SignupRequest request) {
+        Set<ConstraintViolation<SignupRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .reduce((a, b) -> a + ", " + b)
+                .orElse(null);
+    }
+
+    private record PendingRow(int line, SignupRequest request) {
+        Row result(Status status, String message) {
+            return new Row(line, request.getUsername(), status, message);
+        }
+    }
+
+    private record HashedRow(PendingRow pending, User user) {
+    }
+}
@@ -4,31 +4,34 @@ import ban.koreamarkers.common.DuplicateEmailException;
 import ban.koreamarkers.common.DuplicateUserNameException;
 import ban.koreamarkers.controller.dto.SignupRequest;
 import ban.koreamarkers.domain.User;
+import ban.koreamarkers.domain.event.UserChangedEvent;
 import ban.koreamarkers.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.SQLException;
+import java.util.Locale;
+
 @Service
 @RequiredArgsConstructor
 public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UserAvailabilityService userAvailabilityService;
 
+    /**
+     * 회원가입: INSERT 한 번으로 처리
+     * - 중복 여부는 users.username / users.email 유니크 제약으로 판단 (exists 조회 2회 제거)
+     * - 확인과 저장 사이 경합이 없으므로 동시 가입에서도 한 건만 성공
+     */
     @Transactional
     public User signup(SignupRequest signupRequest) {
-        // 아이디 중복 확인
-        if (userRepository.existsByUsername(signupRequest.getUsername())) {
-            throw new DuplicateUserNameException("이미 사용 중인 아이디입니다.");
-        }
-
-        // 이메일 중복 확인
-        if (userRepository.existsByEmail(signupRequest.getEmail())) {
-            throw new DuplicateEmailException("이미 사용 중인 이메일입니다.");
-        }
-
         // 사용자 생성
         User user = User.builder()
                 .username(signupRequest.getUsername())
@@ -39,6 +42,58 @@ public class UserService {
                 .enabled(true)
                 .build();
 
-        return userRepository.save(user);
+        User saved;
+        try {
+            saved = userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            throw translateDuplicate(e, signupRequest);
+        }
+
+        // 가입 여부 필터 갱신 + 커밋 후 사용자 캐시 무효화
+        userAvailabilityService.register(saved.getUsername(), saved.getEmail());
+        eventPublisher.publishEvent(new UserChangedEvent(saved.getUsername()));
+        return saved;
+    }
+
+    /**
+     * 유니크 제약 위반을 아이디/이메일 중복 예외로 변환
+     * - MySQL: Duplicate entry 'ban' for key 'users.UK...' (제약 이름이 해시라 중복된 값으로 구분)
+     * - H2: ... ON PUBLIC.USERS(USERNAME ...) VALUES ( 'ban' )
+     * - NOT NULL/길이 초과 등 다른 무결성 위반은 메시지에 컬럼 이름이 있어도 그대로 다시 던짐
+     */
+    private RuntimeException translateDuplicate(DataIntegrityViolationException e, SignupRequest signupRequest) {
+        if (!isUniqueViolation(e)) {
+            return e;
+        }
+        String detail = String.valueOf(e.getMostSpecificCause().getMessage()).toLowerCase(Locale.ROOT);
+        if (detail.contains(quoted(signupRequest.getUsername()))) {
+            return new DuplicateUserNameException("이미 사용 중인 아이디입니다.");
+        }
+        if (detail.contains(quoted(signupRequest.getEmail()))) {
+            return new DuplicateEmailException("이미 사용 중인 이메일입니다.");
+        }
+        if (detail.contains("username")) {
+            return new DuplicateUserNameException("이미 사용 중인 아이디입니다.");
+        }
+        if (detail.contains("email")) {
+            return new DuplicateEmailException("이미 사용 중인 이메일입니다.");
+        }
+        return e;
+    }
+
+    // MySQL: SQLState 23000 + 오류 코드 1062 (ER_DUP_ENTRY), H2: SQLState 23505
+    private static boolean isUniqueViolation(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException) {
+                String sqlState = sqlException.getSQLState();
+                return "23505".equals(sqlState)
+                        || ("23000".equals(sqlState) && sqlException.getErrorCode() == 1062);
+            }
+        }
+        return false;
+    }
+
+    private static String quoted(String value) {
+        return "'" + String.valueOf(value).toLowerCase(Locale.ROOT) + "'";
     }
 }
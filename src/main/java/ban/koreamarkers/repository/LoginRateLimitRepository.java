@@ -0,0 +1,41 @@
+package ban.koreamarkers.repository;
+
+import ban.koreamarkers.domain.LoginRateLimit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface LoginRateLimitRepository extends JpaRepository<LoginRateLimit, String> {
+
+    // 읽은 뒤 다른 노드가 바꾸지 않았을 때만 갱신 (CAS)
+    @Transactional
+    @Modifying
+    @Query("update LoginRateLimit l set l.milliTokens = :milliTokens, l.updatedAtMillis = :updatedAtMillis, "
+            + "l.fullAtMillis = :fullAtMillis where l.bucketKey = :bucketKey "
+            + "and l.milliTokens = :expectedMilliTokens and l.updatedAtMillis = :expectedUpdatedAtMillis")
+    int compareAndSet(@Param("bucketKey") String bucketKey,
+                      @Param("expectedMilliTokens") long expectedMilliTokens,
+                      @Param("expectedUpdatedAtMillis") long expectedUpdatedAtMillis,
+                      @Param("milliTokens") long milliTokens,
+                      @Param("updatedAtMillis") long updatedAtMillis,
+                      @Param("fullAtMillis") long fullAtMillis);
+
+    // merge(save) 대신 INSERT만 수행해서 동시에 생성되면 키 중복으로 실패하도록 함
+    @Transactional
+    @Modifying
+    @Query("insert into LoginRateLimit (bucketKey, milliTokens, updatedAtMillis, fullAtMillis) "
+            + "values (:bucketKey, :milliTokens, :updatedAtMillis, :fullAtMillis)")
+    int insert(@Param("bucketKey") String bucketKey,
+               @Param("milliTokens") long milliTokens,
+               @Param("updatedAtMillis") long updatedAtMillis,
+               @Param("fullAtMillis") long fullAtMillis);
+
+    @Transactional
+    @Modifying
+    @Query("delete from LoginRateLimit l where l.fullAtMillis <= :now")
+    int deleteFull(@Param("now") long now);
+}
@@ -0,0 +1,41 @@
+package ban.koreamarkers.repository;
+
+import ban.koreamarkers.domain.RefreshToken;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, String> {
+
+    @Modifying
+    @Query("update RefreshToken t set t.tokenId = :nextTokenId "
+            + "where t.familyId = :familyId and t.tokenId = :presentedTokenId and t.expiresAt > :now")
+    int rotate(@Param("familyId") String familyId,
+               @Param("presentedTokenId") String presentedTokenId,
+               @Param("nextTokenId") String nextTokenId,
+               @Param("now") Instant now);
+
+    boolean existsByFamilyIdAndTokenIdAndExpiresAtAfter(String familyId, String tokenId, Instant now);
+
+    @Modifying
+    @Query("delete from RefreshToken t where t.familyId = :familyId and t.expiresAt > :now")
+    int deleteActiveFamily(@Param("familyId") String familyId, @Param("now") Instant now);
+
+    @Modifying
+    @Query("delete from RefreshToken t where t.familyId = :familyId")
+    int deleteByFamilyId(@Param("familyId") String familyId);
+
+    @Modifying
+    @Query("delete from RefreshToken t where t.username = :username")
+    int deleteByUsername(@Param("username") String username);
+
+    @Query("select t.familyId from RefreshToken t where t.expiresAt <= :now")
+    List<String> findExpiredFamilyIds(@Param("now") Instant now, Pageable pageable);
+}
@@ -0,0 +1,41 @@
+package ban.koreamarkers.repository;
+
+import ban.koreamarkers.domain.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 사용자 일괄 INSERT
+ * - IDENTITY 전략에서는 Hibernate가 INSERT마다 생성된 id를 받아야 해서 배치가 꺼지므로 JDBC 배치로 직접 저장
+ * - id는 DB의 AUTO_INCREMENT가 채우고, 저장 후 엔티티로 다시 읽지 않음
+ * - MySQL에서는 rewriteBatchedStatements=true 일 때 배치가 다중 VALUES INSERT 하나로 합쳐짐
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserBulkInsertRepository {
+
+    private static final String INSERT_SQL = "insert into users "
+            + "(username, password, email, name, role, enabled, created_at, updated_at) "
+            + "values (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertAll(List<User> users) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, users, users.size(), (ps, user) -> {
+            ps.setString(1, user.getUsername());
+            ps.setString(2, user.getPassword());
+            ps.setString(3, user.getEmail());
+            ps.setString(4, user.getName());
+            ps.setString(5, user.getRole().name());
+            ps.setBoolean(6, user.getEnabled());
+            ps.setTimestamp(7, now);
+            ps.setTimestamp(8, now);
+        });
+    }
+}
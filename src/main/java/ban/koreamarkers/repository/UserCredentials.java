@@ -0,0 +1,30 @@
+package ban.koreamarkers.repository;
+
+import ban.koreamarkers.domain.User.Role;
+import ban.koreamarkers.domain.UserSnapshot;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 인증용 프로젝션 (아이디, 비밀번호 해시, 권한, 활성화 여부만 조회)
+ * - JPQL 생성자 표현식으로 바로 만들어지므로 영속성 컨텍스트에 엔티티가 올라가지 않음 (감사 필드, dirty checking 없음)
+ */
+public record UserCredentials(String username, String password, Role role, Boolean enabled) {
+
+    // 역할별 권한 목록은 미리 만들어 두고 모든 사용자가 공유
+    private static final Map<Role, List<GrantedAuthority>> AUTHORITIES = new EnumMap<>(Role.class);
+
+    static {
+        for (Role role : Role.values()) {
+            AUTHORITIES.put(role, List.of(new SimpleGrantedAuthority("ROLE_" + role.name())));
+        }
+    }
+
+    public UserSnapshot toUserDetails() {
+        return new UserSnapshot(username, password, AUTHORITIES.get(role), Boolean.TRUE.equals(enabled));
+    }
+}
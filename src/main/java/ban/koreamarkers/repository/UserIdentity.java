@@ -0,0 +1,10 @@
+package ban.koreamarkers.repository;
+
+/**
+ * 중복 확인용 프로젝션 (id, 아이디, 이메일만 조회)
+ */
+public interface UserIdentity {
+    Long getId();
+    String getUsername();
+    String getEmail();
+}
@@ -1,15 +1,53 @@
 package ban.koreamarkers.repository;
 
 import ban.koreamarkers.domain.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByUsername(String username);
+
+    // 인증 경로용 경량 조회 (엔티티 대신 필요한 컬럼만, 영속성 컨텍스트 관리 없음)
+    @Query("select new ban.koreamarkers.repository.UserCredentials(u.username, u.password, u.role, u.enabled) "
+            + "from User u where u.username = :username")
+    Optional<UserCredentials> findCredentialsByUsername(@Param("username") String username);
+
     Optional<User> findByEmail(String email);
     boolean existsByUsername(String username);
     boolean existsByEmail(String email);
+    long countByPasswordNotLike(String passwordPattern);
+
+    // BCrypt가 아니거나 cost('{bcrypt}$2a$' 다음 두 자리)가 목표보다 낮은 해시 수
+    @Query("select count(u) from User u where u.password not like '{bcrypt}$2%' or substring(u.password, 13, 2) < :cost")
+    long countBcryptLegacyPasswords(@Param("cost") String cost);
+
+    // 일괄 가입 청크 단위 중복 확인 (IN 쿼리 한 번)
+    @Query("select u.id as id, u.username as username, u.email as email from User u "
+            + "where u.username in :usernames or u.email in :emails")
+    List<UserIdentity> findIdentities(@Param("usernames") Collection<String> usernames,
+                                      @Param("emails") Collection<String> emails);
+
+    // 가입 여부 필터 구축용 스트리밍 조회 (엔티티 대신 프로젝션, 트랜잭션 안에서 소비)
+    // MySQL은 useCursorFetch=true(prod 프로필)일 때만 fetch size만큼씩 서버 커서로 읽음 (기본 프로필은 전체 결과를 메모리에 적재)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select u.id as id, u.username as username, u.email as email from User u where u.id > :afterId")
+    Stream<UserIdentity> streamIdentitiesAfter(@Param("afterId") long afterId);
+
+    @Modifying(clearAutomatically = true)
+    @Query("update User u set u.password = :newPassword where u.username = :username and u.password = :oldPassword")
+    int updatePassword(@Param("username") String username,
+                       @Param("oldPassword") String oldPassword,
+                       @Param("newPassword") String newPassword);
 }
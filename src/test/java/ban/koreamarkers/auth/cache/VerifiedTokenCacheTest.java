@@ -0,0 +1,118 @@
+package ban.koreamarkers.auth.cache;
+
+import ban.koreamarkers.auth.metrics.AuthMetrics;
+import ban.koreamarkers.auth.util.JwtTokenUtil;
+import ban.koreamarkers.auth.util.VerifiedToken;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class VerifiedTokenCacheTest {
+
+    static final String TOKEN = "header.payload.signature";
+
+    JwtTokenUtil jwtTokenUtil = mock(JwtTokenUtil.class);
+
+    @Test
+    @DisplayName("같은 토큰은 서명 검증을 한 번만 수행")
+    void verify_cachesResult() {
+        VerifiedTokenCache cache = cache(true);
+        VerifiedToken verifiedToken = accessToken(Duration.ofMinutes(15));
+        when(jwtTokenUtil.verify(TOKEN)).thenReturn(verifiedToken);
+
+        assertThat(cache.verify(TOKEN)).isSameAs(verifiedToken);
+        assertThat(cache.verify(TOKEN)).isSameAs(verifiedToken);
+
+        verify(jwtTokenUtil, times(1)).verify(TOKEN);
+        assertThat(cache.stats().hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("로그아웃한 토큰은 캐시에 있든 없든 이후 검증에서 거부")
+    void invalidate_rejectsToken() {
+        VerifiedTokenCache cache = cache(true);
+        when(jwtTokenUtil.verify(TOKEN)).thenReturn(accessToken(Duration.ofMinutes(15)));
+        cache.verify(TOKEN);
+
+        cache.invalidate(TOKEN);
+
+        assertThatThrownBy(() -> cache.verify(TOKEN)).isInstanceOf(JwtException.class);
+
+        String other = "other.payload.signature";
+        when(jwtTokenUtil.verify(other)).thenReturn(accessToken(Duration.ofMinutes(15)));
+        cache.invalidate(other);
+        assertThatThrownBy(() -> cache.verify(other)).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    @DisplayName("검증 중에 로그아웃이 끼어들어도 revoked 마커를 덮어쓰지 않음")
+    void verify_doesNotOverwriteRevokedMarker() {
+        VerifiedTokenCache cache = cache(true);
+        VerifiedToken verifiedToken = accessToken(Duration.ofMinutes(15));
+        AtomicBoolean first = new AtomicBoolean(true);
+        when(jwtTokenUtil.verify(TOKEN)).thenAnswer(invocation -> {
+            if (first.getAndSet(false)) {
+                // 첫 검증(캐시 미스)이 끝나기 전에 다른 요청이 로그아웃
+                cache.invalidate(TOKEN);
+            }
+            return verifiedToken;
+        });
+
+        assertThatThrownBy(() -> cache.verify(TOKEN)).isInstanceOf(JwtException.class);
+        assertThatThrownBy(() -> cache.verify(TOKEN)).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    @DisplayName("엔트리는 토큰의 exp 시각에 만료되어 다시 검증, 만료는 ExpiredJwtException으로 구분")
+    void entry_expiresAtTokenExpiration() throws InterruptedException {
+        VerifiedTokenCache cache = cache(true);
+        when(jwtTokenUtil.verify(TOKEN))
+                .thenReturn(accessToken(Duration.ofMillis(200)))
+                .thenThrow(new ExpiredJwtException(null, null, "만료된 토큰입니다."));
+        cache.verify(TOKEN);
+
+        Thread.sleep(300);
+
+        // 갱신 API가 INVALID_TOKEN이 아닌 EXPIRED로 응답하도록 일반 JwtException이 아니어야 함
+        assertThatThrownBy(() -> cache.verify(TOKEN)).isInstanceOf(ExpiredJwtException.class);
+        verify(jwtTokenUtil, times(2)).verify(TOKEN);
+    }
+
+    @Test
+    @DisplayName("jwt.cache.enabled=false면 매번 검증하고 캐시에 아무것도 남기지 않음")
+    void disabled_alwaysVerifies() {
+        VerifiedTokenCache cache = cache(false);
+        when(jwtTokenUtil.verify(TOKEN)).thenReturn(accessToken(Duration.ofMinutes(15)));
+
+        cache.verify(TOKEN);
+        cache.verify(TOKEN);
+        cache.invalidate(TOKEN);
+
+        verify(jwtTokenUtil, times(2)).verify(TOKEN);
+        assertThat(cache.size()).isZero();
+    }
+
+    private VerifiedTokenCache cache(boolean enabled) {
+        VerifiedTokenCache cache = new VerifiedTokenCache(jwtTokenUtil, AuthMetrics.noop());
+        ReflectionTestUtils.setField(cache, "enabled", enabled);
+        ReflectionTestUtils.setField(cache, "maximumSize", 100L);
+        ReflectionTestUtils.invokeMethod(cache, "init");
+        return cache;
+    }
+
+    private static VerifiedToken accessToken(Duration ttl) {
+        Instant now = Instant.now();
+        return new VerifiedToken("jti", "ban", VerifiedToken.ACCESS, now.plus(ttl), now,
+                List.of("ROLE_USER"), true, null);
+    }
+}
@@ -0,0 +1,52 @@
+package ban.koreamarkers.auth.config;
+
+import ban.koreamarkers.auth.config.PublicRoutes.Route;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PublicRoutesTest {
+
+    @Test
+    @DisplayName("정적 리소스: /** 패턴은 기준 경로와 하위 경로 모두 해당")
+    void classify_static() {
+        assertThat(PublicRoutes.classify("/css/app.css")).isEqualTo(Route.STATIC);
+        assertThat(PublicRoutes.classify("/js/lib/signup.js")).isEqualTo(Route.STATIC);
+        assertThat(PublicRoutes.classify("/images")).isEqualTo(Route.STATIC);
+        assertThat(PublicRoutes.classify("/favicon.ico")).isEqualTo(Route.STATIC);
+    }
+
+    @Test
+    @DisplayName("permitAll 경로는 정확히 일치할 때만 PUBLIC")
+    void classify_public() {
+        assertThat(PublicRoutes.classify("/login")).isEqualTo(Route.PUBLIC);
+        assertThat(PublicRoutes.classify("/api/auth/refresh")).isEqualTo(Route.PUBLIC);
+        assertThat(PublicRoutes.classify("/.well-known/jwks.json")).isEqualTo(Route.PUBLIC);
+        assertThat(PublicRoutes.classify("/login/")).isEqualTo(Route.PROTECTED);
+        assertThat(PublicRoutes.classify("/loginx")).isEqualTo(Route.PROTECTED);
+    }
+
+    @Test
+    @DisplayName("접두사만 같은 경로와 나머지는 PROTECTED")
+    void classify_protected() {
+        assertThat(PublicRoutes.classify("/")).isEqualTo(Route.PROTECTED);
+        assertThat(PublicRoutes.classify("/cssx/app.css")).isEqualTo(Route.PROTECTED);
+        assertThat(PublicRoutes.classify("/api/users/import")).isEqualTo(Route.PROTECTED);
+        assertThat(PublicRoutes.classify("/api/auth/introspect")).isEqualTo(Route.PROTECTED); // 서비스 계정 전용 체인
+        assertThat(PublicRoutes.classify("/actuator/prometheus")).isEqualTo(Route.PROTECTED);
+        assertThat(PublicRoutes.classify("/api/auth")).isEqualTo(Route.PROTECTED);
+        assertThat(PublicRoutes.classify("/이미지")).isEqualTo(Route.PROTECTED);
+    }
+
+    @Test
+    @DisplayName("요청은 servletPath + pathInfo 기준으로 분류")
+    void classify_request() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/app/css/app.css");
+        request.setContextPath("/app");
+        request.setServletPath("/css/app.css");
+
+        assertThat(PublicRoutes.classify(request)).isEqualTo(Route.STATIC);
+    }
+}
@@ -0,0 +1,105 @@
+package ban.koreamarkers.auth.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 토큰 일괄 조회/메트릭 수집은 각 서비스 계정(HTTP Basic)만 호출 가능 (임베디드 H2로 전체 기동)
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:introspect;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database=h2",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "user-availability.snapshot-path=",
+        "jwt.keys.directory=",
+        "jwt.introspection.client-id=gateway",
+        "jwt.introspection.client-secret={noop}gateway-secret",
+        "prometheus-scrape.username=prometheus",
+        "prometheus-scrape.password={noop}scrape-secret"
+})
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false) // 테스트에서도 Prometheus 레지스트리 등록
+class ServiceClientSecurityTest {
+
+    private static final String BODY = "{\"tokens\": [\"not-a-jwt\"]}";
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Test
+    @DisplayName("익명 호출은 401")
+    void introspect_anonymous() throws Exception {
+        mockMvc.perform(introspect())
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("잘못된 서비스 계정 비밀번호는 401")
+    void introspect_wrongSecret() throws Exception {
+        mockMvc.perform(introspect().header(HttpHeaders.AUTHORIZATION, basic("gateway", "wrong")))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("서비스 계정은 조회 결과를 받음 (조회 풀에서 비동기 처리)")
+    void introspect_serviceClient() throws Exception {
+        MvcResult started = mockMvc.perform(introspect().header(HttpHeaders.AUTHORIZATION, basic("gateway", "gateway-secret")))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results[0].active").value(false));
+    }
+
+    @Test
+    @DisplayName("메트릭 수집: 익명 401, 다른 서비스 계정 403, 수집 계정 200")
+    void prometheus() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/actuator/prometheus").header(HttpHeaders.AUTHORIZATION, basic("gateway", "gateway-secret")))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/prometheus").header(HttpHeaders.AUTHORIZATION, basic("prometheus", "scrape-secret")))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("헬스 체크는 인증 없이 허용")
+    void health_public() throws Exception {
+        mockMvc.perform(get("/actuator/health"))
+                .andExpect(status().isOk());
+    }
+
+    private static MockHttpServletRequestBuilder introspect() {
+        return post("/api/auth/introspect")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(BODY);
+    }
+
+    private static String basic(String username, String password) {
+        return "Basic " + Base64.getEncoder()
+                .encodeToString((username + ":" + password).getBytes(StandardCharsets.UTF_8));
+    }
+}
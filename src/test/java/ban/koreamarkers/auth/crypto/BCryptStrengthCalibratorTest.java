@@ -0,0 +1,23 @@
+package ban.koreamarkers.auth.crypto;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class BCryptStrengthCalibratorTest {
+
+    @Test
+    @DisplayName("목표 지연이 측정값보다 짧아도 최소 cost 아래로 내려가지 않음")
+    void calibrate_neverBelowMinimum() {
+        assertThat(BCryptStrengthCalibrator.calibrate(4, 0)).isEqualTo(4);
+        assertThat(BCryptStrengthCalibrator.calibrate(6, 1)).isGreaterThanOrEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("목표 지연이 길면 cost를 올리되 BCrypt 최대값(31)을 넘지 않음")
+    void calibrate_raisesWithinBounds() {
+        assertThat(BCryptStrengthCalibrator.calibrate(4, 1000)).isBetween(5, 31);
+        assertThat(BCryptStrengthCalibrator.calibrate(4, Long.MAX_VALUE / 4)).isEqualTo(31);
+    }
+}
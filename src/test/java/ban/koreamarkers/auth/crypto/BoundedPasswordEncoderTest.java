@@ -0,0 +1,74 @@
+package ban.koreamarkers.auth.crypto;
+
+import ban.koreamarkers.auth.metrics.AuthMetrics;
+import ban.koreamarkers.common.PasswordHashingBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class BoundedPasswordEncoderTest {
+
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    PasswordEncoder delegate = mock(PasswordEncoder.class);
+    BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(delegate, 1, 1, new AuthMetrics(registry));
+
+    @AfterEach
+    void tearDown() {
+        encoder.destroy();
+    }
+
+    @Test
+    @DisplayName("해싱 풀에서 위임 인코더를 실행하고 결과를 그대로 반환")
+    void encode_delegates() {
+        when(delegate.encode("1q2w3e")).thenReturn("ENC(1q2w3e)");
+        when(delegate.matches("1q2w3e", "ENC(1q2w3e)")).thenReturn(true);
+
+        assertThat(encoder.encode("1q2w3e")).isEqualTo("ENC(1q2w3e)");
+        assertThat(encoder.matches("1q2w3e", "ENC(1q2w3e)")).isTrue();
+    }
+
+    @Test
+    @DisplayName("스레드와 대기열이 모두 차면 기다리지 않고 PasswordHashingBusyException")
+    void saturated_rejectsImmediately() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.encode(any())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return "ENC(slow)";
+        });
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("first"));
+        awaitUntil(() -> encoder.getActiveCount() == 1);
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("second"));
+        awaitUntil(() -> encoder.getQueueDepth() == 1);
+
+        try {
+            assertThatThrownBy(() -> encoder.encode("third")).isInstanceOf(PasswordHashingBusyException.class);
+            assertThat(registry.get("auth.password.rejected").counter().count()).isEqualTo(1.0);
+        } finally {
+            release.countDown();
+        }
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("ENC(slow)");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("ENC(slow)");
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("조건을 만족하지 못함");
+            }
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package ban.koreamarkers.auth.crypto;
+
+import ban.koreamarkers.domain.User;
+import ban.koreamarkers.domain.service.PasswordUpgradeService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class PasswordUpgradingAuthenticationProviderTest {
+
+    PasswordEncoder passwordEncoder = new DelegatingPasswordEncoder("bcrypt",
+            Map.of("bcrypt", new BCryptPasswordEncoder(4)));
+    PasswordUpgradeService passwordUpgradeService = mock(PasswordUpgradeService.class);
+
+    User user = User.builder()
+            .username("ban")
+            .password(passwordEncoder.encode("1q2w3e"))
+            .email("bbgiloo@gmail.com")
+            .build();
+
+    PasswordUpgradingAuthenticationProvider provider = new PasswordUpgradingAuthenticationProvider(
+            username -> user, passwordEncoder, passwordUpgradeService);
+
+    @Test
+    @DisplayName("로그인 성공 + 레거시 해시면 평문 비밀번호로 백그라운드 재해싱 요청")
+    void authenticate_legacyHash_requestUpgrade() {
+        when(passwordUpgradeService.needsUpgrade(user.getPassword())).thenReturn(true);
+
+        Authentication authentication = provider.authenticate(
+                new UsernamePasswordAuthenticationToken("ban", "1q2w3e"));
+
+        assertThat(authentication.isAuthenticated()).isTrue();
+        verify(passwordUpgradeService).upgrade("ban", "1q2w3e", user.getPassword());
+    }
+
+    @Test
+    @DisplayName("목표 해시면 재해싱하지 않음")
+    void authenticate_currentHash_noUpgrade() {
+        when(passwordUpgradeService.needsUpgrade(user.getPassword())).thenReturn(false);
+
+        provider.authenticate(new UsernamePasswordAuthenticationToken("ban", "1q2w3e"));
+
+        verify(passwordUpgradeService, never()).upgrade(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("비밀번호가 틀리면 재해싱 판단 자체를 하지 않음")
+    void authenticate_badCredentials_noUpgrade() {
+        assertThatThrownBy(() -> provider.authenticate(new UsernamePasswordAuthenticationToken("ban", "wrong")))
+                .isInstanceOf(BadCredentialsException.class);
+
+        verifyNoInteractions(passwordUpgradeService);
+    }
+}
@@ -0,0 +1,146 @@
+package ban.koreamarkers.auth.filter;
+
+import ban.koreamarkers.auth.cache.VerifiedTokenCache;
+import ban.koreamarkers.auth.key.SigningKeyRing;
+import ban.koreamarkers.auth.metrics.AuthMetrics;
+import ban.koreamarkers.auth.refresh.AccessTokenRenewer;
+import ban.koreamarkers.auth.refresh.InMemoryRefreshTokenStore;
+import ban.koreamarkers.auth.refresh.RefreshTokenService;
+import ban.koreamarkers.auth.revocation.AccessTokenDenylist;
+import ban.koreamarkers.auth.revocation.LoopbackRevocationBroadcaster;
+import ban.koreamarkers.auth.revocation.TokenVersionRegistry;
+import ban.koreamarkers.auth.util.JwtTokenUtil;
+import ban.koreamarkers.auth.util.TokenCookies;
+import ban.koreamarkers.domain.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class JwtAuthenticationFilterTest {
+
+    JwtTokenUtil jwtTokenUtil;
+    TokenVersionRegistry tokenVersionRegistry;
+    JwtAuthenticationFilter filter;
+
+    // 사용자 조회 횟수 (stateless 모드에서는 0이어야 함)
+    AtomicInteger lookups = new AtomicInteger();
+
+    User user = User.builder()
+            .username("ban")
+            .password("ENC(1q2w3e)")
+            .email("bbgiloo@gmail.com")
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        SigningKeyRing signingKeyRing = new SigningKeyRing();
+        ReflectionTestUtils.setField(signingKeyRing, "algorithm", "ES256");
+        ReflectionTestUtils.setField(signingKeyRing, "directory", "");
+        ReflectionTestUtils.invokeMethod(signingKeyRing, "init");
+
+        jwtTokenUtil = new JwtTokenUtil(AuthMetrics.noop(), signingKeyRing);
+        ReflectionTestUtils.setField(jwtTokenUtil, "secret", "");
+        ReflectionTestUtils.setField(jwtTokenUtil, "accessTokenExpiration", 900000L);
+        ReflectionTestUtils.setField(jwtTokenUtil, "refreshTokenExpiration", 604800000L);
+        ReflectionTestUtils.invokeMethod(jwtTokenUtil, "init");
+
+        VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(jwtTokenUtil, AuthMetrics.noop());
+        ReflectionTestUtils.setField(verifiedTokenCache, "enabled", true);
+        ReflectionTestUtils.setField(verifiedTokenCache, "maximumSize", 100L);
+        ReflectionTestUtils.invokeMethod(verifiedTokenCache, "init");
+
+        tokenVersionRegistry = new TokenVersionRegistry();
+        AccessTokenDenylist accessTokenDenylist =
+                new AccessTokenDenylist(new LoopbackRevocationBroadcaster(), AuthMetrics.noop());
+        ReflectionTestUtils.invokeMethod(accessTokenDenylist, "init");
+
+        RefreshTokenService refreshTokenService =
+                new RefreshTokenService(jwtTokenUtil, new InMemoryRefreshTokenStore(1000L));
+        AccessTokenRenewer renewer = new AccessTokenRenewer(jwtTokenUtil, verifiedTokenCache, refreshTokenService,
+                new TokenCookies(jwtTokenUtil), AuthMetrics.noop());
+        ReflectionTestUtils.setField(renewer, "enabled", false);
+
+        UserDetailsService userDetailsService = username -> {
+            lookups.incrementAndGet();
+            return user;
+        };
+
+        filter = new JwtAuthenticationFilter(verifiedTokenCache, tokenVersionRegistry, accessTokenDenylist,
+                AuthMetrics.noop(), renewer, userDetailsService);
+        ReflectionTestUtils.setField(filter, "statelessPrincipal", true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("stateless: AccessToken 클레임으로 principal 복원, 사용자 조회 없음")
+    void stateless_principalFromClaims() throws Exception {
+        Authentication authentication = filter(jwtTokenUtil.generateAccessToken(user));
+
+        assertThat(authentication).isNotNull();
+        assertThat(authentication.getName()).isEqualTo("ban");
+        assertThat(authentication.getAuthorities()).extracting("authority").containsExactly("ROLE_USER");
+        assertThat(lookups).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("stateless: enabled=false 클레임이면 인증하지 않음")
+    void stateless_disabledClaim() throws Exception {
+        User disabled = User.builder()
+                .username("disabled")
+                .password("ENC(1q2w3e)")
+                .email("disabled@example.com")
+                .enabled(false)
+                .build();
+
+        assertThat(filter(jwtTokenUtil.generateAccessToken(disabled))).isNull();
+        assertThat(lookups).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("stateless: revokeAll 이전에 발급된 토큰은 DB 조회 없이 거부")
+    void stateless_revokedByTokenVersion() throws Exception {
+        String token = jwtTokenUtil.generateAccessToken(user);
+        tokenVersionRegistry.revokeAll("ban");
+
+        assertThat(filter(token)).isNull();
+        assertThat(lookups).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("stateless=false: 요청마다 UserDetailsService로 사용자 조회")
+    void stateful_loadsUser() throws Exception {
+        ReflectionTestUtils.setField(filter, "statelessPrincipal", false);
+
+        Authentication authentication = filter(jwtTokenUtil.generateAccessToken(user));
+
+        assertThat(authentication).isNotNull();
+        assertThat(authentication.getPrincipal()).isSameAs(user);
+        assertThat(lookups).hasValue(1);
+    }
+
+    private Authentication filter(String accessToken) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        request.setServletPath("/");
+        request.addHeader("Authorization", "Bearer " + accessToken);
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
@@ -0,0 +1,109 @@
+package ban.koreamarkers.auth.filter;
+
+import ban.koreamarkers.auth.throttle.RateLimit;
+import ban.koreamarkers.auth.throttle.RateLimitStore;
+import ban.koreamarkers.domain.service.CachingUserDetailsService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * POST /login 시도 제한: 보안 필터 체인 전체를 거쳐 거부 요청이 사용자 조회/비밀번호 비교 전에 끝나는지 확인
+ * (임베디드 H2로 전체 기동, 사용자 없음)
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:loginthrottle;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database=h2",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "user-availability.snapshot-path=",
+        "jwt.keys.directory=",
+        "login-throttle.store=memory",
+        "login-throttle.ip.capacity=2",
+        "login-throttle.ip.refill-period=120000",
+        "login-throttle.username.capacity=1",
+        "login-throttle.username.refill-period=60000"
+})
+@AutoConfigureMockMvc
+class LoginThrottleFilterTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @SpyBean
+    CachingUserDetailsService userDetailsService;
+
+    @SpyBean
+    PasswordEncoder passwordEncoder;
+
+    @SpyBean
+    RateLimitStore rateLimitStore;
+
+    @Test
+    @DisplayName("IP 버킷 확인 후 사용자명 버킷 확인, 거부되면 사용자 조회/비밀번호 비교 없이 429 + Retry-After")
+    void login_rejectedBeforeAuthentication() throws Exception {
+        // 첫 시도: 두 버킷 모두 통과 -> 인증 시도 (없는 사용자라 실패 리다이렉트)
+        mockMvc.perform(login("ban", "10.0.0.1"))
+                .andExpect(status().is3xxRedirection());
+        verify(userDetailsService).loadUserByUsername("ban");
+        InOrder inOrder = inOrder(rateLimitStore);
+        inOrder.verify(rateLimitStore).tryConsume(eq("ip:10.0.0.1"), any(RateLimit.class), anyLong());
+        inOrder.verify(rateLimitStore).tryConsume(eq("user:ban"), any(RateLimit.class), anyLong());
+        clearInvocations(userDetailsService, passwordEncoder);
+
+        // 같은 사용자명(대소문자/공백 변형 포함) 두 번째 시도: 사용자명 버킷 소진
+        mockMvc.perform(login(" BAN ", "10.0.0.1"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "60"));
+
+        verify(userDetailsService, never()).loadUserByUsername(anyString());
+        verify(passwordEncoder, never()).matches(any(), any());
+    }
+
+    @Test
+    @DisplayName("IP 버킷이 소진되면 사용자명 버킷은 만들지 않고 429")
+    void login_ipRejected_usernameBucketUntouched() throws Exception {
+        mockMvc.perform(login("user1", "10.0.0.2"));
+        mockMvc.perform(login("user2", "10.0.0.2"));
+        clearInvocations(userDetailsService, passwordEncoder);
+
+        mockMvc.perform(login("user3", "10.0.0.2"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "120"));
+
+        verify(rateLimitStore, never()).tryConsume(startsWith("user:user3"), any(RateLimit.class), anyLong());
+        verify(userDetailsService, never()).loadUserByUsername(anyString());
+        verify(passwordEncoder, never()).matches(any(), any());
+    }
+
+    private static MockHttpServletRequestBuilder login(String username, String ip) {
+        return post("/login")
+                .servletPath("/login") // DispatcherServlet("/") 매핑처럼 servletPath에 경로가 들어오도록
+                .param("username", username)
+                .param("password", "1q2w3e")
+                .with(request -> {
+                    request.setRemoteAddr(ip);
+                    return request;
+                });
+    }
+}
@@ -0,0 +1,39 @@
+package ban.koreamarkers.auth.handler;
+
+import ban.koreamarkers.common.PasswordHashingBusyException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.BadCredentialsException;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LoginFailureHandlerTest {
+
+    LoginFailureHandler handler = new LoginFailureHandler();
+
+    @Test
+    @DisplayName("해싱 풀 포화는 리다이렉트 없이 503 + Retry-After")
+    void busy_returns503WithRetryAfter() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        handler.onAuthenticationFailure(new MockHttpServletRequest("POST", "/login"), response,
+                new PasswordHashingBusyException("비밀번호 처리 요청이 많습니다. 잠시 후 다시 시도해주세요."));
+
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(response.getRedirectedUrl()).isNull();
+    }
+
+    @Test
+    @DisplayName("일반 인증 실패는 기존처럼 로그인 페이지로 리다이렉트")
+    void badCredentials_redirectsToLogin() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        handler.onAuthenticationFailure(new MockHttpServletRequest("POST", "/login"), response,
+                new BadCredentialsException("bad"));
+
+        assertThat(response.getRedirectedUrl()).isEqualTo("/login?error=true");
+    }
+}
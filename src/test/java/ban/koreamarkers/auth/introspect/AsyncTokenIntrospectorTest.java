@@ -0,0 +1,71 @@
+package ban.koreamarkers.auth.introspect;
+
+import ban.koreamarkers.auth.metrics.AuthMetrics;
+import ban.koreamarkers.controller.dto.TokenIntrospection;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class AsyncTokenIntrospectorTest {
+
+    TokenIntrospector tokenIntrospector = mock(TokenIntrospector.class);
+    AsyncTokenIntrospector asyncTokenIntrospector;
+
+    @AfterEach
+    void tearDown() {
+        asyncTokenIntrospector.destroy();
+    }
+
+    @Test
+    @DisplayName("조회는 요청 스레드가 아닌 전용 풀에서 실행")
+    void introspect_runsOnPool() throws Exception {
+        createIntrospector(1, 1);
+        when(tokenIntrospector.introspect(any())).thenAnswer(invocation -> {
+            assertThat(Thread.currentThread().getName()).startsWith("token-introspect-");
+            return List.of(TokenIntrospection.INACTIVE);
+        });
+
+        List<TokenIntrospection> results = asyncTokenIntrospector.introspect(List.of("not-a-jwt")).get(5, TimeUnit.SECONDS);
+
+        assertThat(results).containsExactly(TokenIntrospection.INACTIVE);
+    }
+
+    @Test
+    @DisplayName("풀과 대기열이 가득 차면 RejectedExecutionException으로 완료")
+    void introspect_poolSaturated_rejected() throws Exception {
+        createIntrospector(1, 1);
+        CountDownLatch gate = new CountDownLatch(1);
+        when(tokenIntrospector.introspect(any())).thenAnswer(invocation -> {
+            gate.await(5, TimeUnit.SECONDS);
+            return List.of(TokenIntrospection.INACTIVE);
+        });
+
+        asyncTokenIntrospector.introspect(List.of("a"));
+        asyncTokenIntrospector.introspect(List.of("b"));
+        CompletableFuture<List<TokenIntrospection>> rejected = asyncTokenIntrospector.introspect(List.of("c"));
+
+        assertThatThrownBy(() -> rejected.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(RejectedExecutionException.class);
+        gate.countDown();
+    }
+
+    private void createIntrospector(int poolSize, int queueCapacity) {
+        asyncTokenIntrospector = new AsyncTokenIntrospector(tokenIntrospector, AuthMetrics.noop());
+        ReflectionTestUtils.setField(asyncTokenIntrospector, "poolSize", poolSize);
+        ReflectionTestUtils.setField(asyncTokenIntrospector, "queueCapacity", queueCapacity);
+        ReflectionTestUtils.invokeMethod(asyncTokenIntrospector, "init");
+    }
+}
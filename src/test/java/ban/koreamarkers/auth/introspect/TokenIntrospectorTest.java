@@ -0,0 +1,172 @@
+package ban.koreamarkers.auth.introspect;
+
+import ban.koreamarkers.auth.cache.VerifiedTokenCache;
+import ban.koreamarkers.auth.key.SigningKeyRing;
+import ban.koreamarkers.auth.metrics.AuthMetrics;
+import ban.koreamarkers.auth.revocation.AccessTokenDenylist;
+import ban.koreamarkers.auth.revocation.LoopbackRevocationBroadcaster;
+import ban.koreamarkers.auth.revocation.TokenVersionRegistry;
+import ban.koreamarkers.auth.util.JwtTokenUtil;
+import ban.koreamarkers.controller.dto.TokenIntrospection;
+import ban.koreamarkers.domain.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TokenIntrospectorTest {
+
+    JwtTokenUtil jwtTokenUtil;
+    TokenVersionRegistry tokenVersionRegistry;
+    AccessTokenDenylist accessTokenDenylist;
+    TokenIntrospector introspector;
+
+    // 사용자 저장소 역할 (계정 상태 확인용)
+    Map<String, UserDetails> accounts = new HashMap<>();
+
+    User user = User.builder()
+            .username("ban")
+            .password("ENC(1q2w3e)")
+            .email("bbgiloo@gmail.com")
+            .build();
+
+    User disabledUser = User.builder()
+            .username("disabled")
+            .password("ENC(1q2w3e)")
+            .email("disabled@example.com")
+            .enabled(false)
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        SigningKeyRing signingKeyRing = new SigningKeyRing();
+        ReflectionTestUtils.setField(signingKeyRing, "algorithm", "ES256");
+        ReflectionTestUtils.setField(signingKeyRing, "directory", "");
+        ReflectionTestUtils.invokeMethod(signingKeyRing, "init");
+
+        jwtTokenUtil = new JwtTokenUtil(AuthMetrics.noop(), signingKeyRing);
+        ReflectionTestUtils.setField(jwtTokenUtil, "secret", "");
+        ReflectionTestUtils.setField(jwtTokenUtil, "accessTokenExpiration", 900000L);
+        ReflectionTestUtils.setField(jwtTokenUtil, "refreshTokenExpiration", 604800000L);
+        ReflectionTestUtils.invokeMethod(jwtTokenUtil, "init");
+
+        VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(jwtTokenUtil, AuthMetrics.noop());
+        ReflectionTestUtils.setField(verifiedTokenCache, "enabled", true);
+        ReflectionTestUtils.setField(verifiedTokenCache, "maximumSize", 100L);
+        ReflectionTestUtils.invokeMethod(verifiedTokenCache, "init");
+
+        tokenVersionRegistry = new TokenVersionRegistry();
+        accessTokenDenylist = new AccessTokenDenylist(new LoopbackRevocationBroadcaster(), AuthMetrics.noop());
+        ReflectionTestUtils.invokeMethod(accessTokenDenylist, "init");
+
+        accounts.put("ban", user);
+        accounts.put("disabled", disabledUser);
+        UserDetailsService userDetailsService = username -> {
+            UserDetails account = accounts.get(username);
+            if (account == null) {
+                throw new UsernameNotFoundException(username);
+            }
+            return account;
+        };
+
+        introspector = new TokenIntrospector(verifiedTokenCache, tokenVersionRegistry, accessTokenDenylist,
+                AuthMetrics.noop(), userDetailsService);
+        ReflectionTestUtils.setField(introspector, "statelessPrincipal", false);
+        ReflectionTestUtils.setField(introspector, "maxBatchSize", 10);
+        ReflectionTestUtils.setField(introspector, "cacheEnabled", false);
+        ReflectionTestUtils.setField(introspector, "cacheTtl", 5000L);
+        ReflectionTestUtils.setField(introspector, "cacheMaximumSize", 100L);
+        ReflectionTestUtils.invokeMethod(introspector, "init");
+    }
+
+    @Test
+    @DisplayName("일괄 조회: 입력 순서대로 AccessToken만 active, 클레임 포함")
+    void introspect_batch() {
+        String accessToken = jwtTokenUtil.generateAccessToken(user);
+        String refreshToken = jwtTokenUtil.generateRefreshToken(user);
+
+        List<TokenIntrospection> results = introspector.introspect(
+                Arrays.asList(accessToken, "not-a-jwt", refreshToken, null, accessToken));
+
+        assertThat(results).hasSize(5);
+        assertThat(results.get(0).active()).isTrue();
+        assertThat(results.get(0).sub()).isEqualTo("ban");
+        assertThat(results.get(0).type()).isEqualTo("ACCESS");
+        assertThat(results.get(0).exp()).isEqualTo(jwtTokenUtil.verify(accessToken).expiration().getEpochSecond());
+        assertThat(results.get(1)).isEqualTo(TokenIntrospection.INACTIVE);
+        assertThat(results.get(2)).isEqualTo(TokenIntrospection.INACTIVE);
+        assertThat(results.get(3)).isEqualTo(TokenIntrospection.INACTIVE);
+        assertThat(results.get(4)).isSameAs(results.get(0));
+    }
+
+    @Test
+    @DisplayName("로그아웃으로 jti가 폐기된 토큰은 inactive")
+    void introspect_revoked() {
+        String loggedOut = jwtTokenUtil.generateAccessToken(user);
+        String active = jwtTokenUtil.generateAccessToken(user);
+        accessTokenDenylist.revoke(jwtTokenUtil.verify(loggedOut));
+
+        List<TokenIntrospection> results = introspector.introspect(List.of(loggedOut, active));
+
+        assertThat(results.get(0)).isEqualTo(TokenIntrospection.INACTIVE);
+        assertThat(results.get(1).active()).isTrue();
+    }
+
+    @Test
+    @DisplayName("비활성 계정: enabled=false 클레임의 토큰은 inactive")
+    void introspect_disabledUserToken() {
+        String token = jwtTokenUtil.generateAccessToken(disabledUser);
+
+        assertThat(jwtTokenUtil.verify(token).enabled()).isFalse();
+        assertThat(introspector.introspect(List.of(token))).containsExactly(TokenIntrospection.INACTIVE);
+    }
+
+    @Test
+    @DisplayName("비활성 계정: 발급 후 비활성화/삭제된 계정의 토큰은 inactive (stateless면 클레임 기준)")
+    void introspect_accountDisabledAfterIssue() {
+        String token = jwtTokenUtil.generateAccessToken(user);
+        accounts.put("ban", User.builder()
+                .username("ban").password("ENC(1q2w3e)").email("bbgiloo@gmail.com").enabled(false).build());
+
+        assertThat(introspector.introspect(List.of(token))).containsExactly(TokenIntrospection.INACTIVE);
+
+        accounts.remove("ban");
+        assertThat(introspector.introspect(List.of(token))).containsExactly(TokenIntrospection.INACTIVE);
+
+        ReflectionTestUtils.setField(introspector, "statelessPrincipal", true);
+        assertThat(introspector.introspect(List.of(token)).get(0).active()).isTrue();
+    }
+
+    @Test
+    @DisplayName("응답 캐시: ttl 동안 이전 결과 재사용 (폐기가 ttl만큼 늦게 반영)")
+    void introspect_cached() {
+        ReflectionTestUtils.setField(introspector, "cacheEnabled", true);
+        ReflectionTestUtils.invokeMethod(introspector, "init");
+        String accessToken = jwtTokenUtil.generateAccessToken(user);
+        TokenIntrospection first = introspector.introspect(List.of(accessToken)).get(0);
+
+        accessTokenDenylist.revoke(jwtTokenUtil.verify(accessToken));
+
+        assertThat(introspector.introspect(List.of(accessToken)).get(0)).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘으면 IllegalArgumentException")
+    void introspect_tooManyTokens_throwException() {
+        List<String> tokens = Collections.nCopies(11, "token");
+
+        assertThatThrownBy(() -> introspector.introspect(tokens))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
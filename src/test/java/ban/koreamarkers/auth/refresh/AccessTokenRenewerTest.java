@@ -0,0 +1,140 @@
+package ban.koreamarkers.auth.refresh;
+
+import ban.koreamarkers.auth.cache.VerifiedTokenCache;
+import ban.koreamarkers.auth.key.SigningKeyRing;
+import ban.koreamarkers.auth.metrics.AuthMetrics;
+import ban.koreamarkers.auth.util.JwtTokenUtil;
+import ban.koreamarkers.auth.util.TokenCookies;
+import ban.koreamarkers.auth.util.VerifiedToken;
+import ban.koreamarkers.domain.User;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AccessTokenRenewerTest {
+
+    JwtTokenUtil jwtTokenUtil;
+    VerifiedTokenCache verifiedTokenCache;
+    RefreshTokenService refreshTokenService;
+    AccessTokenRenewer renewer;
+
+    User user = User.builder()
+            .username("ban")
+            .password("ENC(1q2w3e)")
+            .email("bbgiloo@gmail.com")
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        SigningKeyRing signingKeyRing = new SigningKeyRing();
+        ReflectionTestUtils.setField(signingKeyRing, "algorithm", "ES256");
+        ReflectionTestUtils.setField(signingKeyRing, "directory", "");
+        ReflectionTestUtils.invokeMethod(signingKeyRing, "init");
+
+        jwtTokenUtil = new JwtTokenUtil(AuthMetrics.noop(), signingKeyRing);
+        ReflectionTestUtils.setField(jwtTokenUtil, "secret", "");
+        ReflectionTestUtils.setField(jwtTokenUtil, "accessTokenExpiration", 900000L);
+        ReflectionTestUtils.setField(jwtTokenUtil, "refreshTokenExpiration", 604800000L);
+        ReflectionTestUtils.invokeMethod(jwtTokenUtil, "init");
+
+        verifiedTokenCache = new VerifiedTokenCache(jwtTokenUtil, AuthMetrics.noop());
+        ReflectionTestUtils.setField(verifiedTokenCache, "enabled", true);
+        ReflectionTestUtils.setField(verifiedTokenCache, "maximumSize", 100L);
+        ReflectionTestUtils.invokeMethod(verifiedTokenCache, "init");
+
+        refreshTokenService = new RefreshTokenService(jwtTokenUtil, new InMemoryRefreshTokenStore(1000L));
+        renewer = new AccessTokenRenewer(jwtTokenUtil, verifiedTokenCache, refreshTokenService,
+                new TokenCookies(jwtTokenUtil), AuthMetrics.noop());
+        ReflectionTestUtils.setField(renewer, "enabled", true);
+        ReflectionTestUtils.setField(renewer, "windowMillis", 120000L);
+    }
+
+    @Test
+    @DisplayName("만료 window 밖이면 재발급하지 않음")
+    void renew_notExpiring() {
+        MockHttpServletRequest request = requestWithRefreshToken(refreshTokenService.issue(user));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        boolean renewed = renewer.renewIfExpiring(request, response, accessTokenExpiringIn(Duration.ofMinutes(10)), user);
+
+        assertThat(renewed).isFalse();
+        assertThat(response.getHeader("Authorization")).isNull();
+    }
+
+    @Test
+    @DisplayName("만료 window 안 + 현재 RefreshToken이면 쿠키와 헤더에 새 AccessToken 기록")
+    void renew_expiring_validRefreshToken() {
+        String refreshToken = refreshTokenService.issue(user);
+        MockHttpServletRequest request = requestWithRefreshToken(refreshToken);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        boolean renewed = renewer.renewIfExpiring(request, response, accessTokenExpiringIn(Duration.ofSeconds(30)), user);
+
+        assertThat(renewed).isTrue();
+        String accessToken = response.getCookie("accessToken").getValue();
+        assertThat(response.getHeader("Authorization")).isEqualTo("Bearer " + accessToken);
+        assertThat(jwtTokenUtil.verify(accessToken).subject()).isEqualTo("ban");
+        // RefreshToken은 회전하지 않으므로 동시 요청에서도 그대로 사용 가능
+        assertThat(refreshTokenService.isCurrent(jwtTokenUtil.verify(refreshToken))).isTrue();
+        assertThat(response.getCookie("refreshToken")).isNull();
+    }
+
+    @Test
+    @DisplayName("이미 회전된 RefreshToken이면 재발급하지 않음")
+    void renew_rotatedRefreshToken() {
+        String refreshToken = refreshTokenService.issue(user);
+        refreshTokenService.rotate(jwtTokenUtil.verify(refreshToken), user);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        boolean renewed = renewer.renewIfExpiring(requestWithRefreshToken(refreshToken), response,
+                accessTokenExpiringIn(Duration.ofSeconds(30)), user);
+
+        assertThat(renewed).isFalse();
+        assertThat(response.getCookie("accessToken")).isNull();
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 RefreshToken이면 재발급하지 않음")
+    void renew_otherUsersRefreshToken() {
+        User other = User.builder().username("gil").password("ENC(x)").email("gil@example.com").build();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        boolean renewed = renewer.renewIfExpiring(requestWithRefreshToken(refreshTokenService.issue(other)), response,
+                accessTokenExpiringIn(Duration.ofSeconds(30)), user);
+
+        assertThat(renewed).isFalse();
+    }
+
+    @Test
+    @DisplayName("RefreshToken 쿠키가 없으면 재발급하지 않음")
+    void renew_noRefreshToken() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        boolean renewed = renewer.renewIfExpiring(new MockHttpServletRequest(), response,
+                accessTokenExpiringIn(Duration.ofSeconds(30)), user);
+
+        assertThat(renewed).isFalse();
+    }
+
+    private static VerifiedToken accessTokenExpiringIn(Duration remaining) {
+        Instant now = Instant.now();
+        return new VerifiedToken(JwtTokenUtil.newTokenId(), "ban", VerifiedToken.ACCESS, now.plus(remaining),
+                now.minus(Duration.ofMinutes(14)), List.of("ROLE_USER"), true, null);
+    }
+
+    private static MockHttpServletRequest requestWithRefreshToken(String refreshToken) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie("refreshToken", refreshToken));
+        return request;
+    }
+}
@@ -0,0 +1,172 @@
+package ban.koreamarkers.auth.refresh;
+
+import ban.koreamarkers.auth.key.SigningKeyRing;
+import ban.koreamarkers.auth.metrics.AuthMetrics;
+import ban.koreamarkers.auth.metrics.AuthMetrics.RefreshOutcome;
+import ban.koreamarkers.auth.refresh.AsyncTokenRefresher.Exchange;
+import ban.koreamarkers.auth.util.JwtTokenUtil;
+import ban.koreamarkers.auth.util.VerifiedToken;
+import ban.koreamarkers.domain.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AsyncTokenRefresherTest {
+
+    JwtTokenUtil jwtTokenUtil;
+    RefreshTokenService refreshTokenService;
+    AsyncTokenRefresher refresher;
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    CountDownLatch userLoadGate = new CountDownLatch(0);
+    AtomicInteger userLoads = new AtomicInteger();
+
+    User user = User.builder()
+            .username("ban")
+            .password("ENC(1q2w3e)")
+            .email("bbgiloo@gmail.com")
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        SigningKeyRing signingKeyRing = new SigningKeyRing();
+        ReflectionTestUtils.setField(signingKeyRing, "algorithm", "ES256");
+        ReflectionTestUtils.setField(signingKeyRing, "directory", "");
+        ReflectionTestUtils.invokeMethod(signingKeyRing, "init");
+
+        jwtTokenUtil = new JwtTokenUtil(AuthMetrics.noop(), signingKeyRing);
+        ReflectionTestUtils.setField(jwtTokenUtil, "secret", "");
+        ReflectionTestUtils.setField(jwtTokenUtil, "accessTokenExpiration", 900000L);
+        ReflectionTestUtils.setField(jwtTokenUtil, "refreshTokenExpiration", 604800000L);
+        ReflectionTestUtils.invokeMethod(jwtTokenUtil, "init");
+
+        refreshTokenService = new RefreshTokenService(jwtTokenUtil, new InMemoryRefreshTokenStore(1000L));
+    }
+
+    @AfterEach
+    void tearDown() {
+        refresher.destroy();
+    }
+
+    @Test
+    @DisplayName("갱신 성공: 같은 체인의 새 RefreshToken과 AccessToken 발급")
+    void refresh_success() throws Exception {
+        createRefresher(2, 8);
+        VerifiedToken refreshToken = jwtTokenUtil.verify(refreshTokenService.issue(user));
+
+        Exchange exchange = refresher.refresh(refreshToken).get(5, TimeUnit.SECONDS);
+
+        assertThat(exchange.isSuccess()).isTrue();
+        assertThat(jwtTokenUtil.verify(exchange.accessToken()).subject()).isEqualTo("ban");
+        VerifiedToken rotated = jwtTokenUtil.verify(exchange.refreshToken());
+        assertThat(rotated.familyId()).isEqualTo(refreshToken.familyId());
+        assertThat(rotated.id()).isNotEqualTo(refreshToken.id());
+        assertThat(exchange.refreshExpiresAt()).isEqualTo(refreshToken.expiration());
+    }
+
+    @Test
+    @DisplayName("같은 RefreshToken의 동시 갱신은 사용자 조회/회전 1회로 합쳐짐")
+    void refresh_concurrentSameToken_coalesced() throws Exception {
+        createRefresher(2, 8);
+        userLoadGate = new CountDownLatch(1);
+        VerifiedToken refreshToken = jwtTokenUtil.verify(refreshTokenService.issue(user));
+
+        CompletableFuture<Exchange> first = refresher.refresh(refreshToken);
+        CompletableFuture<Exchange> second = refresher.refresh(refreshToken);
+        userLoadGate.countDown();
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.get(5, TimeUnit.SECONDS).isSuccess()).isTrue();
+        assertThat(userLoads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("유예 기간 안의 재시도(응답 시간 초과 등)는 같은 결과를 받고 체인은 유지")
+    void refresh_retryWithinGracePeriod_sameExchange() throws Exception {
+        createRefresher(2, 8);
+        VerifiedToken refreshToken = jwtTokenUtil.verify(refreshTokenService.issue(user));
+        Exchange first = refresher.refresh(refreshToken).get(5, TimeUnit.SECONDS);
+
+        Exchange retried = refresher.refresh(refreshToken).get(5, TimeUnit.SECONDS);
+
+        assertThat(retried).isEqualTo(first);
+        assertThat(userLoads.get()).isEqualTo(1);
+        assertThat(meterRegistry.counter("auth.refresh.replayed").count()).isEqualTo(1.0);
+        assertThat(refreshTokenService.isCurrent(jwtTokenUtil.verify(first.refreshToken()))).isTrue();
+    }
+
+    @Test
+    @DisplayName("회전된 토큰을 이미 사용했다면 이전 토큰 재시도는 유예 기간 안이어도 재사용 감지")
+    void refresh_retryAfterNextRotation_reused() throws Exception {
+        createRefresher(2, 8);
+        VerifiedToken refreshToken = jwtTokenUtil.verify(refreshTokenService.issue(user));
+        Exchange first = refresher.refresh(refreshToken).get(5, TimeUnit.SECONDS);
+        refresher.refresh(jwtTokenUtil.verify(first.refreshToken())).get(5, TimeUnit.SECONDS);
+
+        Exchange exchange = refresher.refresh(refreshToken).get(5, TimeUnit.SECONDS);
+
+        assertThat(exchange.outcome()).isEqualTo(RefreshOutcome.REUSED);
+    }
+
+    @Test
+    @DisplayName("유예 기간이 0(기본값)이면 완료된 갱신 이후 같은 RefreshToken을 다시 쓸 때 재사용 감지")
+    void refresh_afterCompletion_reused() throws Exception {
+        createRefresher(2, 8, 0L);
+        VerifiedToken refreshToken = jwtTokenUtil.verify(refreshTokenService.issue(user));
+        refresher.refresh(refreshToken).get(5, TimeUnit.SECONDS);
+
+        Exchange exchange = refresher.refresh(refreshToken).get(5, TimeUnit.SECONDS);
+
+        assertThat(exchange.outcome()).isEqualTo(RefreshOutcome.REUSED);
+        assertThat(refresher.inFlightCount()).isZero();
+        assertThat(meterRegistry.counter("auth.refresh.replayed").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("풀과 대기열이 가득 차면 RejectedExecutionException으로 완료")
+    void refresh_poolSaturated_rejected() {
+        createRefresher(1, 1);
+        userLoadGate = new CountDownLatch(1);
+
+        refresher.refresh(jwtTokenUtil.verify(refreshTokenService.issue(user)));
+        refresher.refresh(jwtTokenUtil.verify(refreshTokenService.issue(user)));
+        CompletableFuture<Exchange> rejected = refresher.refresh(jwtTokenUtil.verify(refreshTokenService.issue(user)));
+
+        assertThatThrownBy(() -> rejected.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(RejectedExecutionException.class);
+        userLoadGate.countDown();
+    }
+
+    private void createRefresher(int poolSize, int queueCapacity) {
+        createRefresher(poolSize, queueCapacity, 30000L);
+    }
+
+    private void createRefresher(int poolSize, int queueCapacity, long reuseGracePeriod) {
+        refresher = new AsyncTokenRefresher(jwtTokenUtil, username -> {
+            userLoads.incrementAndGet();
+            try {
+                userLoadGate.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return user;
+        }, refreshTokenService, new AuthMetrics(meterRegistry));
+        ReflectionTestUtils.setField(refresher, "poolSize", poolSize);
+        ReflectionTestUtils.setField(refresher, "queueCapacity", queueCapacity);
+        ReflectionTestUtils.setField(refresher, "reuseGracePeriod", reuseGracePeriod);
+        ReflectionTestUtils.invokeMethod(refresher, "init");
+    }
+}
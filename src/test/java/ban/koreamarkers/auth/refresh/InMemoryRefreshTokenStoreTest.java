@@ -0,0 +1,80 @@
+package ban.koreamarkers.auth.refresh;
+
+import ban.koreamarkers.auth.refresh.RefreshTokenStore.RotationOutcome;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.*;
+
+class InMemoryRefreshTokenStoreTest {
+
+    InMemoryRefreshTokenStore store = new InMemoryRefreshTokenStore(1000L);
+
+    @Test
+    @DisplayName("rotate 성공: 현재 jti로 회전하면 새 jti만 유효")
+    void rotate_currentToken() {
+        store.save(entry("family-1", "ban", "jti-1", Duration.ofDays(7)));
+
+        assertThat(store.rotate("family-1", "jti-1", "jti-2")).isEqualTo(RotationOutcome.ROTATED);
+        assertThat(store.rotate("family-1", "jti-2", "jti-3")).isEqualTo(RotationOutcome.ROTATED);
+    }
+
+    @Test
+    @DisplayName("rotate 재사용: 이미 회전된 jti가 다시 오면 체인 전체 폐기")
+    void rotate_reusedToken_revokeFamily() {
+        store.save(entry("family-1", "ban", "jti-1", Duration.ofDays(7)));
+        store.rotate("family-1", "jti-1", "jti-2");
+
+        assertThat(store.rotate("family-1", "jti-1", "jti-x")).isEqualTo(RotationOutcome.REUSED);
+        // 정상 사용자가 가진 최신 토큰도 함께 폐기
+        assertThat(store.rotate("family-1", "jti-2", "jti-3")).isEqualTo(RotationOutcome.NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("isCurrent: 체인의 현재 jti만 true, 확인만 하고 회전하지 않음")
+    void isCurrent() {
+        store.save(entry("family-1", "ban", "jti-1", Duration.ofDays(7)));
+        Instant now = Instant.now();
+
+        assertThat(store.isCurrent("family-1", "jti-1", now)).isTrue();
+        assertThat(store.isCurrent("family-1", "jti-1", now)).isTrue();
+        store.rotate("family-1", "jti-1", "jti-2");
+        assertThat(store.isCurrent("family-1", "jti-1", now)).isFalse();
+        assertThat(store.isCurrent("family-1", "jti-2", now)).isTrue();
+        assertThat(store.isCurrent("family-1", "jti-2", now.plus(Duration.ofDays(8)))).isFalse();
+    }
+
+    @Test
+    @DisplayName("revokeAllForUser: 해당 사용자의 체인만 폐기")
+    void revokeAllForUser() {
+        store.save(entry("family-1", "ban", "jti-1", Duration.ofDays(7)));
+        store.save(entry("family-2", "ban", "jti-2", Duration.ofDays(7)));
+        store.save(entry("family-3", "gil", "jti-3", Duration.ofDays(7)));
+
+        store.revokeAllForUser("ban");
+
+        assertThat(store.rotate("family-1", "jti-1", "next")).isEqualTo(RotationOutcome.NOT_FOUND);
+        assertThat(store.rotate("family-2", "jti-2", "next")).isEqualTo(RotationOutcome.NOT_FOUND);
+        assertThat(store.rotate("family-3", "jti-3", "next")).isEqualTo(RotationOutcome.ROTATED);
+    }
+
+    @Test
+    @DisplayName("purgeExpired: 만료 시각이 지난 체인만 타임 휠에서 제거")
+    void purgeExpired() {
+        store.save(entry("family-1", "ban", "jti-1", Duration.ofSeconds(2)));
+        store.save(entry("family-2", "gil", "jti-2", Duration.ofDays(7)));
+
+        int purged = store.purgeExpired(Instant.now().plusSeconds(5));
+
+        assertThat(purged).isEqualTo(1);
+        assertThat(store.size()).isEqualTo(1);
+        assertThat(store.rotate("family-2", "jti-2", "next")).isEqualTo(RotationOutcome.ROTATED);
+    }
+
+    private static RefreshTokenEntry entry(String familyId, String username, String tokenId, Duration ttl) {
+        return new RefreshTokenEntry(familyId, username, tokenId, Instant.now().plus(ttl));
+    }
+}
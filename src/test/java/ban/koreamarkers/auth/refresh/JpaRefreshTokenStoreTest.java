@@ -0,0 +1,107 @@
+package ban.koreamarkers.auth.refresh;
+
+import ban.koreamarkers.auth.refresh.RefreshTokenStore.RotationOutcome;
+import ban.koreamarkers.repository.RefreshTokenRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * refresh_tokens 테이블 기반 저장소 검증 (임베디드 H2, MySQL 호환 모드)
+ * - 저장소 메서드마다 별도 트랜잭션으로 실행 (운영과 같은 조건부 UPDATE/DELETE 커밋 순서)
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:refresh;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.jpa.database=h2",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "jwt.refresh-store.type=jpa",
+        "jwt.refresh-store.cleanup-batch-size=2"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(JpaRefreshTokenStore.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class JpaRefreshTokenStoreTest {
+
+    @Autowired
+    JpaRefreshTokenStore store;
+
+    @Autowired
+    RefreshTokenRepository refreshTokenRepository;
+
+    @AfterEach
+    void tearDown() {
+        refreshTokenRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("rotate 성공: 현재 jti가 일치할 때만 조건부 UPDATE로 교체")
+    void rotate_currentToken() {
+        store.save(entry("family-1", "ban", "jti-1", Duration.ofDays(7)));
+
+        assertThat(store.rotate("family-1", "jti-1", "jti-2")).isEqualTo(RotationOutcome.ROTATED);
+        assertThat(store.rotate("family-1", "jti-2", "jti-3")).isEqualTo(RotationOutcome.ROTATED);
+        assertThat(store.isCurrent("family-1", "jti-3", Instant.now())).isTrue();
+        assertThat(store.isCurrent("family-1", "jti-2", Instant.now())).isFalse();
+    }
+
+    @Test
+    @DisplayName("rotate 재사용: 이미 회전된 jti가 다시 오면 deleteActiveFamily로 체인 전체 폐기")
+    void rotate_reusedToken_revokeFamily() {
+        store.save(entry("family-1", "ban", "jti-1", Duration.ofDays(7)));
+        store.rotate("family-1", "jti-1", "jti-2");
+
+        assertThat(store.rotate("family-1", "jti-1", "jti-x")).isEqualTo(RotationOutcome.REUSED);
+        // 정상 사용자가 가진 최신 토큰도 함께 폐기
+        assertThat(refreshTokenRepository.existsById("family-1")).isFalse();
+        assertThat(store.rotate("family-1", "jti-2", "jti-3")).isEqualTo(RotationOutcome.NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("rotate: 만료된 체인은 재사용으로 보지 않고 NOT_FOUND")
+    void rotate_expiredFamily_notFound() {
+        store.save(entry("family-1", "ban", "jti-1", Duration.ofSeconds(-1)));
+
+        assertThat(store.rotate("family-1", "jti-1", "jti-2")).isEqualTo(RotationOutcome.NOT_FOUND);
+        assertThat(store.rotate("family-1", "other", "jti-2")).isEqualTo(RotationOutcome.NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("revokeAllForUser: 해당 사용자의 체인만 폐기")
+    void revokeAllForUser() {
+        store.save(entry("family-1", "ban", "jti-1", Duration.ofDays(7)));
+        store.save(entry("family-2", "ban", "jti-2", Duration.ofDays(7)));
+        store.save(entry("family-3", "gil", "jti-3", Duration.ofDays(7)));
+
+        store.revokeAllForUser("ban");
+
+        assertThat(refreshTokenRepository.findAll()).extracting("familyId").containsExactly("family-3");
+    }
+
+    @Test
+    @DisplayName("purgeExpired: cleanup-batch-size 단위로 나눠서 만료 체인만 삭제")
+    void purgeExpired_batched() {
+        IntStream.range(0, 5).forEach(i -> store.save(entry("expired-" + i, "ban", "jti-" + i, Duration.ofSeconds(-1))));
+        store.save(entry("active", "gil", "jti-active", Duration.ofDays(7)));
+
+        int purged = store.purgeExpired(Instant.now());
+
+        assertThat(purged).isEqualTo(5);
+        assertThat(refreshTokenRepository.findAll()).extracting("familyId").containsExactly("active");
+    }
+
+    private static RefreshTokenEntry entry(String familyId, String username, String tokenId, Duration ttl) {
+        return new RefreshTokenEntry(familyId, username, tokenId, Instant.now().plus(ttl));
+    }
+}
@@ -0,0 +1,89 @@
+package ban.koreamarkers.auth.revocation;
+
+import ban.koreamarkers.auth.metrics.AuthMetrics;
+import ban.koreamarkers.auth.util.VerifiedToken;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AccessTokenDenylistTest {
+
+    LoopbackRevocationBroadcaster broadcaster = new LoopbackRevocationBroadcaster();
+    AccessTokenDenylist denylist;
+
+    @BeforeEach
+    void setUp() {
+        denylist = newNode();
+    }
+
+    @Test
+    @DisplayName("revoke 후 해당 jti만 폐기됨")
+    void revoke() {
+        denylist.revoke(accessToken("jti-1", Instant.now().plusSeconds(900)));
+
+        assertThat(denylist.isRevoked("jti-1")).isTrue();
+        assertThat(denylist.isRevoked("jti-2")).isFalse();
+        assertThat(denylist.isRevoked(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("만료 시각이 지난 엔트리는 폐기 목록에서 빠짐")
+    void expiredEntry_ignoredAndPurged() {
+        denylist.apply(new TokenRevocation("expired", Instant.now().minusSeconds(1)));
+        denylist.revoke(accessToken("active", Instant.now().plusSeconds(900)));
+
+        denylist.purgeExpired();
+
+        assertThat(denylist.isRevoked("expired")).isFalse();
+        assertThat(denylist.isRevoked("active")).isTrue();
+        assertThat(denylist.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("테이블이 커져도 모든 jti 조회 가능")
+    void revoke_manyTokens_resize() {
+        Instant expiration = Instant.now().plusSeconds(900);
+        IntStream.range(0, 50_000).forEach(i -> denylist.revoke(accessToken("jti-" + i, expiration)));
+
+        assertThat(denylist.size()).isEqualTo(50_000);
+        assertThat(IntStream.range(0, 50_000)).allMatch(i -> denylist.isRevoked("jti-" + i));
+        assertThat(denylist.isRevoked("jti-50000")).isFalse();
+    }
+
+    @Test
+    @DisplayName("RefreshToken과 jti 없는 이전 토큰은 대상이 아님")
+    void revoke_ignoreNonAccessTokens() {
+        Instant expiration = Instant.now().plusSeconds(900);
+        denylist.revoke(new VerifiedToken("refresh-jti", "ban", VerifiedToken.REFRESH,
+                expiration, Instant.now(), null, null, "family"));
+        denylist.revoke(accessToken(null, expiration));
+
+        assertThat(denylist.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 폐기한 jti가 broadcaster로 전파됨")
+    void revoke_broadcastToOtherNodes() {
+        AccessTokenDenylist otherNode = newNode();
+
+        otherNode.revoke(accessToken("jti-1", Instant.now().plusSeconds(900)));
+
+        assertThat(denylist.isRevoked("jti-1")).isTrue();
+    }
+
+    private AccessTokenDenylist newNode() {
+        AccessTokenDenylist node = new AccessTokenDenylist(broadcaster, AuthMetrics.noop());
+        node.init();
+        return node;
+    }
+
+    private static VerifiedToken accessToken(String id, Instant expiration) {
+        return new VerifiedToken(id, "ban", VerifiedToken.ACCESS, expiration, Instant.now(),
+                null, null, null);
+    }
+}
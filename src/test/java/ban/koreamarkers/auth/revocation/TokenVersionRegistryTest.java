@@ -0,0 +1,63 @@
+package ban.koreamarkers.auth.revocation;
+
+import ban.koreamarkers.auth.util.VerifiedToken;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TokenVersionRegistryTest {
+
+    TokenVersionRegistry registry = new TokenVersionRegistry();
+
+    @Test
+    @DisplayName("revokeAll 전에는 폐기되지 않음")
+    void isRevoked_noThreshold() {
+        assertThat(registry.isRevoked(accessToken("ban", Instant.now().minusSeconds(60)))).isFalse();
+    }
+
+    @Test
+    @DisplayName("폐기 시각이 속한 초에 발급된 토큰(iat 초 단위)까지 폐기")
+    void revokeAll_sameSecond() {
+        Instant issuedAt = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        registry.revokeAll("ban");
+
+        assertThat(registry.isRevoked(accessToken("ban", issuedAt))).isTrue();
+        assertThat(registry.isRevoked(accessToken("ban", issuedAt.minusSeconds(60)))).isTrue();
+    }
+
+    @Test
+    @DisplayName("폐기 이후 초에 발급된 토큰과 다른 사용자 토큰은 유효")
+    void revokeAll_laterTokenAndOtherUser() {
+        registry.revokeAll("ban");
+        Instant next = Instant.now().truncatedTo(ChronoUnit.SECONDS).plusSeconds(1);
+
+        assertThat(registry.isRevoked(accessToken("ban", next))).isFalse();
+        assertThat(registry.isRevoked(accessToken("other", Instant.now().minusSeconds(60)))).isFalse();
+    }
+
+    @Test
+    @DisplayName("sweep: AccessToken 수명이 지난 기준 시각만 제거")
+    void sweep_removesThresholdsOlderThanAccessTokenLifetime() {
+        ReflectionTestUtils.setField(registry, "accessTokenExpiration", 900000L);
+        registry.revokeAll("ban");
+        registry.sweep();
+        assertThat(registry.size()).isEqualTo(1);
+
+        // 폐기 후 AccessToken 수명이 지난 상태 (그 전에 발급된 토큰은 모두 만료)
+        ReflectionTestUtils.setField(registry, "accessTokenExpiration", 0L);
+        registry.sweep();
+
+        assertThat(registry.size()).isZero();
+    }
+
+    private static VerifiedToken accessToken(String username, Instant issuedAt) {
+        return new VerifiedToken("jti", username, VerifiedToken.ACCESS, issuedAt.plusSeconds(900), issuedAt,
+                List.of("ROLE_USER"), true, null);
+    }
+}
@@ -0,0 +1,91 @@
+package ban.koreamarkers.auth.throttle;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class InMemoryRateLimitStoreTest {
+
+    InMemoryRateLimitStore store = new InMemoryRateLimitStore();
+
+    RateLimit limit = new RateLimit(5, 12000L);
+
+    @Test
+    @DisplayName("버킷 용량만큼 허용 후 거부")
+    void tryConsume_capacityThenReject() {
+        long now = System.currentTimeMillis();
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(store.tryConsume("user:ban", limit, now)).isTrue();
+        }
+
+        assertThat(store.tryConsume("user:ban", limit, now)).isFalse();
+        // 다른 키는 별도 버킷
+        assertThat(store.tryConsume("user:other", limit, now)).isTrue();
+    }
+
+    @Test
+    @DisplayName("충전 간격이 지나면 토큰 1개씩 다시 허용")
+    void tryConsume_refillOverTime() {
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < 5; i++) {
+            store.tryConsume("user:ban", limit, now);
+        }
+
+        assertThat(store.tryConsume("user:ban", limit, now + 11999)).isFalse();
+        assertThat(store.tryConsume("user:ban", limit, now + 12000)).isTrue();
+        assertThat(store.tryConsume("user:ban", limit, now + 12000)).isFalse();
+    }
+
+    @Test
+    @DisplayName("정리: 다시 가득 찬 버킷만 제거")
+    void evictIdle_removesFullBucketsOnly() {
+        long now = System.currentTimeMillis();
+        store.tryConsume("user:idle", limit, now);
+        for (int i = 0; i < 5; i++) {
+            store.tryConsume("user:busy", limit, now + 60000);
+        }
+
+        int evicted = store.evictIdle(now + 60000);
+
+        assertThat(evicted).isEqualTo(1);
+        assertThat(store.size()).isEqualTo(1);
+        assertThat(store.tryConsume("user:busy", limit, now + 60000)).isFalse();
+    }
+
+    @Test
+    @DisplayName("동시 시도: 시각이 같으면 정확히 용량만큼만 허용")
+    void tryConsume_concurrent_exactlyCapacity() throws InterruptedException {
+        RateLimit ipLimit = new RateLimit(50, 1200L);
+        long now = System.currentTimeMillis();
+        int threads = 8;
+        int attemptsPerThread = 100;
+        AtomicInteger allowed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        for (int t = 0; t < threads; t++) {
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < attemptsPerThread; i++) {
+                    if (store.tryConsume("ip:127.0.0.1", ipLimit, now)) {
+                        allowed.incrementAndGet();
+                    }
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(allowed.get()).isEqualTo(50);
+    }
+}
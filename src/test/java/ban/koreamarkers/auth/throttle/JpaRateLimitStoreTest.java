@@ -0,0 +1,161 @@
+package ban.koreamarkers.auth.throttle;
+
+import ban.koreamarkers.domain.LoginRateLimit;
+import ban.koreamarkers.repository.LoginRateLimitRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * 클러스터용 토큰 버킷 저장소 검증 (임베디드 H2, MySQL 호환 모드)
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:rate-limit;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.jpa.database=h2",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "login-throttle.store=jpa"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(JpaRateLimitStore.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class JpaRateLimitStoreTest {
+
+    @Autowired
+    JpaRateLimitStore store;
+
+    @Autowired
+    LoginRateLimitRepository loginRateLimitRepository;
+
+    RateLimit limit = new RateLimit(5, 12000L);
+
+    @AfterEach
+    void tearDown() {
+        loginRateLimitRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("버킷 용량만큼 허용 후 거부, 충전 간격이 지나면 다시 허용")
+    void tryConsume_capacityThenRefill() {
+        long now = System.currentTimeMillis();
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(store.tryConsume("user:ban", limit, now)).isTrue();
+        }
+
+        assertThat(store.tryConsume("user:ban", limit, now)).isFalse();
+        assertThat(store.tryConsume("user:ban", limit, now + 12000)).isTrue();
+        assertThat(store.tryConsume("user:ban", limit, now + 12000)).isFalse();
+    }
+
+    @Test
+    @DisplayName("INSERT 경합: 다른 노드가 먼저 만든 버킷이면 다시 읽어서 소비")
+    void tryConsume_insertRace_retriesOnExistingRow() {
+        long now = System.currentTimeMillis();
+        store.tryConsume("user:ban", limit, now);
+        // 첫 조회 시점에는 버킷이 없었던 것처럼 보이게 함
+        LoginRateLimitRepository racing = mock(LoginRateLimitRepository.class, delegatesTo(loginRateLimitRepository));
+        doReturn(Optional.empty())
+                .doAnswer(invocation -> loginRateLimitRepository.findById("user:ban"))
+                .when(racing).findById("user:ban");
+
+        assertThat(new JpaRateLimitStore(racing).tryConsume("user:ban", limit, now)).isTrue();
+
+        verify(racing).insert(eq("user:ban"), anyLong(), anyLong(), anyLong());
+        assertThat(remainingMilliTokens("user:ban")).isEqualTo(3 * RateLimit.MILLI);
+    }
+
+    @Test
+    @DisplayName("CAS 실패: 읽은 뒤 다른 노드가 소비했으면 다시 읽어서 한 번만 소비")
+    void tryConsume_staleRead_retriesCompareAndSet() {
+        long now = System.currentTimeMillis();
+        store.tryConsume("user:ban", limit, now);
+        LoginRateLimit stale = loginRateLimitRepository.findById("user:ban").orElseThrow();
+        store.tryConsume("user:ban", limit, now);
+        LoginRateLimitRepository racing = mock(LoginRateLimitRepository.class, delegatesTo(loginRateLimitRepository));
+        doReturn(Optional.of(stale))
+                .doAnswer(invocation -> loginRateLimitRepository.findById("user:ban"))
+                .when(racing).findById("user:ban");
+
+        assertThat(new JpaRateLimitStore(racing).tryConsume("user:ban", limit, now)).isTrue();
+
+        verify(racing, times(2)).compareAndSet(eq("user:ban"), anyLong(), anyLong(), anyLong(), anyLong(), anyLong());
+        assertThat(remainingMilliTokens("user:ban")).isEqualTo(2 * RateLimit.MILLI);
+    }
+
+    @Test
+    @DisplayName("동시 시도: 새 키에 몰려도 용량을 넘겨 허용하지 않고 허용 수만큼만 차감")
+    void tryConsume_concurrent_neverOverConsumes() throws Exception {
+        RateLimit ipLimit = new RateLimit(50, 1200L);
+        long now = System.currentTimeMillis();
+        int threads = 8;
+        int attemptsPerThread = 20;
+        AtomicInteger allowed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<Void>> futures = new ArrayList<>();
+
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < attemptsPerThread; i++) {
+                    if (store.tryConsume("ip:127.0.0.1", ipLimit, now)) {
+                        allowed.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        executor.shutdown();
+
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        for (Future<Void> future : futures) {
+            future.get(); // INSERT 중복/CAS 실패 외의 예외가 새어 나오지 않아야 함
+        }
+        // 경합이 계속된 시도는 거부될 수 있지만 토큰이 중복 소비되지는 않음
+        assertThat(allowed.get()).isBetween(1, 50);
+        assertThat(remainingMilliTokens("ip:127.0.0.1")).isEqualTo((50L - allowed.get()) * RateLimit.MILLI);
+    }
+
+    @Test
+    @DisplayName("정리: 다시 가득 찬 버킷만 삭제")
+    void evictIdle_deletesFullBucketsOnly() {
+        long now = System.currentTimeMillis();
+        store.tryConsume("user:idle", limit, now);
+        for (int i = 0; i < 5; i++) {
+            store.tryConsume("user:busy", limit, now + 60000);
+        }
+
+        assertThat(store.evictIdle(now + 60000)).isEqualTo(1);
+
+        assertThat(loginRateLimitRepository.findById("user:idle")).isEmpty();
+        assertThat(loginRateLimitRepository.findById("user:busy")).isPresent();
+        assertThat(store.tryConsume("user:busy", limit, now + 60000)).isFalse();
+    }
+
+    private long remainingMilliTokens(String key) {
+        return loginRateLimitRepository.findById(key).orElseThrow().getMilliTokens();
+    }
+}
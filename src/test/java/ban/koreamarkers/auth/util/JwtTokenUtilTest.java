@@ -0,0 +1,206 @@
+package ban.koreamarkers.auth.util;
+
+import ban.koreamarkers.auth.key.SigningKeyRing;
+import ban.koreamarkers.auth.metrics.AuthMetrics;
+import ban.koreamarkers.domain.User;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.*;
+
+class JwtTokenUtilTest {
+
+    JwtTokenUtil jwtTokenUtil;
+
+    User user = User.builder()
+            .username("ban")
+            .password("ENC(1q2w3e)")
+            .email("bbgiloo@gmail.com")
+            .build();
+
+    static final String SECRET = "mySecretKeyForJWTTokenGenerationAndValidationMustBeAtLeast256Bits";
+
+    @BeforeEach
+    void setUp() {
+        SigningKeyRing signingKeyRing = new SigningKeyRing();
+        ReflectionTestUtils.setField(signingKeyRing, "algorithm", "ES256");
+        ReflectionTestUtils.setField(signingKeyRing, "directory", "");
+        ReflectionTestUtils.invokeMethod(signingKeyRing, "init");
+
+        jwtTokenUtil = new JwtTokenUtil(AuthMetrics.noop(), signingKeyRing);
+        ReflectionTestUtils.setField(jwtTokenUtil, "secret", SECRET);
+        ReflectionTestUtils.setField(jwtTokenUtil, "acceptLegacyHmac", true);
+        ReflectionTestUtils.setField(jwtTokenUtil, "accessTokenExpiration", 900000L);
+        ReflectionTestUtils.setField(jwtTokenUtil, "refreshTokenExpiration", 604800000L);
+        jwtTokenUtil.init();
+    }
+
+    @Test
+    @DisplayName("verify 성공: AccessToken 클레임을 한 번에 추출")
+    void verify_accessToken() {
+        // given
+        String token = jwtTokenUtil.generateAccessToken(user);
+
+        // when
+        VerifiedToken verified = jwtTokenUtil.verify(token);
+
+        // then
+        assertThat(verified.subject()).isEqualTo("ban");
+        assertThat(verified.isAccessToken()).isTrue();
+        assertThat(verified.isRefreshToken()).isFalse();
+        assertThat(verified.expiration()).isAfter(verified.issuedAt());
+        assertThat(verified.isValidFor(user)).isTrue();
+    }
+
+    @Test
+    @DisplayName("verify 성공: AccessToken 클레임만으로 principal 복원")
+    void verify_accessToken_restorePrincipal() {
+        String token = jwtTokenUtil.generateAccessToken(user);
+
+        VerifiedToken verified = jwtTokenUtil.verify(token);
+
+        assertThat(verified.hasPrincipalClaims()).isTrue();
+        assertThat(verified.toUserDetails().getUsername()).isEqualTo("ban");
+        assertThat(verified.toUserDetails().getAuthorities())
+                .extracting("authority")
+                .containsExactly("ROLE_USER");
+        assertThat(verified.toUserDetails().isEnabled()).isTrue();
+    }
+
+    @Test
+    @DisplayName("verify 성공: RefreshToken 타입 구분")
+    void verify_refreshToken() {
+        String token = jwtTokenUtil.generateRefreshToken(user);
+
+        VerifiedToken verified = jwtTokenUtil.verify(token);
+
+        assertThat(verified.isRefreshToken()).isTrue();
+        assertThat(verified.id()).isNotNull();
+        assertThat(verified.familyId()).isNotNull().isNotEqualTo(verified.id());
+        assertThat(verified.hasPrincipalClaims()).isFalse();
+        assertThat(jwtTokenUtil.isAccessToken(token)).isFalse();
+    }
+
+    @Test
+    @DisplayName("verify 실패: 위조된 서명")
+    void verify_tamperedToken_throwException() {
+        String token = jwtTokenUtil.generateAccessToken(user);
+        String tampered = token.substring(0, token.length() - 2) + "xx";
+
+        assertThatThrownBy(() -> jwtTokenUtil.verify(tampered))
+                .isInstanceOf(JwtException.class);
+        assertThat(jwtTokenUtil.isAccessToken(tampered)).isFalse();
+    }
+
+    @Test
+    @DisplayName("서명: ES256 헤더에 kid 포함")
+    void generate_headerHasKid() {
+        String token = jwtTokenUtil.generateAccessToken(user);
+
+        String header = new String(Base64.getUrlDecoder().decode(token.substring(0, token.indexOf('.'))),
+                StandardCharsets.UTF_8);
+
+        assertThat(header).contains("\"alg\":\"ES256\"").contains("\"kid\":");
+    }
+
+    @Test
+    @DisplayName("verify 성공: kid 없는 이전 HMAC 토큰")
+    void verify_legacyHmacToken() {
+        String legacy = legacyToken();
+
+        assertThat(jwtTokenUtil.verify(legacy).subject()).isEqualTo("ban");
+    }
+
+    @Test
+    @DisplayName("verify 실패: 이전 HMAC 토큰 허용을 끈 경우")
+    void verify_legacyHmacToken_disabled_throwException() {
+        ReflectionTestUtils.setField(jwtTokenUtil, "acceptLegacyHmac", false);
+        jwtTokenUtil.init();
+
+        assertThatThrownBy(() -> jwtTokenUtil.verify(legacyToken()))
+                .isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    @DisplayName("verify 실패: 키 모음에 없는 kid")
+    void verify_unknownKid_throwException() {
+        String token = Jwts.builder()
+                .header().keyId("unknown").and()
+                .subject("ban")
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Jwts.SIG.ES256.keyPair().build().getPrivate())
+                .compact();
+
+        assertThatThrownBy(() -> jwtTokenUtil.verify(token))
+                .isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    @DisplayName("AccessToken 만료 시각: 토큰마다 지터만큼 앞당겨짐")
+    void generate_accessTokenExpirationJitter() {
+        ReflectionTestUtils.setField(jwtTokenUtil, "accessTokenJitter", 60000L);
+
+        for (int i = 0; i < 20; i++) {
+            VerifiedToken verified = jwtTokenUtil.verify(jwtTokenUtil.generateAccessToken(user));
+            long lifetimeMillis = verified.expiration().toEpochMilli() - verified.issuedAt().toEpochMilli();
+            // JWT 시각은 초 단위로 잘리므로 1초 여유
+            assertThat(lifetimeMillis).isBetween(900000L - 60000L - 1000L, 900000L + 1000L);
+        }
+    }
+
+    @Test
+    @DisplayName("고속 발급 경로: JJWT 빌더와 같은 클레임으로 검증")
+    void compactWriter_sameClaimsAsBuilder() {
+        VerifiedToken built = jwtTokenUtil.verify(jwtTokenUtil.generateAccessToken(user));
+        ReflectionTestUtils.setField(jwtTokenUtil, "compactWriter", true);
+
+        String token = jwtTokenUtil.generateAccessToken(user);
+        VerifiedToken written = jwtTokenUtil.verify(token);
+
+        assertThat(token).doesNotContain("=");
+        assertThat(written.subject()).isEqualTo(built.subject());
+        assertThat(written.type()).isEqualTo(built.type());
+        assertThat(written.authorities()).isEqualTo(built.authorities());
+        assertThat(written.enabled()).isEqualTo(built.enabled());
+        assertThat(written.id()).isNotNull().isNotEqualTo(built.id());
+        assertThat(written.expiration()).isAfter(written.issuedAt());
+    }
+
+    @Test
+    @DisplayName("고속 발급 경로: RefreshToken fid/만료 시각 유지, 이스케이프가 필요한 사용자명")
+    void compactWriter_refreshToken_escapedSubject() {
+        ReflectionTestUtils.setField(jwtTokenUtil, "compactWriter", true);
+        User special = User.builder().username("반\"길\\현\n😀").password("ENC(x)").email("x@example.com").build();
+        Instant expiresAt = Instant.now().plusSeconds(3600).truncatedTo(ChronoUnit.SECONDS);
+
+        VerifiedToken verified = jwtTokenUtil.verify(
+                jwtTokenUtil.generateRefreshToken(special, "jti-1", "family-1", expiresAt));
+
+        assertThat(verified.subject()).isEqualTo("반\"길\\현\n😀");
+        assertThat(verified.isRefreshToken()).isTrue();
+        assertThat(verified.id()).isEqualTo("jti-1");
+        assertThat(verified.familyId()).isEqualTo("family-1");
+        assertThat(verified.expiration()).isEqualTo(expiresAt);
+    }
+
+    private static String legacyToken() {
+        return Jwts.builder()
+                .subject("ban")
+                .claim("type", VerifiedToken.ACCESS)
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+    }
+}
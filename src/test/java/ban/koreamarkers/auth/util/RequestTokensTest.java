@@ -0,0 +1,79 @@
+package ban.koreamarkers.auth.util;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.assertj.core.api.Assertions.*;
+
+class RequestTokensTest {
+
+    @Test
+    @DisplayName("Cookie 헤더에서 accessToken/refreshToken 값만 추출")
+    void resolve_cookies() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Cookie", "JSESSIONID=node0abc; accessToken=a.b.c;theme=dark; refreshToken=\"r.s.t\" ");
+
+        RequestTokens tokens = RequestTokens.resolve(request);
+
+        assertThat(tokens.hasBearerToken()).isFalse();
+        assertThat(tokens.accessTokenCookie()).isEqualTo("a.b.c");
+        assertThat(tokens.refreshTokenCookie()).isEqualTo("r.s.t");
+        assertThat(tokens.accessToken()).isEqualTo("a.b.c");
+    }
+
+    @Test
+    @DisplayName("Authorization 헤더가 있으면 쿠키보다 우선")
+    void resolve_bearerFirst() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer h.e.a");
+        request.setCookies(new Cookie("accessToken", "c.o.o"));
+
+        RequestTokens tokens = RequestTokens.resolve(request);
+
+        assertThat(tokens.bearerToken()).isEqualTo("h.e.a");
+        assertThat(tokens.accessToken()).isEqualTo("h.e.a");
+        assertThat(tokens.accessTokenCookie()).isEqualTo("c.o.o");
+    }
+
+    @Test
+    @DisplayName("이름이 비슷하거나 값이 빈 쿠키, Bearer가 아닌 Authorization은 무시")
+    void resolve_ignoreOthers() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Basic YmFuOnB3");
+        request.addHeader("Cookie", "xaccessToken=x; accessTokenx=y; refreshToken=; accessToken");
+
+        RequestTokens tokens = RequestTokens.resolve(request);
+
+        assertThat(tokens.hasBearerToken()).isFalse();
+        assertThat(tokens.hasAccessTokenCookie()).isFalse();
+        assertThat(tokens.hasRefreshTokenCookie()).isFalse();
+        assertThat(tokens.accessToken()).isNull();
+    }
+
+    @Test
+    @DisplayName("같은 이름이 여러 번 오면 첫 번째 값, 여러 Cookie 헤더도 처리")
+    void resolve_firstValue_multipleHeaders() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Cookie", "accessToken=first; accessToken=second");
+        request.addHeader("Cookie", "refreshToken=r");
+
+        RequestTokens tokens = RequestTokens.resolve(request);
+
+        assertThat(tokens.accessTokenCookie()).isEqualTo("first");
+        assertThat(tokens.refreshTokenCookie()).isEqualTo("r");
+    }
+
+    @Test
+    @DisplayName("요청 속성에 캐시해서 같은 인스턴스 재사용")
+    void resolve_cachedPerRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Cookie", "accessToken=a");
+
+        RequestTokens first = RequestTokens.resolve(request);
+
+        assertThat(RequestTokens.resolve(request)).isSameAs(first);
+        assertThat(request.getAttribute(RequestTokens.ATTRIBUTE)).isSameAs(first);
+    }
+}
@@ -0,0 +1,83 @@
+package ban.koreamarkers.controller.support;
+
+import ban.koreamarkers.controller.dto.SignupRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SignupRequestReadersTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("CSV: 따옴표 밖 아이디/이메일/이름만 공백 제거, 비밀번호와 따옴표 안 값은 그대로")
+    void csv_stripOnlyIdentityFields() {
+        // given
+        String csv = """
+                username,password,email,name
+                 user1 , pass word ,user1@test.com , 사용자1\s
+                " user2 ",1q2w3e, "user2@test.com" ," 사용자 2 "
+                """;
+
+        // when
+        List<SignupRequest> requests = readAll(SignupRequestReaders.csv(stream(csv)));
+
+        // then
+        assertThat(requests).extracting(SignupRequest::getUsername).containsExactly("user1", " user2 ");
+        assertThat(requests).extracting(SignupRequest::getPassword).containsExactly(" pass word ", "1q2w3e");
+        assertThat(requests).extracting(SignupRequest::getEmail).containsExactly("user1@test.com", "user2@test.com");
+        assertThat(requests).extracting(SignupRequest::getName).containsExactly("사용자1", " 사용자 2 ");
+    }
+
+    @Test
+    @DisplayName("JSON: 객체가 아닌 원소는 해당 레코드만 빈 요청으로 보고하고 다음 원소로 진행")
+    void json_nonObjectElementIsInvalid() throws IOException {
+        // given
+        String json = """
+                [{"username":"user1","password":"1q2w3e","email":"user1@test.com"},
+                 "x", [1, {"a": 2}], 3,
+                 {"username":"user2","password":"1q2w3e","email":"user2@test.com"}]
+                """;
+
+        // when
+        List<SignupRequest> requests = readAll(SignupRequestReaders.json(stream(json), objectMapper));
+
+        // then
+        assertThat(requests).extracting(SignupRequest::getUsername)
+                .containsExactly("user1", null, null, null, "user2");
+    }
+
+    @Test
+    @DisplayName("JSON: 배열이 닫히지 않으면 가져오기 전체를 실패 처리")
+    void json_unterminatedArrayFails() throws IOException {
+        // given
+        String json = """
+                [{"username":"user1","password":"1q2w3e","email":"user1@test.com"}
+                """;
+        Iterator<SignupRequest> iterator = SignupRequestReaders.json(stream(json), objectMapper);
+
+        // when & then
+        assertThatThrownBy(() -> readAll(iterator)).isInstanceOf(UncheckedIOException.class);
+    }
+
+    private static InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static List<SignupRequest> readAll(Iterator<SignupRequest> iterator) {
+        List<SignupRequest> requests = new ArrayList<>();
+        iterator.forEachRemaining(requests::add);
+        return requests;
+    }
+}
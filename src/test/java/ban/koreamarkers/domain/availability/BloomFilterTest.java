@@ -0,0 +1,49 @@
+package ban.koreamarkers.domain.availability;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("넣은 값은 항상 있을 수도 있음 (거짓 음성 없음)")
+    void mightContain_noFalseNegatives() {
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+        IntStream.range(0, 10_000).forEach(i -> filter.put("user" + i));
+
+        assertThat(IntStream.range(0, 10_000)).allMatch(i -> filter.mightContain("user" + i));
+    }
+
+    @Test
+    @DisplayName("넣지 않은 값의 오탐률은 목표치 근처")
+    void mightContain_falsePositiveRate() {
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+        IntStream.range(0, 10_000).forEach(i -> filter.put("user" + i + "@gmail.com"));
+
+        long falsePositives = IntStream.range(0, 100_000)
+                .filter(i -> filter.mightContain("other" + i + "@gmail.com"))
+                .count();
+
+        assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+    }
+
+    @Test
+    @DisplayName("스냅샷 비트를 병합하면 기존 값과 스냅샷 값 모두 유지")
+    void merge_snapshot() {
+        BloomFilter snapshot = BloomFilter.create(1_000, 0.01);
+        snapshot.put("ban");
+        BloomFilter filter = BloomFilter.create(1_000, 0.01);
+        filter.put("gil");
+
+        filter.merge(snapshot.toWords());
+
+        assertThat(filter.mightContain("ban")).isTrue();
+        assertThat(filter.mightContain("gil")).isTrue();
+        assertThatThrownBy(() -> filter.merge(new long[1]))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
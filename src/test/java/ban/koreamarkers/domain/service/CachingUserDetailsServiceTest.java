@@ -0,0 +1,140 @@
+package ban.koreamarkers.domain.service;
+
+import ban.koreamarkers.auth.metrics.AuthMetrics;
+import ban.koreamarkers.domain.User;
+import ban.koreamarkers.domain.UserSnapshot;
+import ban.koreamarkers.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 사용자 캐시 적중/커밋 후 무효화 검증 (임베디드 H2, MySQL 호환 모드)
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:user-cache;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.jpa.database=h2",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({CachingUserDetailsService.class, CustomUserDetailsService.class, CachingUserDetailsServiceTest.MetricsConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CachingUserDetailsServiceTest {
+
+    @Autowired
+    CachingUserDetailsService cachingUserDetailsService;
+
+    @Autowired
+    CustomUserDetailsService customUserDetailsService;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.saveAndFlush(User.builder()
+                .username("ban")
+                .password("ENC(1q2w3e)")
+                .email("bbgiloo@gmail.com")
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        cachingUserDetailsService.evict("ban");
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("두 번째 조회부터 캐시 적중 (DB 조회 없음)")
+    void load_hitsCache() {
+        long misses = cachingUserDetailsService.stats().missCount();
+        long hits = cachingUserDetailsService.stats().hitCount();
+
+        cachingUserDetailsService.loadUserByUsername("ban");
+        cachingUserDetailsService.loadUserByUsername("ban");
+
+        assertThat(cachingUserDetailsService.stats().missCount() - misses).isEqualTo(1);
+        assertThat(cachingUserDetailsService.stats().hitCount() - hits).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("UserChangedEvent는 커밋 후에 무효화: 트랜잭션 안에서는 이전 값, 커밋 후에는 새 값")
+    void userChanged_evictsAfterCommit() {
+        assertThat(cachingUserDetailsService.loadUserByUsername("ban").getPassword()).isEqualTo("ENC(1q2w3e)");
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            assertThat(customUserDetailsService.updatePassword("ban", "ENC(1q2w3e)", "ENC(new)")).isTrue();
+            // 아직 커밋 전이라 캐시 엔트리 유지
+            assertThat(cachingUserDetailsService.loadUserByUsername("ban").getPassword()).isEqualTo("ENC(1q2w3e)");
+        });
+
+        assertThat(cachingUserDetailsService.loadUserByUsername("ban").getPassword()).isEqualTo("ENC(new)");
+    }
+
+    @Test
+    @DisplayName("롤백되면 무효화하지 않음")
+    void userChanged_rollback_keepsEntry() {
+        cachingUserDetailsService.loadUserByUsername("ban");
+        long misses = cachingUserDetailsService.stats().missCount();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            customUserDetailsService.updatePassword("ban", "ENC(1q2w3e)", "ENC(new)");
+            status.setRollbackOnly();
+        });
+
+        assertThat(cachingUserDetailsService.loadUserByUsername("ban").getPassword()).isEqualTo("ENC(1q2w3e)");
+        assertThat(cachingUserDetailsService.stats().missCount()).isEqualTo(misses);
+    }
+
+    @Test
+    @DisplayName("user-cache.enabled=false면 매번 위임하고 없는 사용자는 그대로 예외")
+    void disabled_alwaysDelegates() {
+        CustomUserDetailsService delegate = mock(CustomUserDetailsService.class);
+        UserSnapshot snapshot = new UserSnapshot("ban", "ENC(1q2w3e)", List.of(), true);
+        when(delegate.loadUserByUsername("ban")).thenReturn(snapshot);
+        when(delegate.loadUserByUsername("nobody")).thenThrow(new UsernameNotFoundException("nobody"));
+
+        CachingUserDetailsService service = new CachingUserDetailsService(delegate, AuthMetrics.noop());
+        ReflectionTestUtils.setField(service, "enabled", false);
+        ReflectionTestUtils.setField(service, "maximumSize", 100L);
+        ReflectionTestUtils.setField(service, "ttl", 300000L);
+        ReflectionTestUtils.invokeMethod(service, "init");
+
+        assertThat(service.loadUserByUsername("ban")).isSameAs(snapshot);
+        assertThat(service.loadUserByUsername("ban")).isSameAs(snapshot);
+        assertThatThrownBy(() -> service.loadUserByUsername("nobody")).isInstanceOf(UsernameNotFoundException.class);
+
+        verify(delegate, times(2)).loadUserByUsername("ban");
+        assertThat(service.stats().requestCount()).isZero();
+    }
+
+    @TestConfiguration
+    static class MetricsConfig {
+        @Bean
+        AuthMetrics authMetrics() {
+            return AuthMetrics.noop();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package ban.koreamarkers.domain.service;
+
+import ban.koreamarkers.domain.User;
+import ban.koreamarkers.domain.UserSnapshot;
+import ban.koreamarkers.repository.UserRepository;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 인증용 프로젝션 조회 검증 (임베디드 H2, MySQL 호환 모드)
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:credentials;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.jpa.database=h2",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(CustomUserDetailsService.class)
+class CustomUserDetailsServiceTest {
+
+    @Autowired
+    CustomUserDetailsService customUserDetailsService;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    TestEntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.saveAndFlush(User.builder()
+                .username("ban")
+                .password("ENC(1q2w3e)")
+                .email("bbgiloo@gmail.com")
+                .name("반길현")
+                .role(User.Role.ADMIN)
+                .build());
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("loadUserByUsername: 인증 컬럼만 조회해서 스냅샷 반환, 엔티티는 영속성 컨텍스트에 올라가지 않음")
+    void loadUserByUsername_projection() {
+        UserDetails userDetails = customUserDetailsService.loadUserByUsername("ban");
+
+        assertThat(userDetails).isInstanceOf(UserSnapshot.class);
+        assertThat(userDetails.getUsername()).isEqualTo("ban");
+        assertThat(userDetails.getPassword()).isEqualTo("ENC(1q2w3e)");
+        assertThat(userDetails.getAuthorities()).extracting("authority").containsExactly("ROLE_ADMIN");
+        assertThat(userDetails.isEnabled()).isTrue();
+        assertThat(entityManager.getEntityManager().unwrap(SessionImplementor.class)
+                .getPersistenceContextInternal().getNumberOfManagedEntities()).isZero();
+    }
+
+    @Test
+    @DisplayName("loadUserByUsername 실패: 없는 사용자는 UsernameNotFoundException")
+    void loadUserByUsername_notFound_throwException() {
+        assertThatThrownBy(() -> customUserDetailsService.loadUserByUsername("nobody"))
+                .isInstanceOf(UsernameNotFoundException.class);
+    }
+}
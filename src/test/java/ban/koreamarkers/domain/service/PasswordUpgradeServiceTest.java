@@ -0,0 +1,108 @@
+package ban.koreamarkers.domain.service;
+
+import ban.koreamarkers.auth.metrics.AuthMetrics;
+import ban.koreamarkers.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class PasswordUpgradeServiceTest {
+
+    CustomUserDetailsService customUserDetailsService = mock(CustomUserDetailsService.class);
+    UserRepository userRepository = mock(UserRepository.class);
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("BCrypt 목표: 다른 알고리즘이거나 cost가 낮을 때만 업그레이드 (더 높은 cost는 유지)")
+    void needsUpgrade_bcryptTarget() {
+        PasswordUpgradeService service = service("bcrypt", new BCryptPasswordEncoder(6));
+
+        assertThat(service.needsUpgrade("{bcrypt}" + new BCryptPasswordEncoder(6).encode("1q2w3e"))).isFalse();
+        assertThat(service.needsUpgrade("{bcrypt}" + new BCryptPasswordEncoder(4).encode("1q2w3e"))).isTrue();
+        // 다른 노드가 더 높은 cost로 보정해서 저장한 해시
+        assertThat(service.needsUpgrade("{bcrypt}" + new BCryptPasswordEncoder(7).encode("1q2w3e"))).isFalse();
+        assertThat(service.needsUpgrade("{bcrypt}"
+                + new BCryptPasswordEncoder(BCryptPasswordEncoder.BCryptVersion.$2B, 6).encode("1q2w3e"))).isFalse();
+        assertThat(service.needsUpgrade(
+                "{argon2}" + new Argon2PasswordEncoder(16, 32, 1, 1024, 1).encode("1q2w3e"))).isTrue();
+        // 접두사 없이 저장된 기존 BCrypt 해시
+        assertThat(service.needsUpgrade(new BCryptPasswordEncoder(6).encode("1q2w3e"))).isTrue();
+        assertThat(service.needsUpgrade(null)).isFalse();
+
+        service.countLegacyAccounts();
+        verify(userRepository).countBcryptLegacyPasswords("06");
+    }
+
+    @Test
+    @DisplayName("Argon2 목표: 변형이 다르거나 메모리/반복 수가 낮을 때만 업그레이드, 솔트는 제외")
+    void needsUpgrade_argon2Target() {
+        PasswordUpgradeService service = service("argon2", new Argon2PasswordEncoder(16, 32, 1, 1024, 2));
+
+        assertThat(service.needsUpgrade(
+                "{argon2}" + new Argon2PasswordEncoder(16, 32, 1, 1024, 2).encode("1q2w3e"))).isFalse();
+        assertThat(service.needsUpgrade(
+                "{argon2}" + new Argon2PasswordEncoder(16, 32, 1, 512, 2).encode("1q2w3e"))).isTrue();
+        assertThat(service.needsUpgrade(
+                "{argon2}" + new Argon2PasswordEncoder(16, 32, 1, 1024, 1).encode("1q2w3e"))).isTrue();
+        assertThat(service.needsUpgrade(
+                "{argon2}" + new Argon2PasswordEncoder(16, 32, 1, 2048, 3).encode("1q2w3e"))).isFalse();
+        assertThat(service.needsUpgrade("{bcrypt}" + new BCryptPasswordEncoder(4).encode("1q2w3e"))).isTrue();
+
+        service.countLegacyAccounts();
+        verify(userRepository).countByPasswordNotLike("{argon2}$argon2id$%");
+    }
+
+    @Test
+    @DisplayName("재해싱 성공/실패와 레거시 로그인은 AuthMetrics로 집계")
+    void upgrade_recordsMetrics() {
+        PasswordUpgradeService service = service("bcrypt", new BCryptPasswordEncoder(4));
+        when(customUserDetailsService.updatePassword(eq("ban"), eq("OLD"), anyString())).thenReturn(true);
+        when(customUserDetailsService.updatePassword(eq("other"), any(), any())).thenThrow(new IllegalStateException("db"));
+
+        service.upgrade("ban", "1q2w3e", "OLD");
+        service.upgrade("other", "1q2w3e", "OLD");
+
+        verify(customUserDetailsService).updatePassword(eq("ban"), eq("OLD"),
+                argThat(encoded -> encoded.startsWith("{bcrypt}$2a$04$")));
+        assertThat(registry.get("auth.password.legacy.logins").counter().count()).isEqualTo(2);
+        assertThat(registry.get("auth.password.upgrade").tag("outcome", "upgraded").counter().count()).isEqualTo(1);
+        assertThat(registry.get("auth.password.upgrade").tag("outcome", "failed").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("남은 레거시 계정 수는 주기적으로 계산해서 게이지로 노출 (계산 전 -1)")
+    void legacyAccountsGauge() {
+        PasswordUpgradeService service = service("bcrypt", new BCryptPasswordEncoder(4));
+        when(userRepository.countBcryptLegacyPasswords(anyString())).thenReturn(42L);
+
+        assertThat(registry.get("auth.password.legacy.accounts").gauge().value()).isEqualTo(-1);
+        service.refreshLegacyAccountCount();
+
+        assertThat(registry.get("auth.password.legacy.accounts").gauge().value()).isEqualTo(42);
+    }
+
+    private PasswordUpgradeService service(String algorithm, PasswordEncoder target) {
+        PasswordEncoder passwordEncoder = new DelegatingPasswordEncoder(algorithm, Map.of(
+                algorithm, target,
+                algorithm.equals("bcrypt") ? "argon2" : "bcrypt", algorithm.equals("bcrypt")
+                        ? new Argon2PasswordEncoder(16, 32, 1, 1024, 1)
+                        : new BCryptPasswordEncoder(4)));
+        PasswordUpgradeService service = new PasswordUpgradeService(passwordEncoder, customUserDetailsService,
+                userRepository, new AuthMetrics(registry));
+        ReflectionTestUtils.invokeMethod(service, "init");
+        return service;
+    }
+}
@@ -0,0 +1,125 @@
+package ban.koreamarkers.domain.service;
+
+import ban.koreamarkers.repository.UserIdentity;
+import ban.koreamarkers.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class UserAvailabilityServiceTest {
+
+    @TempDir
+    Path tempDir;
+
+    UserRepository userRepository = mock(UserRepository.class);
+
+    @Test
+    @DisplayName("필터 구축 전에는 필터가 비어 있어도 항상 DB 조회")
+    void beforeReady_alwaysQueriesDatabase() {
+        UserAvailabilityService service = service(userRepository, 1000, "");
+        when(userRepository.existsByUsername("ban")).thenReturn(true);
+
+        assertThat(service.isReady()).isFalse();
+        assertThat(service.isUsernameAvailable("ban")).isFalse();
+        assertThat(service.isEmailAvailable("new@gmail.com")).isTrue();
+
+        verify(userRepository).existsByUsername("ban");
+        verify(userRepository).existsByEmail("new@gmail.com");
+    }
+
+    @Test
+    @DisplayName("구축 후: 필터에 없는 값은 DB 조회 없이 사용 가능, 있는 값(대소문자 무시)은 DB 확인")
+    void afterReady_skipsDatabaseForAbsentValues() {
+        UserAvailabilityService service = service(userRepository, 1000, "");
+        when(userRepository.streamIdentitiesAfter(0L)).thenReturn(Stream.of(identity(1L, "ban", "bbgiloo@gmail.com")));
+        when(userRepository.existsByUsername("BAN")).thenReturn(true);
+
+        service.warmUp();
+
+        assertThat(service.isReady()).isTrue();
+        assertThat(service.isUsernameAvailable("newbie")).isTrue();
+        assertThat(service.isEmailAvailable("new@gmail.com")).isTrue();
+        assertThat(service.isUsernameAvailable("BAN")).isFalse();
+        verify(userRepository, never()).existsByUsername("newbie");
+        verify(userRepository, never()).existsByEmail(anyString());
+        verify(userRepository).existsByUsername("BAN");
+    }
+
+    @Test
+    @DisplayName("스냅샷 저장 후 재기동: 스냅샷을 복원하고 maxId 이후 가입자만 스트리밍")
+    void snapshot_restoresAndStreamsOnlyNewUsers() {
+        String snapshot = tempDir.resolve("filter.bin").toString();
+        UserAvailabilityService first = service(userRepository, 1000, snapshot);
+        when(userRepository.streamIdentitiesAfter(0L)).thenReturn(Stream.of(
+                identity(1L, "ban", "bbgiloo@gmail.com"),
+                identity(7L, "gil", "gil@gmail.com")));
+        first.warmUp();
+        assertThat(Files.exists(Path.of(snapshot))).isTrue();
+
+        UserRepository restartedRepository = mock(UserRepository.class);
+        when(restartedRepository.streamIdentitiesAfter(7L)).thenReturn(Stream.of(identity(8L, "hyeon", "hyeon@gmail.com")));
+        UserAvailabilityService restarted = service(restartedRepository, 1000, snapshot);
+
+        restarted.warmUp();
+
+        verify(restartedRepository).streamIdentitiesAfter(7L);
+        verify(restartedRepository, never()).streamIdentitiesAfter(0L);
+        // 스냅샷에서 복원한 값과 새로 스트리밍한 값 모두 "있을 수도 있음" -> DB 확인
+        restarted.isUsernameAvailable("gil");
+        restarted.isEmailAvailable("hyeon@gmail.com");
+        verify(restartedRepository).existsByUsername("gil");
+        verify(restartedRepository).existsByEmail("hyeon@gmail.com");
+    }
+
+    @Test
+    @DisplayName("필터 크기 설정이 바뀌면 스냅샷을 버리고 전체 재구축")
+    void snapshot_configChanged_rebuildsFromScratch() {
+        String snapshot = tempDir.resolve("filter.bin").toString();
+        when(userRepository.streamIdentitiesAfter(0L)).thenReturn(Stream.of(identity(7L, "gil", "gil@gmail.com")));
+        service(userRepository, 1000, snapshot).warmUp();
+
+        UserRepository restartedRepository = mock(UserRepository.class);
+        when(restartedRepository.streamIdentitiesAfter(anyLong())).thenReturn(Stream.empty());
+        service(restartedRepository, 100_000, snapshot).warmUp();
+
+        verify(restartedRepository).streamIdentitiesAfter(0L);
+    }
+
+    private static UserAvailabilityService service(UserRepository repository, long expectedInsertions, String snapshotPath) {
+        UserAvailabilityService service = new UserAvailabilityService(repository);
+        ReflectionTestUtils.setField(service, "expectedInsertions", expectedInsertions);
+        ReflectionTestUtils.setField(service, "falsePositiveProbability", 0.01);
+        ReflectionTestUtils.setField(service, "snapshotPath", snapshotPath);
+        ReflectionTestUtils.invokeMethod(service, "init");
+        return service;
+    }
+
+    private static UserIdentity identity(Long id, String username, String email) {
+        return new UserIdentity() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getUsername() {
+                return username;
+            }
+
+            @Override
+            public String getEmail() {
+                return email;
+            }
+        };
+    }
+}
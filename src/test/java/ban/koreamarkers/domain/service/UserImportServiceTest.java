@@ -0,0 +1,163 @@
+package ban.koreamarkers.domain.service;
+
+import ban.koreamarkers.controller.dto.SignupRequest;
+import ban.koreamarkers.controller.dto.UserImportResult;
+import ban.koreamarkers.controller.dto.UserImportResult.Status;
+import ban.koreamarkers.controller.support.SignupRequestReaders;
+import ban.koreamarkers.domain.User;
+import ban.koreamarkers.repository.UserBulkInsertRepository;
+import ban.koreamarkers.repository.UserIdentity;
+import ban.koreamarkers.repository.UserRepository;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserImportServiceTest {
+
+    @Mock
+    UserRepository userRepository;
+
+    @Mock
+    UserBulkInsertRepository userBulkInsertRepository;
+
+    @Mock
+    PasswordEncoder passwordEncoder;
+
+    @Mock
+    TransactionTemplate transactionTemplate;
+
+    @Mock
+    UserAvailabilityService userAvailabilityService;
+
+    UserImportService userImportService;
+
+    @BeforeEach
+    void setUp() {
+        userImportService = new UserImportService(userRepository, userBulkInsertRepository, passwordEncoder,
+                Validation.buildDefaultValidatorFactory().getValidator(), transactionTemplate,
+                userAvailabilityService);
+        ReflectionTestUtils.setField(userImportService, "chunkSize", 2);
+        ReflectionTestUtils.setField(userImportService, "hashConcurrency", 2);
+        ReflectionTestUtils.invokeMethod(userImportService, "init");
+        lenient().when(passwordEncoder.encode(any())).thenAnswer(invocation -> "ENC(" + invocation.getArgument(0) + ")");
+        lenient().doAnswer(invocation -> {
+            Consumer<TransactionStatus> action = invocation.getArgument(0);
+            action.accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @AfterEach
+    void tearDown() {
+        userImportService.destroy();
+    }
+
+    @Test
+    @DisplayName("일괄 가입: 청크마다 IN 쿼리 한 번, 배치 INSERT 한 번")
+    void importUsers_chunked() {
+        // given
+        when(userRepository.findIdentities(anyCollection(), anyCollection())).thenReturn(List.of());
+        String csv = """
+                username,password,email,name
+                user1,1q2w3e,user1@test.com,사용자1
+                user2,1q2w3e,user2@test.com,
+                "user,3",1q2w3e,user3@test.com,"사용자 ""3""\"
+                """;
+
+        // when
+        UserImportResult result = userImportService.importUsers(SignupRequestReaders.csv(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8))));
+
+        // then
+        assertThat(result.total()).isEqualTo(3);
+        assertThat(result.created()).isEqualTo(3);
+        verify(userRepository, times(2)).findIdentities(anyCollection(), anyCollection());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<User>> captor = ArgumentCaptor.forClass(List.class);
+        verify(userBulkInsertRepository, times(2)).insertAll(captor.capture());
+        List<User> inserted = captor.getAllValues().stream().flatMap(List::stream).toList();
+        assertThat(inserted).extracting(User::getUsername).containsExactly("user1", "user2", "user,3");
+        assertThat(inserted).extracting(User::getName).containsExactly("사용자1", null, "사용자 \"3\"");
+        assertThat(inserted).extracting(User::getPassword).containsOnly("ENC(1q2w3e)");
+    }
+
+    @Test
+    @DisplayName("일괄 가입: 검증 실패, 파일 내 중복, 기존 사용자 중복은 행별로 보고")
+    void importUsers_reportPerRow() {
+        // given
+        UserIdentity existing = mock(UserIdentity.class);
+        when(existing.getUsername()).thenReturn("ban");
+        when(existing.getEmail()).thenReturn("bbgiloo@gmail.com");
+        when(userRepository.findIdentities(anyCollection(), anyCollection()))
+                .thenReturn(List.of(existing))
+                .thenReturn(List.of());
+        List<SignupRequest> requests = List.of(
+                new SignupRequest("ban", "1q2w3e", "other@test.com", null),       // 기존 아이디
+                new SignupRequest("new1", "1q2w3e", "new1@test.com", null),
+                new SignupRequest("new1", "1q2w3e", "new1b@test.com", null),      // 파일 내 아이디 중복
+                new SignupRequest("x", "1", "invalid", null),                     // 검증 실패
+                new SignupRequest("new2", "1q2w3e", "new2@test.com", null)
+        );
+
+        // when
+        UserImportResult result = userImportService.importUsers(requests.iterator());
+
+        // then
+        assertThat(result.rows()).extracting(UserImportResult.Row::line).containsExactly(1, 2, 3, 4, 5);
+        assertThat(result.rows()).extracting(UserImportResult.Row::status).containsExactly(
+                Status.DUPLICATE_USERNAME, Status.CREATED, Status.DUPLICATE_USERNAME, Status.INVALID, Status.CREATED);
+        assertThat(result.created()).isEqualTo(2);
+        assertThat(result.failed()).isEqualTo(3);
+        verify(passwordEncoder, times(2)).encode("1q2w3e");
+    }
+
+    @Test
+    @DisplayName("일괄 가입: 아이디/이메일 중복은 대소문자 무시 (MySQL collation 기준)")
+    void importUsers_caseInsensitiveDuplicates() {
+        // given
+        UserIdentity existing = mock(UserIdentity.class);
+        when(existing.getUsername()).thenReturn("ban");
+        when(existing.getEmail()).thenReturn("bbgiloo@gmail.com");
+        when(userRepository.findIdentities(anyCollection(), anyCollection()))
+                .thenReturn(List.of(existing))
+                .thenReturn(List.of());
+        List<SignupRequest> requests = List.of(
+                new SignupRequest("BAN", "1q2w3e", "other@test.com", null),       // 기존 아이디 (대문자)
+                new SignupRequest("new1", "1q2w3e", "BBGILOO@gmail.com", null),   // 기존 이메일 (대문자)
+                new SignupRequest("new2", "1q2w3e", "new2@test.com", null),
+                new SignupRequest("NEW2", "1q2w3e", "new2b@test.com", null),      // 파일 내 아이디 중복
+                new SignupRequest("new3", "1q2w3e", "New2@Test.com", null)        // 파일 내 이메일 중복
+        );
+
+        // when
+        UserImportResult result = userImportService.importUsers(requests.iterator());
+
+        // then
+        assertThat(result.rows()).extracting(UserImportResult.Row::status).containsExactly(
+                Status.DUPLICATE_USERNAME, Status.DUPLICATE_EMAIL, Status.CREATED,
+                Status.DUPLICATE_USERNAME, Status.DUPLICATE_EMAIL);
+        assertThat(result.created()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,117 @@
+package ban.koreamarkers.domain.service;
+
+import ban.koreamarkers.common.DuplicateEmailException;
+import ban.koreamarkers.common.DuplicateUserNameException;
+import ban.koreamarkers.controller.dto.SignupRequest;
+import ban.koreamarkers.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 동시 가입 시 유니크 제약 기반 중복 검출 검증 (임베디드 H2, MySQL 호환 모드)
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:signup;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.jpa.database=h2",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({UserService.class, UserServiceConcurrencyTest.PasswordEncoderConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UserServiceConcurrencyTest {
+
+    private static final int THREADS = 16;
+
+    @Autowired
+    UserService userService;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @MockBean
+    UserAvailabilityService userAvailabilityService;
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("동시 가입: 같은 아이디는 한 건만 성공, 나머지는 DuplicateUserNameException")
+    void signup_concurrentSameUsername() throws Exception {
+        List<Throwable> failures = signupConcurrently(
+                i -> new SignupRequest("ban", "1q2w3e", "ban" + i + "@gmail.com", "반길현"));
+
+        assertThat(failures).hasSize(THREADS - 1).allMatch(DuplicateUserNameException.class::isInstance);
+        assertThat(userRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("동시 가입: 같은 이메일은 한 건만 성공, 나머지는 DuplicateEmailException")
+    void signup_concurrentSameEmail() throws Exception {
+        List<Throwable> failures = signupConcurrently(
+                i -> new SignupRequest("ban" + i, "1q2w3e", "bbgiloo@gmail.com", "반길현"));
+
+        assertThat(failures).hasSize(THREADS - 1).allMatch(DuplicateEmailException.class::isInstance);
+        assertThat(userRepository.count()).isEqualTo(1);
+    }
+
+    private List<Throwable> signupConcurrently(IntFunction<SignupRequest> requestFactory) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                SignupRequest request = requestFactory.apply(i);
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return userService.signup(request);
+                }));
+            }
+            start.countDown();
+
+            List<Throwable> failures = new ArrayList<>();
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    failures.add(e.getCause());
+                }
+            }
+            return failures;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @TestConfiguration
+    static class PasswordEncoderConfig {
+        @Bean
+        PasswordEncoder passwordEncoder() {
+            return new BCryptPasswordEncoder(4);
+        }
+    }
+}
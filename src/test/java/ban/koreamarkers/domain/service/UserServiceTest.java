@@ -12,8 +12,12 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.sql.SQLIntegrityConstraintViolationException;
+
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -25,6 +29,12 @@ class UserServiceTest {
     @Mock
     PasswordEncoder passwordEncoder;
 
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    UserAvailabilityService userAvailabilityService;
+
     @InjectMocks
     UserService userService;
 
@@ -39,10 +49,8 @@ class UserServiceTest {
                 "반길현"
         );
 
-        when(userRepository.existsByUsername("ban")).thenReturn(false);
-        when(userRepository.existsByEmail("bbgiloo@gmail.com")).thenReturn(false);
         when(passwordEncoder.encode("1q2w3e")).thenReturn("ENC(1q2w3e)");
-        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(userRepository.saveAndFlush(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // when
         User saved = userService.signup(req);
@@ -67,16 +75,21 @@ class UserServiceTest {
                 "반길현"
         );
 
-        when(userRepository.existsByUsername("ban")).thenReturn(true);
+        when(passwordEncoder.encode("1q2w3e")).thenReturn("ENC(1q2w3e)");
+        when(userRepository.saveAndFlush(any(User.class))).thenThrow(new DataIntegrityViolationException(
+                "could not execute statement",
+                new SQLIntegrityConstraintViolationException(
+                        "Duplicate entry 'ban' for key 'users.UKr43af9ap4edm43mmtq01oddj6'",
+                        "23000", 1062)));
 
         // when + then
         assertThatThrownBy(() -> userService.signup(req))
                 .isInstanceOf(DuplicateUserNameException.class)
                 .hasMessage("이미 사용 중인 아이디입니다.");
 
-        verify(userRepository).existsByUsername("ban");
+        verify(userRepository, never()).existsByUsername(anyString());
         verify(userRepository, never()).existsByEmail(anyString());
-        verify(userRepository, never()).save(any());
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
     @Test
@@ -90,17 +103,21 @@ class UserServiceTest {
                 "반길현"
         );
 
-        when(userRepository.existsByUsername("ban")).thenReturn(false);
-        when(userRepository.existsByEmail("bbgiloo@gmail.com")).thenReturn(true);
+        when(passwordEncoder.encode("1q2w3e")).thenReturn("ENC(1q2w3e)");
+        when(userRepository.saveAndFlush(any(User.class))).thenThrow(new DataIntegrityViolationException(
+                "could not execute statement",
+                new SQLIntegrityConstraintViolationException(
+                        "Duplicate entry 'bbgiloo@gmail.com' for key 'users.UK6dotkott2kjsp8vw4d0m25fb7'",
+                        "23000", 1062)));
 
         // when + then
         assertThatThrownBy(() -> userService.signup(req))
                 .isInstanceOf(DuplicateEmailException.class)
                 .hasMessage("이미 사용 중인 이메일입니다.");
 
-        verify(userRepository).existsByUsername("ban");
-        verify(userRepository).existsByEmail("bbgiloo@gmail.com");
-        verify(userRepository, never()).save(any());
+        verify(userRepository, never()).existsByUsername(anyString());
+        verify(userRepository, never()).existsByEmail(anyString());
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
     @Test
@@ -114,17 +131,15 @@ class UserServiceTest {
                 "반길현"
         );
 
-        when(userRepository.existsByUsername("ban")).thenReturn(false);
-        when(userRepository.existsByEmail("bbgiloo@gmail.com")).thenReturn(false);
         when(passwordEncoder.encode("1q2w3e")).thenReturn("ENC(1q2w3e)");
-        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(userRepository.saveAndFlush(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // when
         userService.signup(req);
 
         // then
         ArgumentCaptor<User> captor = ArgumentCaptor.forClass(User.class);
-        verify(userRepository).save(captor.capture());
+        verify(userRepository).saveAndFlush(captor.capture());
 
         User user = captor.getValue();
         assertThat(user.getUsername()).isEqualTo("ban");
@@ -135,5 +150,27 @@ class UserServiceTest {
         assertThat(user.getEnabled()).isTrue();
     }
 
+    @Test
+    @DisplayName("signup 실패: 유니크 위반이 아닌 무결성 오류는 중복으로 바꾸지 않고 그대로 던짐")
+    void signup_notUniqueViolation_rethrow() {
+        // given
+        SignupRequest req = new SignupRequest(
+                "ban",
+                "1q2w3e",
+                "bbgiloo@gmail.com",
+                "반길현"
+        );
+
+        when(passwordEncoder.encode("1q2w3e")).thenReturn("ENC(1q2w3e)");
+        DataIntegrityViolationException notNull = new DataIntegrityViolationException(
+                "could not execute statement",
+                new SQLIntegrityConstraintViolationException("Column 'username' cannot be null", "23000", 1048));
+        when(userRepository.saveAndFlush(any(User.class))).thenThrow(notNull);
+
+        // when + then
+        assertThatThrownBy(() -> userService.signup(req)).isSameAs(notNull);
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
 
 }
\ No newline at end of file